@@ -0,0 +1,58 @@
+package com.github.thedeathlycow.simple.config.benchmark;
+
+import com.github.thedeathlycow.simple.config.Config;
+import com.github.thedeathlycow.simple.config.ConfigFactory;
+import com.github.thedeathlycow.simple.config.entry.ConfigEntry;
+import com.github.thedeathlycow.simple.config.entry.IntegerEntry;
+import com.github.thedeathlycow.simple.config.entry.collection.ListEntry;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the configs used by the benchmarks.
+ *
+ * @author TheDeathlyCow
+ */
+final class BenchmarkConfigs {
+
+    /**
+     * Kind of entries to fill a config with.
+     */
+    enum EntryKind {
+        PRIMITIVE,
+        COLLECTION
+    }
+
+    /**
+     * Creates entries named <code>entry0</code> to <code>entry{count - 1}</code>.
+     * Collection entries hold a list of <code>collectionSize</code> strings.
+     */
+    static ConfigEntry<?>[] createEntries(EntryKind kind, int count, int collectionSize) {
+        ConfigEntry<?>[] entries = new ConfigEntry<?>[count];
+        List<String> list = createList(collectionSize);
+        for (int i = 0; i < count; i++) {
+            entries[i] = switch (kind) {
+                case PRIMITIVE -> new IntegerEntry("entry" + i, i, 0, Integer.MAX_VALUE);
+                case COLLECTION -> new ListEntry<>("entry" + i, list, String.class);
+            };
+        }
+        return entries;
+    }
+
+    static Config createConfig(Path directory, ConfigEntry<?>... entries) {
+        return ConfigFactory.createConfigWithKeys("benchmark", "config", directory, entries);
+    }
+
+    static List<String> createList(int size) {
+        List<String> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add("value" + i);
+        }
+        return list;
+    }
+
+    private BenchmarkConfigs() {
+    }
+}
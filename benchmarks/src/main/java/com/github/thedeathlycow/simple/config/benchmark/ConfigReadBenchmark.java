@@ -0,0 +1,96 @@
+package com.github.thedeathlycow.simple.config.benchmark;
+
+import com.github.thedeathlycow.simple.config.Config;
+import com.github.thedeathlycow.simple.config.entry.ConfigEntry;
+import com.github.thedeathlycow.simple.config.entry.IntegerEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link Config#get(ConfigEntry)} and {@link Config#getInt(IntegerEntry)} as the
+ * number of entries grows, uncontended and while another thread keeps writing.
+ *
+ * @author TheDeathlyCow
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigReadBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int entryCount;
+
+    @Param({"PRIMITIVE", "COLLECTION"})
+    public BenchmarkConfigs.EntryKind entryKind;
+
+    private Config config;
+    private ConfigEntry<?>[] entries;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.entries = BenchmarkConfigs.createEntries(entryKind, entryCount, 10);
+        this.config = BenchmarkConfigs.createConfig(Paths.get("."), entries);
+    }
+
+    /**
+     * Walks through the entries so that every read hits a different slot.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next = 0;
+
+        ConfigEntry<?> next(ConfigEntry<?>[] entries) {
+            ConfigEntry<?> entry = entries[next];
+            next = next + 1 == entries.length ? 0 : next + 1;
+            return entry;
+        }
+    }
+
+    @Benchmark
+    public Object get(Cursor cursor) {
+        return config.get(cursor.next(entries));
+    }
+
+    @Benchmark
+    public int getInt(Cursor cursor, Blackhole blackhole) {
+        ConfigEntry<?> entry = cursor.next(entries);
+        if (entry instanceof IntegerEntry integerEntry) {
+            return config.getInt(integerEntry);
+        }
+        blackhole.consume(config.get(entry));
+        return 0;
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(7)
+    public Object contendedGet(Cursor cursor) {
+        return config.get(cursor.next(entries));
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void contendedReset() {
+        config.reset();
+    }
+}
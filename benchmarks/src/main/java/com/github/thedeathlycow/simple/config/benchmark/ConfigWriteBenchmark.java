@@ -0,0 +1,76 @@
+package com.github.thedeathlycow.simple.config.benchmark;
+
+import com.github.thedeathlycow.simple.config.Config;
+import com.github.thedeathlycow.simple.config.entry.IntegerEntry;
+import com.github.thedeathlycow.simple.config.entry.collection.ListEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link Config#setValue}, including validation, as the number of entries
+ * and the size of collection values grow.
+ *
+ * @author TheDeathlyCow
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConfigWriteBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int entryCount;
+
+    @Param({"10", "1000", "100000"})
+    public int collectionSize;
+
+    private Config config;
+    private IntegerEntry intEntry;
+    private ListEntry<String> listEntry;
+    private List<String> list;
+    private int next = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.intEntry = new IntegerEntry("int", 0, 0, Integer.MAX_VALUE);
+        this.list = BenchmarkConfigs.createList(collectionSize);
+        this.listEntry = new ListEntry<>("list", List.of(), String.class);
+        this.config = BenchmarkConfigs.createConfig(
+                Paths.get("."),
+                BenchmarkConfigs.createEntries(BenchmarkConfigs.EntryKind.PRIMITIVE, entryCount, 0)
+        );
+        this.config.addEntry(intEntry);
+        this.config.addEntry(listEntry);
+    }
+
+    @Benchmark
+    public void setValue() {
+        config.setValue(intEntry, next++ & Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public void setInt() {
+        config.setInt(intEntry, next++ & Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public void setCollection() {
+        config.setValue(listEntry, list);
+    }
+}
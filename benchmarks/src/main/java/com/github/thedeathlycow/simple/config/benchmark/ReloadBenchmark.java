@@ -0,0 +1,107 @@
+package com.github.thedeathlycow.simple.config.benchmark;
+
+import com.github.thedeathlycow.simple.config.Config;
+import com.github.thedeathlycow.simple.config.entry.ConfigEntry;
+import com.github.thedeathlycow.simple.config.entry.collection.ListEntry;
+import com.github.thedeathlycow.simple.config.reload.Reloadable;
+import com.google.gson.stream.JsonWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Cost of {@link Reloadable#onReload()} for config files from 1 KB to 50 MB.
+ * Each file has 100 primitive entries, one unknown key and a list entry that
+ * holds the rest of the file.
+ *
+ * @author TheDeathlyCow
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class ReloadBenchmark {
+
+    @Param({"1KB", "64KB", "1MB", "50MB"})
+    public String fileSize;
+
+    private Path directory;
+    private Config config;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("config-reload-benchmark");
+        ConfigEntry<?>[] entries = BenchmarkConfigs.createEntries(BenchmarkConfigs.EntryKind.PRIMITIVE, 100, 0);
+        ConfigEntry<?>[] withList = Arrays.copyOf(entries, entries.length + 1);
+        withList[entries.length] = new ListEntry<>("list", List.of(), String.class);
+        this.config = BenchmarkConfigs.createConfig(directory, withList);
+        writeFile(config.getLocation().toPath(), parseSize(fileSize));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public Config reload() {
+        // a new listener has no fingerprint, so the file is always parsed
+        new Reloadable(config).onReload();
+        return config;
+    }
+
+    private static void writeFile(Path file, long size) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+             JsonWriter writer = new JsonWriter(out)) {
+            writer.beginObject();
+            for (int i = 0; i < 100; i++) {
+                writer.name("entry" + i).value(i + 1);
+            }
+            writer.name("unknown").beginArray().value("skipped").endArray();
+            writer.name("list").beginArray();
+            // roughly 12 bytes per element
+            for (long i = 0; i < (size - 1200) / 12; i++) {
+                writer.value("value" + (i % 1000));
+            }
+            writer.endArray();
+            writer.endObject();
+        }
+    }
+
+    private static long parseSize(String size) {
+        if (size.endsWith("MB")) {
+            return Long.parseLong(size.substring(0, size.length() - 2)) * 1024 * 1024;
+        } else if (size.endsWith("KB")) {
+            return Long.parseLong(size.substring(0, size.length() - 2)) * 1024;
+        }
+        return Long.parseLong(size);
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.thedeathlycow.simple.config.benchmark;
+
+import com.github.thedeathlycow.simple.config.entry.IntegerEntry;
+import com.github.thedeathlycow.simple.config.entry.collection.ListEntry;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of validating bounded values and of deserializing collection values.
+ *
+ * @author TheDeathlyCow
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int collectionSize;
+
+    private IntegerEntry intEntry;
+    private ListEntry<String> listEntry;
+    private List<String> list;
+    private JsonElement json;
+    private int next = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.intEntry = new IntegerEntry("int", 0, -100, 100);
+        this.listEntry = new ListEntry<>("list", List.of(), String.class);
+        this.list = BenchmarkConfigs.createList(collectionSize);
+        JsonArray array = new JsonArray(collectionSize);
+        for (String value : list) {
+            array.add(value);
+        }
+        this.json = array;
+    }
+
+    @Benchmark
+    public boolean boundedIsValid() {
+        Integer value = (next++ & 0xFF) - 128;
+        return intEntry.isValid(value);
+    }
+
+    @Benchmark
+    public boolean primitiveIsValid() {
+        return intEntry.isValid((next++ & 0xFF) - 128);
+    }
+
+    @Benchmark
+    public boolean collectionIsValid() {
+        return listEntry.isValid(list);
+    }
+
+    @Benchmark
+    public List<String> collectionDeserialize() {
+        return listEntry.deserialize(json);
+    }
+}
@@ -0,0 +1,173 @@
+package com.github.thedeathlycow.simple.config;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Writes the contents of a single file by writing a temporary file next to it and
+ * atomically renaming it into place, so readers of the file never see a partial write.
+ * The temporary file is synced to disk before the rename, so a crash cannot leave the file
+ * empty, and is given the permissions of the file it replaces, or the usual permissions of a
+ * new file if there is none.
+ * <p>
+ * Writes that would not change the file are skipped. The writer remembers the bytes it
+ * last wrote and the size and modification time of the file afterwards, so writing the
+ * same bytes again usually only costs a stat.
+ *
+ * @author TheDeathlyCow
+ */
+@ApiStatus.Internal
+public class AtomicFileWriter {
+
+    public AtomicFileWriter(Path location) {
+        this.location = location;
+    }
+
+    /**
+     * Replaces the contents of the file, unless it already holds exactly these bytes.
+     *
+     * @param bytes New contents of the file.
+     * @return Returns true if the file was written, false if it was already up to date.
+     * @throws IOException Thrown if the file could not be written.
+     */
+    public synchronized boolean write(byte[] bytes) throws IOException {
+        if (this.isUpToDate(bytes)) {
+            return false;
+        }
+
+        Path directory = location.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = this.createTempFile(directory);
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                // the data must be on disk before the rename is, or a crash can leave an empty file
+                channel.force(true);
+            }
+            copyPermissions(location, temp);
+            try {
+                Files.move(temp, location, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, location, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        syncDirectory(directory);
+
+        this.lastWritten = bytes;
+        this.lastModified = Files.getLastModifiedTime(location);
+        return true;
+    }
+
+    /**
+     * Creates the temporary file next to the file. Temporary files are created readable by
+     * their owner only, so on file systems with POSIX permissions it is instead created with
+     * the permissions of a new file, rw-r--r-- less the umask, which the first write keeps.
+     */
+    private Path createTempFile(Path directory) throws IOException {
+        String prefix = location.getFileName().toString();
+        if (directory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            return Files.createTempFile(directory, prefix, ".tmp", NEW_FILE_PERMISSIONS);
+        }
+        return Files.createTempFile(directory, prefix, ".tmp");
+    }
+
+    /**
+     * Gives the temporary file the POSIX permissions of the file it replaces. Does nothing if
+     * the file does not exist yet, or the file system does not have POSIX permissions.
+     */
+    private static void copyPermissions(Path from, Path to) throws IOException {
+        Set<PosixFilePermission> permissions;
+        try {
+            permissions = Files.getPosixFilePermissions(from);
+        } catch (NoSuchFileException | UnsupportedOperationException e) {
+            return;
+        }
+        Files.setPosixFilePermissions(to, permissions);
+    }
+
+    /**
+     * Flushes the rename to disk. Not all platforms can open a directory, in which case
+     * the rename is left to the file system.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            // not supported on this platform, such as on Windows
+        }
+    }
+
+    private boolean isUpToDate(byte[] bytes) throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(location, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        if (attributes.size() != bytes.length) {
+            return false;
+        }
+        if (this.lastWritten != null
+                && attributes.lastModifiedTime().equals(this.lastModified)
+                && (this.lastWritten == bytes || Arrays.equals(this.lastWritten, bytes))) {
+            return true;
+        }
+        // the file was changed by something else, compare against its contents
+        return this.contentEquals(bytes);
+    }
+
+    private boolean contentEquals(byte[] bytes) throws IOException {
+        byte[] buffer = new byte[8192];
+        int offset = 0;
+        try (InputStream in = Files.newInputStream(location)) {
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                if (offset + read > bytes.length
+                        || !Arrays.equals(buffer, 0, read, bytes, offset, offset + read)) {
+                    return false;
+                }
+                offset += read;
+            }
+        }
+        return offset == bytes.length;
+    }
+
+    private final Path location;
+
+    /**
+     * Bytes of the last write, and the modification time of the file after it. Guarded by this.
+     */
+    @Nullable
+    private byte[] lastWritten = null;
+    @Nullable
+    private FileTime lastModified = null;
+
+    /**
+     * Permissions requested for new files. The umask still applies, as it does to any other file.
+     */
+    private static final FileAttribute<Set<PosixFilePermission>> NEW_FILE_PERMISSIONS =
+            PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-r--r--"));
+}
@@ -0,0 +1,226 @@
+package com.github.thedeathlycow.simple.config;
+
+import com.github.thedeathlycow.simple.config.entry.BooleanEntry;
+import com.github.thedeathlycow.simple.config.entry.ByteEntry;
+import com.github.thedeathlycow.simple.config.entry.ConfigEntry;
+import com.github.thedeathlycow.simple.config.entry.DoubleEntry;
+import com.github.thedeathlycow.simple.config.entry.EnumEntry;
+import com.github.thedeathlycow.simple.config.entry.FloatEntry;
+import com.github.thedeathlycow.simple.config.entry.IntegerEntry;
+import com.github.thedeathlycow.simple.config.entry.ShortEntry;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A handle to the current value of one entry of a config. The config pushes the value into
+ * the handle each time it publishes a new snapshot, whether from a setter, a reset, an update
+ * or a reload, so reading from the handle is a single volatile field read, with no lookup
+ * of the entry.
+ * <p>
+ * Handles are created with {@link Config#bind(ConfigEntry)}, and are meant to be kept in a
+ * final field by code that reads the value often. A config has at most one handle per entry,
+ * which it keeps up to date for as long as the config exists.
+ * <p>
+ * Entries that store primitives are bound to one of the nested handle types, such as
+ * {@link OfInt} for an {@link IntegerEntry}, which read the value without boxing. As the
+ * type of the handle is chosen from the entry when it is bound, those reads never have to
+ * check the type of the entry.
+ * <p>
+ * Unlike a {@link ConfigSnapshot}, several handles read one after the other are not
+ * guaranteed to be consistent with each other while the config is being written to.
+ *
+ * @param <T> Type of the value.
+ * @author TheDeathlyCow
+ */
+public sealed class BoundValue<T> permits BoundValue.OfInt, BoundValue.OfShort, BoundValue.OfByte,
+        BoundValue.OfDouble, BoundValue.OfFloat, BoundValue.OfBoolean, BoundValue.OfEnum {
+
+    BoundValue(@NotNull ConfigEntry<T> entry) {
+        this.entry = entry;
+    }
+
+    /**
+     * Creates the handle type that matches an entry.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static BoundValue<?> of(@NotNull ConfigEntry<?> entry) {
+        if (entry instanceof IntegerEntry integerEntry) {
+            return new OfInt(integerEntry);
+        } else if (entry instanceof ShortEntry shortEntry) {
+            return new OfShort(shortEntry);
+        } else if (entry instanceof ByteEntry byteEntry) {
+            return new OfByte(byteEntry);
+        } else if (entry instanceof DoubleEntry doubleEntry) {
+            return new OfDouble(doubleEntry);
+        } else if (entry instanceof FloatEntry floatEntry) {
+            return new OfFloat(floatEntry);
+        } else if (entry instanceof BooleanEntry booleanEntry) {
+            return new OfBoolean(booleanEntry);
+        } else if (entry instanceof EnumEntry<?> enumEntry) {
+            return new OfEnum(enumEntry);
+        }
+        return new BoundValue<>(entry);
+    }
+
+    /**
+     * @return Returns the current value of the entry.
+     */
+    @SuppressWarnings("unchecked")
+    public T get() {
+        Object value = this.value;
+        return (T) (value instanceof LazyValue<?> lazy ? lazy.get() : value);
+    }
+
+    @NotNull
+    public ConfigEntry<T> getEntry() {
+        return entry;
+    }
+
+    /**
+     * Pushes the value of the entry at a slot of a snapshot into this handle. Called by
+     * the config while holding its lock, so values are pushed in the order they were published.
+     */
+    void refresh(ConfigSnapshot snapshot, int slot) {
+        this.bits = snapshot.getBits(slot);
+        this.value = snapshot.getStored(slot);
+    }
+
+    @Override
+    public String toString() {
+        return "BoundValue{" + entry.getName() + "=" + this.get() + "}";
+    }
+
+    /**
+     * Handle to the value of an {@link IntegerEntry}.
+     */
+    public static final class OfInt extends BoundValue<Integer> {
+
+        OfInt(IntegerEntry entry) {
+            super(entry);
+        }
+
+        /**
+         * @return Returns the current value, without boxing.
+         */
+        public int getInt() {
+            return (int) this.bits;
+        }
+    }
+
+    /**
+     * Handle to the value of a {@link ShortEntry}.
+     */
+    public static final class OfShort extends BoundValue<Short> {
+
+        OfShort(ShortEntry entry) {
+            super(entry);
+        }
+
+        /**
+         * @return Returns the current value, without boxing.
+         */
+        public short getShort() {
+            return (short) this.bits;
+        }
+    }
+
+    /**
+     * Handle to the value of a {@link ByteEntry}.
+     */
+    public static final class OfByte extends BoundValue<Byte> {
+
+        OfByte(ByteEntry entry) {
+            super(entry);
+        }
+
+        /**
+         * @return Returns the current value, without boxing.
+         */
+        public byte getByte() {
+            return (byte) this.bits;
+        }
+    }
+
+    /**
+     * Handle to the value of a {@link DoubleEntry}.
+     */
+    public static final class OfDouble extends BoundValue<Double> {
+
+        OfDouble(DoubleEntry entry) {
+            super(entry);
+        }
+
+        /**
+         * @return Returns the current value, without boxing.
+         */
+        public double getDouble() {
+            return Double.longBitsToDouble(this.bits);
+        }
+    }
+
+    /**
+     * Handle to the value of a {@link FloatEntry}.
+     */
+    public static final class OfFloat extends BoundValue<Float> {
+
+        OfFloat(FloatEntry entry) {
+            super(entry);
+        }
+
+        /**
+         * @return Returns the current value, without boxing.
+         */
+        public float getFloat() {
+            return Float.intBitsToFloat((int) this.bits);
+        }
+    }
+
+    /**
+     * Handle to the value of a {@link BooleanEntry}.
+     */
+    public static final class OfBoolean extends BoundValue<Boolean> {
+
+        OfBoolean(BooleanEntry entry) {
+            super(entry);
+        }
+
+        /**
+         * @return Returns the current value, without boxing.
+         */
+        public boolean getBoolean() {
+            return this.bits != 0L;
+        }
+    }
+
+    /**
+     * Handle to the value of an {@link EnumEntry}.
+     *
+     * @param <E> Type of the enum.
+     */
+    public static final class OfEnum<E extends Enum<E>> extends BoundValue<E> {
+
+        OfEnum(EnumEntry<E> entry) {
+            super(entry);
+        }
+
+        /**
+         * @return Returns the ordinal of the current value, without looking up the constant.
+         */
+        public int getOrdinal() {
+            return (int) this.bits;
+        }
+    }
+
+    @NotNull
+    private final ConfigEntry<T> entry;
+
+    /**
+     * Current value as stored in the snapshot, which may still be a {@link LazyValue}.
+     */
+    private volatile Object value;
+
+    /**
+     * Primitive bits of the current value, as given by {@link ConfigEntry#toBits(Object)}.
+     * Read by the nested handle types.
+     */
+    volatile long bits;
+}
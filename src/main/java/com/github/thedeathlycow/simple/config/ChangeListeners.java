@@ -0,0 +1,143 @@
+package com.github.thedeathlycow.simple.config;
+
+import com.github.thedeathlycow.simple.config.entry.ConfigEntry;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The change listeners of a config. Compares each snapshot the config publishes with the
+ * one it replaced, and notifies the listeners of the entries whose values changed.
+ * <p>
+ * A value has changed if its stored object is different and not equal to the previous one.
+ * Only the entries that someone listens to are compared, but comparing a changed
+ * {@link ConfigEntry#isLazy() lazy} value deserializes it.
+ *
+ * @author TheDeathlyCow
+ */
+class ChangeListeners {
+
+    void add(ConfigChangeListener listener, @Nullable Executor executor) {
+        this.configListeners.add(new Registration<>(listener, executor));
+    }
+
+    boolean remove(ConfigChangeListener listener) {
+        return this.configListeners.removeIf(registration -> registration.listener() == listener);
+    }
+
+    <T> void add(ConfigEntry<T> entry, EntryChangeListener<T> listener, @Nullable Executor executor) {
+        this.entryListeners.computeIfAbsent(entry, e -> new CopyOnWriteArrayList<>())
+                .add(new Registration<>(listener, executor));
+    }
+
+    boolean remove(ConfigEntry<?> entry, EntryChangeListener<?> listener) {
+        List<Registration<EntryChangeListener<?>>> registrations = this.entryListeners.get(entry);
+        return registrations != null && registrations.removeIf(registration -> registration.listener() == listener);
+    }
+
+    /**
+     * Notifies the listeners of the values that changed between two snapshots. Listeners without
+     * an executor are called on this thread. A listener that throws is logged, and does not stop
+     * the other listeners.
+     */
+    void dispatch(Config config, ConfigSnapshot previous, ConfigSnapshot current) {
+        boolean allEntries = !this.configListeners.isEmpty();
+        if (!allEntries && this.entryListeners.isEmpty()) {
+            return;
+        }
+        // entries added since the previous snapshot have no old value, and are not changes
+        int size = Math.min(previous.size(), current.size());
+        List<EntryChange<?>> changes = new ArrayList<>();
+        if (allEntries) {
+            for (int slot = 0; slot < size; slot++) {
+                EntryChange<?> change = compare(current.getEntry(slot), previous, current, slot);
+                if (change != null) {
+                    changes.add(change);
+                }
+            }
+        } else {
+            for (ConfigEntry<?> entry : this.entryListeners.keySet()) {
+                int slot = current.getSlot(entry);
+                if (slot >= 0 && slot < size) {
+                    EntryChange<?> change = compare(entry, previous, current, slot);
+                    if (change != null) {
+                        changes.add(change);
+                    }
+                }
+            }
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        if (allEntries) {
+            List<EntryChange<?>> batch = Collections.unmodifiableList(changes);
+            for (Registration<ConfigChangeListener> registration : this.configListeners) {
+                run(config, registration.executor(), () -> registration.listener().onChange(config, batch));
+            }
+        }
+        for (EntryChange<?> change : changes) {
+            List<Registration<EntryChangeListener<?>>> registrations = this.entryListeners.get(change.entry());
+            if (registrations != null) {
+                for (Registration<EntryChangeListener<?>> registration : registrations) {
+                    run(config, registration.executor(), () -> notify(registration.listener(), change));
+                }
+            }
+        }
+    }
+
+    @Nullable
+    private static <T> EntryChange<T> compare(ConfigEntry<T> entry, ConfigSnapshot previous, ConfigSnapshot current, int slot) {
+        if (previous.getStored(slot) == current.getStored(slot) && previous.getBits(slot) == current.getBits(slot)) {
+            return null;
+        }
+        T oldValue = entry.adapt(previous.getValue(slot));
+        T newValue = entry.adapt(current.getValue(slot));
+        return Objects.equals(oldValue, newValue) ? null : new EntryChange<>(entry, oldValue, newValue);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void notify(EntryChangeListener<?> listener, EntryChange<T> change) {
+        ((EntryChangeListener<T>) listener).onChange(change.oldValue(), change.newValue());
+    }
+
+    private static void run(Config config, @Nullable Executor executor, Runnable notification) {
+        Runnable guarded = () -> {
+            try {
+                notification.run();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.SEVERE, "Error in change listener of config " + config.getIdentifer(), e);
+            }
+        };
+        if (executor == null) {
+            guarded.run();
+            return;
+        }
+        try {
+            executor.execute(guarded);
+        } catch (RejectedExecutionException e) {
+            LOGGER.log(Level.SEVERE, "Could not dispatch change listener of config " + config.getIdentifer(), e);
+        }
+    }
+
+    /**
+     * A listener and the executor it is called on, or null to call it on the thread delivering the update.
+     */
+    private record Registration<L>(L listener, @Nullable Executor executor) {
+    }
+
+    private final List<Registration<ConfigChangeListener>> configListeners = new CopyOnWriteArrayList<>();
+    private final Map<ConfigEntry<?>, List<Registration<EntryChangeListener<?>>>> entryListeners = new ConcurrentHashMap<>();
+
+    private static final Logger LOGGER = Logger.getLogger("Config");
+}
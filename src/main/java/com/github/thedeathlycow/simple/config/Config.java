@@ -1,19 +1,39 @@
 package com.github.thedeathlycow.simple.config;
+import com.github.thedeathlycow.simple.config.entry.BooleanEntry;
+import com.github.thedeathlycow.simple.config.entry.ByteEntry;
 import com.github.thedeathlycow.simple.config.entry.ConfigEntry;
+import com.github.thedeathlycow.simple.config.entry.DoubleEntry;
+import com.github.thedeathlycow.simple.config.entry.EnumEntry;
+import com.github.thedeathlycow.simple.config.entry.FloatEntry;
+import com.github.thedeathlycow.simple.config.entry.IntegerEntry;
+import com.github.thedeathlycow.simple.config.entry.ShortEntry;
+import com.github.thedeathlycow.simple.config.metrics.ConfigMetrics;
 import com.google.gson.JsonElement;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Base config class. Provides methods for adding keys,
  * setting values, getting values, and reload and update
  * methods for datapacks.
+ * <p>
+ * Values are held in an immutable {@link ConfigSnapshot} that is swapped out
+ * whenever a value changes. Reads never block and always see a complete snapshot,
+ * while writes are serialized and copy the values they change.
  */
 public class Config {
 
@@ -21,6 +41,8 @@ public class Config {
 
         this.identifier = identifier;
         this.parentDirectory = parentDirectory;
+        this.location = new File(parentDirectory.toFile(), identifier.getFileName());
+        this.writer = new AtomicFileWriter(this.location.toPath());
     }
 
     /**
@@ -43,29 +65,481 @@ public class Config {
      * part of this config.
      */
     public <T> T get(ConfigEntry<T> entry) {
-        if (this.values.containsKey(entry)) {
-            Object value = this.values.get(entry);
-            return entry.adapt(value);
-        } else {
-            throw new IllegalArgumentException("Cannot get value of " + entry + " as it does not exist in config");
+        T value = this.snapshot.get(entry);
+        if (this.readSampleRate != 0) {
+            this.sampleRead(entry);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the value of a derived entry. This is as cheap as reading a plain value, as
+     * derived values are computed when they change rather than when they are read.
+     *
+     * @param entry The derived entry to get the value of.
+     * @param <T> The type of the derived value.
+     * @return Returns the derived value.
+     * @throws IllegalArgumentException Thrown if the entry has not been added to this config.
+     * @throws IllegalStateException Thrown if the entry's function threw when computing the value.
+     */
+    public <T> T get(DerivedEntry<T> entry) {
+        return this.snapshot.get(entry);
+    }
+
+    /**
+     * Gets the generation of this config, which goes up by one each time a new snapshot
+     * is published. Callers that cache values computed from this config can compare
+     * generations to check whether their cache is stale, without comparing any values.
+     * <p>
+     * The generation must be read before the values it guards: a cache tagged with a
+     * generation that is still current never holds values older than the current snapshot.
+     *
+     * @return Returns the generation of this config.
+     */
+    public long getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * Gets the value of an integer entry without boxing.
+     *
+     * @param entry The entry in the config to get the value of.
+     * @return Returns the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of this config.
+     */
+    public int getInt(IntegerEntry entry) {
+        int value = this.snapshot.getInt(entry);
+        if (this.readSampleRate != 0) {
+            this.sampleRead(entry);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the value of a short entry without boxing.
+     *
+     * @param entry The entry in the config to get the value of.
+     * @return Returns the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of this config.
+     */
+    public short getShort(ShortEntry entry) {
+        short value = this.snapshot.getShort(entry);
+        if (this.readSampleRate != 0) {
+            this.sampleRead(entry);
         }
+        return value;
+    }
+
+    /**
+     * Gets the value of a byte entry without boxing.
+     *
+     * @param entry The entry in the config to get the value of.
+     * @return Returns the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of this config.
+     */
+    public byte getByte(ByteEntry entry) {
+        byte value = this.snapshot.getByte(entry);
+        if (this.readSampleRate != 0) {
+            this.sampleRead(entry);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the value of a double entry without boxing.
+     *
+     * @param entry The entry in the config to get the value of.
+     * @return Returns the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of this config.
+     */
+    public double getDouble(DoubleEntry entry) {
+        double value = this.snapshot.getDouble(entry);
+        if (this.readSampleRate != 0) {
+            this.sampleRead(entry);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the value of a float entry without boxing.
+     *
+     * @param entry The entry in the config to get the value of.
+     * @return Returns the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of this config.
+     */
+    public float getFloat(FloatEntry entry) {
+        float value = this.snapshot.getFloat(entry);
+        if (this.readSampleRate != 0) {
+            this.sampleRead(entry);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the value of a boolean entry without boxing.
+     *
+     * @param entry The entry in the config to get the value of.
+     * @return Returns the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of this config.
+     */
+    public boolean getBoolean(BooleanEntry entry) {
+        boolean value = this.snapshot.getBoolean(entry);
+        if (this.readSampleRate != 0) {
+            this.sampleRead(entry);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the ordinal of the value of an enum entry, without looking up the constant.
+     *
+     * @param entry The entry in the config to get the value of.
+     * @return Returns the ordinal of the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of this config.
+     */
+    public int getOrdinal(EnumEntry<?> entry) {
+        int value = this.snapshot.getOrdinal(entry);
+        if (this.readSampleRate != 0) {
+            this.sampleRead(entry);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the current values of this config. Values read from the returned snapshot
+     * are consistent with each other, and are not affected by later changes to this config.
+     *
+     * @return Returns the current {@link ConfigSnapshot} of this config.
+     */
+    public ConfigSnapshot snapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * Creates a builder for a new snapshot of this config, with every entry set
+     * to its default value.
+     *
+     * @return Returns a new {@link ConfigSnapshot.Builder}.
+     */
+    public ConfigSnapshot.Builder newSnapshotBuilder() {
+        return this.snapshot.toBuilder().resetAll();
+    }
+
+    /**
+     * Replaces all values of this config with those of a snapshot in a single atomic
+     * step. Entries that were added to this config after the snapshot's builder was
+     * created keep their current values.
+     *
+     * @param snapshot Snapshot of this config to publish.
+     * @return Returns the snapshot that was published. This is the given snapshot, unless
+     * entries were added to this config after its builder was created.
+     * @throws IllegalArgumentException Thrown if the snapshot was not created from this config.
+     */
+    public ConfigSnapshot publish(ConfigSnapshot snapshot) {
+        return this.publish(snapshot, UpdateCause.RUNTIME);
+    }
+
+    /**
+     * Replaces all values of this config with those of a snapshot, telling update
+     * listeners why the values changed.
+     *
+     * @param snapshot Snapshot of this config to publish.
+     * @param cause Why the snapshot is published, such as {@link UpdateCause#RELOAD} for
+     * values loaded from the config file.
+     * @return Returns the snapshot that was published.
+     * @throws IllegalArgumentException Thrown if the snapshot was not created from this config.
+     * @see #publish(ConfigSnapshot)
+     */
+    public ConfigSnapshot publish(ConfigSnapshot snapshot, @NotNull UpdateCause cause) {
+        if (snapshot.getRegistry() != this.entries) {
+            throw new IllegalArgumentException("Cannot publish a snapshot of a different config to " + this.identifier);
+        }
+        ConfigSnapshot previous;
+        synchronized (this.lock) {
+            previous = this.snapshot;
+            if (snapshot.size() < previous.size()) {
+                ConfigSnapshot.Builder builder = previous.toBuilder();
+                for (int slot = 0; slot < snapshot.size(); slot++) {
+                    builder.copy(slot, snapshot, slot);
+                }
+                snapshot = builder.build();
+            }
+            this.swap(previous, snapshot, cause);
+        }
+        this.deliverUpdates();
+        return snapshot;
+    }
+
+    /**
+     * Adds a listener that is called each time this config publishes a new snapshot,
+     * whether from a setter, a reset, an update, a reload, or a newly added entry.
+     *
+     * @param listener Listener to add.
+     */
+    public void addUpdateListener(ConfigUpdateListener listener) {
+        this.updateListeners.add(listener);
+    }
+
+    /**
+     * Removes an update listener from this config.
+     *
+     * @param listener Listener to remove.
+     * @return Returns true if the listener was removed.
+     */
+    public boolean removeUpdateListener(ConfigUpdateListener listener) {
+        return this.updateListeners.remove(listener);
+    }
+
+    /**
+     * Adds a listener that is called on a writing thread each time values of this config
+     * change, with every value that changed. A single reload is reported as one batch.
+     * Publishing a snapshot in which no value changed does not call the listener.
+     *
+     * @param listener Listener to add.
+     */
+    public void addChangeListener(ConfigChangeListener listener) {
+        this.changeListeners.add(listener, null);
+    }
+
+    /**
+     * Adds a listener that is called on an executor each time values of this config change,
+     * so that slow listeners do not hold up the thread that changed them.
+     *
+     * @param listener Listener to add.
+     * @param executor Executor to call the listener on.
+     * @see #addChangeListener(ConfigChangeListener)
+     */
+    public void addChangeListener(ConfigChangeListener listener, @NotNull Executor executor) {
+        this.changeListeners.add(listener, executor);
+    }
+
+    /**
+     * Removes a change listener from this config.
+     *
+     * @param listener Listener to remove.
+     * @return Returns true if the listener was removed.
+     */
+    public boolean removeChangeListener(ConfigChangeListener listener) {
+        return this.changeListeners.remove(listener);
+    }
+
+    /**
+     * Adds a listener that is called on a writing thread each time the value of an entry
+     * changes, whether from a setter, a reset, an update or a reload.
+     *
+     * @param entry Entry to listen to.
+     * @param listener Listener to add.
+     * @param <T> The type that the entry stores.
+     * @throws IllegalArgumentException Thrown if the entry is not part of this config.
+     */
+    public <T> void addChangeListener(ConfigEntry<T> entry, EntryChangeListener<T> listener) {
+        this.snapshot.getSlotOrThrow(entry);
+        this.changeListeners.add(entry, listener, null);
+    }
+
+    /**
+     * Adds a listener that is called on an executor each time the value of an entry changes.
+     *
+     * @param entry Entry to listen to.
+     * @param listener Listener to add.
+     * @param executor Executor to call the listener on.
+     * @param <T> The type that the entry stores.
+     * @throws IllegalArgumentException Thrown if the entry is not part of this config.
+     * @see #addChangeListener(ConfigEntry, EntryChangeListener)
+     */
+    public <T> void addChangeListener(ConfigEntry<T> entry, EntryChangeListener<T> listener, @NotNull Executor executor) {
+        this.snapshot.getSlotOrThrow(entry);
+        this.changeListeners.add(entry, listener, executor);
+    }
+
+    /**
+     * Removes a change listener of an entry from this config.
+     *
+     * @param entry Entry the listener was added to.
+     * @param listener Listener to remove.
+     * @return Returns true if the listener was removed.
+     */
+    public boolean removeChangeListener(ConfigEntry<?> entry, EntryChangeListener<?> listener) {
+        return this.changeListeners.remove(entry, listener);
     }
 
     /**
      * Adds an entry to this config, and sets it to the default
-     * value. If duplicate values are
+     * value.
      *
      * @param entry The entry to add.
      * @param <T> The type that the entry stores.
      * @throws IllegalArgumentException Thrown if attempting to add duplicate keys.
      */
     public <T> void addEntry(ConfigEntry<T> entry) {
-        if (!this.values.containsKey(entry)) {
-            entries.register(entry);
-            this.values.put(entry, entry.getDefaultValue());
-        } else {
-            throw new IllegalArgumentException("Attempted to add duplicate value " + entry + " to config");
+        ConfigSnapshot previous, current;
+        synchronized (this.lock) {
+            if (this.entries.getSlot(entry) < 0) {
+                int slot = entries.register(entry);
+                previous = this.snapshot;
+                current = previous.withEntry(slot, entry);
+                this.swap(previous, current, UpdateCause.SCHEMA);
+            } else {
+                throw new IllegalArgumentException("Attempted to add duplicate value " + entry + " to config");
+            }
         }
+        this.deliverUpdates();
+    }
+
+    /**
+     * Adds a derived entry to this config, and computes its value. From then on, the value
+     * is computed again whenever a new snapshot is published in which one of its sources has changed.
+     *
+     * @param entry The derived entry to add.
+     * @param <T> The type of the derived value.
+     * @throws IllegalArgumentException Thrown if a derived entry with the same name has already
+     * been added, or if one of the sources is not part of this config.
+     */
+    public <T> void addDerivedEntry(DerivedEntry<T> entry) {
+        ConfigSnapshot previous, current;
+        synchronized (this.lock) {
+            for (DerivedEntry<?> derived : this.derivedEntries) {
+                if (derived.getName().equals(entry.getName())) {
+                    throw new IllegalArgumentException("Attempted to add duplicate derived value " + entry + " to config");
+                }
+            }
+            for (ConfigEntry<?> source : entry.getSources()) {
+                if (this.entries.getSlot(source) < 0) {
+                    throw new IllegalArgumentException("Source " + source + " of " + entry + " does not exist in config");
+                }
+            }
+            int index = this.derivedEntries.length;
+            this.derivedEntries = Arrays.copyOf(this.derivedEntries, index + 1);
+            this.derivedEntries[index] = entry;
+            entry.claimIndex(index);
+            previous = this.snapshot;
+            current = previous.toBuilder().build();
+            this.swap(previous, current, UpdateCause.SCHEMA);
+        }
+        this.deliverUpdates();
+    }
+
+    /**
+     * Gets a handle to the current value of an entry, which this config keeps up to date
+     * each time it publishes a new snapshot. Binding the same entry again returns the same handle.
+     *
+     * @param entry The entry to bind.
+     * @param <T> The type that the entry stores.
+     * @return Returns the handle of the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not part of this config.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> BoundValue<T> bind(ConfigEntry<T> entry) {
+        synchronized (this.lock) {
+            int slot = this.entries.getSlot(entry);
+            if (slot < 0) {
+                throw new IllegalArgumentException("Cannot bind " + entry + " as it does not exist in config");
+            }
+            if (slot >= this.bindings.length) {
+                this.bindings = Arrays.copyOf(this.bindings, Math.max(slot + 1, this.bindings.length * 2));
+            }
+            BoundValue<?> binding = this.bindings[slot];
+            if (binding == null) {
+                binding = BoundValue.of(this.entries.getEntry(slot));
+                binding.refresh(this.snapshot, slot);
+                this.bindings[slot] = binding;
+            }
+            return (BoundValue<T>) binding;
+        }
+    }
+
+    /**
+     * Gets a handle to the current value of an integer entry, which reads the value without boxing.
+     *
+     * @param entry The entry to bind.
+     * @return Returns the handle of the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not part of this config.
+     * @see #bind(ConfigEntry)
+     */
+    public BoundValue.OfInt bind(IntegerEntry entry) {
+        return (BoundValue.OfInt) this.bind((ConfigEntry<?>) entry);
+    }
+
+    /**
+     * Gets a handle to the current value of a short entry, which reads the value without boxing.
+     *
+     * @param entry The entry to bind.
+     * @return Returns the handle of the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not part of this config.
+     * @see #bind(ConfigEntry)
+     */
+    public BoundValue.OfShort bind(ShortEntry entry) {
+        return (BoundValue.OfShort) this.bind((ConfigEntry<?>) entry);
+    }
+
+    /**
+     * Gets a handle to the current value of a byte entry, which reads the value without boxing.
+     *
+     * @param entry The entry to bind.
+     * @return Returns the handle of the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not part of this config.
+     * @see #bind(ConfigEntry)
+     */
+    public BoundValue.OfByte bind(ByteEntry entry) {
+        return (BoundValue.OfByte) this.bind((ConfigEntry<?>) entry);
+    }
+
+    /**
+     * Gets a handle to the current value of a double entry, which reads the value without boxing.
+     *
+     * @param entry The entry to bind.
+     * @return Returns the handle of the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not part of this config.
+     * @see #bind(ConfigEntry)
+     */
+    public BoundValue.OfDouble bind(DoubleEntry entry) {
+        return (BoundValue.OfDouble) this.bind((ConfigEntry<?>) entry);
+    }
+
+    /**
+     * Gets a handle to the current value of a float entry, which reads the value without boxing.
+     *
+     * @param entry The entry to bind.
+     * @return Returns the handle of the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not part of this config.
+     * @see #bind(ConfigEntry)
+     */
+    public BoundValue.OfFloat bind(FloatEntry entry) {
+        return (BoundValue.OfFloat) this.bind((ConfigEntry<?>) entry);
+    }
+
+    /**
+     * Gets a handle to the current value of a boolean entry, which reads the value without boxing.
+     *
+     * @param entry The entry to bind.
+     * @return Returns the handle of the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not part of this config.
+     * @see #bind(ConfigEntry)
+     */
+    public BoundValue.OfBoolean bind(BooleanEntry entry) {
+        return (BoundValue.OfBoolean) this.bind((ConfigEntry<?>) entry);
+    }
+
+    /**
+     * Gets a handle to the current value of an enum entry, which reads the ordinal of the value
+     * without looking up the constant.
+     *
+     * @param entry The entry to bind.
+     * @param <E> The type of the enum.
+     * @return Returns the handle of the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not part of this config.
+     * @see #bind(ConfigEntry)
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends Enum<E>> BoundValue.OfEnum<E> bind(EnumEntry<E> entry) {
+        return (BoundValue.OfEnum<E>) this.bind((ConfigEntry<?>) entry);
     }
 
     /**
@@ -111,24 +585,115 @@ public class Config {
      * @throws IllegalArgumentException Thrown if <code>value</code> is not valid
      */
     public <T, V extends T> void setValue(ConfigEntry<T> entry, V value) {
-        if (this.values.containsKey(entry)) {
-            if (entry.isValid(value)) {
-                this.values.put(entry, value);
-            } else {
-                throw new IllegalArgumentException("Invalid value of " + value + " for config entry " + entry.getName());
-            }
+        if (entry.isValid(value)) {
+            this.store(entry, value);
         } else {
-            StringBuilder msg = new StringBuilder("Attempted to add entry " + entry + " which does not exist in config!");
-            msg.append(" Config has keys:\n");
-            for (ConfigEntry<?> k : entries.getEntries()) {
-                msg.append(" - ");
-                msg.append(k.getName());
-                msg.append("\n");
-            }
-            throw new IllegalArgumentException(msg.toString());
+            throw ConfigSnapshot.invalidValue(entry, value);
         }
     }
 
+    /**
+     * Sets a new value for an integer entry, checking its bounds
+     * without boxing.
+     *
+     * @param entry Entry to set the new value of.
+     * @param value Value to be set if valid.
+     * @throws IllegalArgumentException Thrown if <code>entry</code> is not a valid
+     * entry in this config
+     * @throws IllegalArgumentException Thrown if <code>value</code> is not valid
+     */
+    public void setInt(IntegerEntry entry, int value) {
+        if (entry.isValid(value)) {
+            this.store(entry, value);
+        } else {
+            throw ConfigSnapshot.invalidValue(entry, value);
+        }
+    }
+
+    /**
+     * Sets a new value for a short entry, checking its bounds
+     * without boxing.
+     *
+     * @param entry Entry to set the new value of.
+     * @param value Value to be set if valid.
+     * @throws IllegalArgumentException Thrown if <code>entry</code> is not a valid
+     * entry in this config
+     * @throws IllegalArgumentException Thrown if <code>value</code> is not valid
+     */
+    public void setShort(ShortEntry entry, short value) {
+        if (entry.isValid(value)) {
+            this.store(entry, value);
+        } else {
+            throw ConfigSnapshot.invalidValue(entry, value);
+        }
+    }
+
+    /**
+     * Sets a new value for a byte entry, checking its bounds
+     * without boxing.
+     *
+     * @param entry Entry to set the new value of.
+     * @param value Value to be set if valid.
+     * @throws IllegalArgumentException Thrown if <code>entry</code> is not a valid
+     * entry in this config
+     * @throws IllegalArgumentException Thrown if <code>value</code> is not valid
+     */
+    public void setByte(ByteEntry entry, byte value) {
+        if (entry.isValid(value)) {
+            this.store(entry, value);
+        } else {
+            throw ConfigSnapshot.invalidValue(entry, value);
+        }
+    }
+
+    /**
+     * Sets a new value for a double entry, checking its bounds
+     * without boxing.
+     *
+     * @param entry Entry to set the new value of.
+     * @param value Value to be set if valid.
+     * @throws IllegalArgumentException Thrown if <code>entry</code> is not a valid
+     * entry in this config
+     * @throws IllegalArgumentException Thrown if <code>value</code> is not valid
+     */
+    public void setDouble(DoubleEntry entry, double value) {
+        if (entry.isValid(value)) {
+            this.store(entry, value);
+        } else {
+            throw ConfigSnapshot.invalidValue(entry, value);
+        }
+    }
+
+    /**
+     * Sets a new value for a float entry, checking its bounds
+     * without boxing.
+     *
+     * @param entry Entry to set the new value of.
+     * @param value Value to be set if valid.
+     * @throws IllegalArgumentException Thrown if <code>entry</code> is not a valid
+     * entry in this config
+     * @throws IllegalArgumentException Thrown if <code>value</code> is not valid
+     */
+    public void setFloat(FloatEntry entry, float value) {
+        if (entry.isValid(value)) {
+            this.store(entry, value);
+        } else {
+            throw ConfigSnapshot.invalidValue(entry, value);
+        }
+    }
+
+    /**
+     * Sets a new value for a boolean entry.
+     *
+     * @param entry Entry to set the new value of.
+     * @param value Value to be set.
+     * @throws IllegalArgumentException Thrown if <code>entry</code> is not a valid
+     * entry in this config
+     */
+    public void setBoolean(BooleanEntry entry, boolean value) {
+        this.store(entry, value);
+    }
+
     /**
      * Updates this config with all entries from another config
      * that are part of this config.
@@ -136,12 +701,21 @@ public class Config {
      * @param inConfig The config to copy into this config.
      */
     public void update(Config inConfig) {
-        for (Map.Entry<ConfigEntry<?>, Object> entry : inConfig.values.entrySet()) {
-            ConfigEntry<?> key = entry.getKey();
-            if (this.values.containsKey(key)) {
-                this.values.put(key, entry.getValue());
+        ConfigSnapshot in = inConfig.snapshot;
+        ConfigSnapshot previous, current;
+        synchronized (this.lock) {
+            previous = this.snapshot;
+            ConfigSnapshot.Builder builder = previous.toBuilder();
+            for (int inSlot = 0; inSlot < in.size(); inSlot++) {
+                int slot = builder.getSlot(in.getEntry(inSlot));
+                if (slot >= 0) {
+                    builder.copy(slot, in, inSlot);
+                }
             }
+            current = builder.build();
+            this.swap(previous, current, UpdateCause.RUNTIME);
         }
+        this.deliverUpdates();
     }
 
     /**
@@ -149,10 +723,56 @@ public class Config {
      * values.
      */
     public void reset() {
-        for (Map.Entry<ConfigEntry<?>, Object> entry : values.entrySet()) {
-            ConfigEntry<?> key = entry.getKey();
-            values.put(key, key.getDefaultValue());
+        ConfigSnapshot previous, current;
+        synchronized (this.lock) {
+            previous = this.snapshot;
+            current = this.newSnapshotBuilder().build();
+            this.swap(previous, current, UpdateCause.RUNTIME);
         }
+        this.deliverUpdates();
+    }
+
+    /**
+     * Sets where this config reports metrics to. Reads of values are only sampled if the
+     * metrics have a {@link ConfigMetrics#getReadSampleRate() read sample rate}; otherwise
+     * reading a value costs the same as with no metrics at all.
+     * <p>
+     * Other threads are not guaranteed to start or stop sampling reads immediately.
+     *
+     * @param metrics Metrics to report to, or {@link ConfigMetrics#NONE} to stop reporting.
+     */
+    public void setMetrics(@NotNull ConfigMetrics metrics) {
+        int sampleRate = metrics.getReadSampleRate();
+        if (sampleRate < 0) {
+            throw new IllegalArgumentException("Read sample rate must not be negative, got " + sampleRate);
+        }
+        synchronized (this.lock) {
+            this.metrics = metrics;
+            this.readSampleRate = sampleRate;
+        }
+    }
+
+    /**
+     * @return Returns the metrics this config reports to, {@link ConfigMetrics#NONE} by default.
+     */
+    @NotNull
+    public ConfigMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Saves the current values of this config to its file, serializing each value through
+     * its entry. The file is written to a temporary file first and then atomically renamed
+     * into place, so a reloading config never reads a partially written file.
+     * <p>
+     * If the file already holds the serialized values, nothing is written. Snapshots cache
+     * their serialized form, so saving again without changing any values is nearly free.
+     *
+     * @return Returns true if the file was written, false if it was already up to date.
+     * @throws IOException Thrown if the file could not be written.
+     */
+    public boolean save() throws IOException {
+        return this.writer.write(this.snapshot.serialize());
     }
 
     /**
@@ -162,7 +782,7 @@ public class Config {
      * of this config.
      */
     public File getLocation() {
-        return new File(parentDirectory.toFile(), identifier.getFileName());
+        return location;
     }
 
     /**
@@ -187,11 +807,215 @@ public class Config {
         return Objects.hash(identifier);
     }
 
+    /**
+     * Publishes a copy of the current snapshot with a new value at an entry.
+     * Does NOT check for validity.
+     *
+     * @throws IllegalArgumentException Thrown if the entry is not part of this config.
+     */
+    private <T> void store(ConfigEntry<T> entry, T value) {
+        ConfigSnapshot previous, current;
+        synchronized (this.lock) {
+            previous = this.snapshot;
+            int slot = previous.getSlotOrThrow(entry);
+            ConfigSnapshot.Builder builder = previous.toBuilder();
+            builder.store(slot, entry, value);
+            current = builder.build();
+            this.swap(previous, current, UpdateCause.RUNTIME);
+        }
+        this.deliverUpdates();
+    }
+
+    /**
+     * Computes the derived values of a snapshot and publishes it, pushes its values into
+     * the bound handles, bumps the generation, then queues the update for the listeners.
+     * The generation is bumped after the snapshot is replaced, so that a reader that sees the
+     * new generation also sees the new snapshot. Must be called while holding {@link #lock},
+     * and followed by {@link #deliverUpdates()} once the lock is released.
+     */
+    private void swap(ConfigSnapshot previous, ConfigSnapshot current, UpdateCause cause) {
+        current.derive(this.derivedEntries, previous);
+        this.snapshot = current;
+        BoundValue<?>[] bindings = this.bindings;
+        for (int slot = 0; slot < bindings.length; slot++) {
+            if (bindings[slot] != null) {
+                bindings[slot].refresh(current, slot);
+            }
+        }
+        this.generation++;
+        this.pendingUpdates.add(new PendingUpdate(previous, current, cause));
+        this.publishedUpdates++;
+    }
+
+    private void sampleRead(ConfigEntry<?> entry) {
+        ConfigMetrics metrics = this.metrics;
+        int rate = this.readSampleRate;
+        if (rate == 1 || (rate > 1 && ThreadLocalRandom.current().nextInt(rate) == 0)) {
+            metrics.onEntryRead(this, entry, rate);
+        }
+    }
+
+    /**
+     * Notifies the listeners of every queued update, in the order the snapshots were published.
+     * Only one thread delivers at a time. If another thread is already delivering, this waits
+     * until that thread has delivered the updates published before this was called, or takes
+     * over delivering if it stops first, so that a writer never returns before the listeners of
+     * its own update have been called. Each thread delivers only up to its own updates, leaving
+     * later ones to the threads that published them.
+     * <p>
+     * Updates published by a listener are delivered after the one it is listening to, by the
+     * thread that is already delivering, so this returns straight away when called from a listener.
+     * Must not be called while holding {@link #lock}.
+     */
+    private void deliverUpdates() {
+        Thread current = Thread.currentThread();
+        synchronized (this.lock) {
+            if (this.deliveringThread == current) {
+                // called from a listener; extend the delivery that is already running
+                this.deliverUntil = this.publishedUpdates;
+                return;
+            }
+            long target = this.publishedUpdates;
+            boolean interrupted = false;
+            while (this.deliveringThread != null && this.deliveredUpdates < target) {
+                try {
+                    this.lock.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                current.interrupt();
+            }
+            if (this.deliveredUpdates >= target) {
+                return;
+            }
+            this.deliveringThread = current;
+            this.deliverUntil = target;
+        }
+        try {
+            while (true) {
+                PendingUpdate update;
+                synchronized (this.lock) {
+                    if (this.deliveredUpdates >= this.deliverUntil) {
+                        this.deliveringThread = null;
+                        this.lock.notifyAll();
+                        return;
+                    }
+                    update = this.pendingUpdates.poll();
+                }
+                try {
+                    this.notifyUpdate(update.previous(), update.current(), update.cause());
+                } finally {
+                    synchronized (this.lock) {
+                        this.deliveredUpdates++;
+                        this.lock.notifyAll();
+                    }
+                }
+            }
+        } catch (Throwable e) {
+            // an error escaped a listener; leave the rest of the queue to the waiting writers
+            synchronized (this.lock) {
+                this.deliveringThread = null;
+                this.lock.notifyAll();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Calls every update listener, then the change listeners of the values that changed.
+     * A listener that throws is logged, and does not stop the other listeners.
+     */
+    private void notifyUpdate(ConfigSnapshot previous, ConfigSnapshot current, UpdateCause cause) {
+        for (ConfigUpdateListener listener : this.updateListeners) {
+            try {
+                listener.onUpdate(this, previous, current, cause);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.SEVERE, "Error in update listener of config " + this.identifier, e);
+            }
+        }
+        this.changeListeners.dispatch(this, previous, current);
+    }
+
     @NotNull
     private final Path parentDirectory;
     @NotNull
     private final Identifier identifier;
+    /**
+     * Resolved once, as reloads and saves look it up every time.
+     */
+    @NotNull
+    private final File location;
     private final ConfigEntryRegistry entries = new ConfigEntryRegistry();
-    private final Map<ConfigEntry<?>, Object> values = new HashMap<>();
+    private final AtomicFileWriter writer;
+    private final Set<ConfigUpdateListener> updateListeners = new CopyOnWriteArraySet<>();
+    private final ChangeListeners changeListeners = new ChangeListeners();
+
+    @NotNull
+    private volatile ConfigMetrics metrics = ConfigMetrics.NONE;
+
+    /**
+     * Read sample rate of {@link #metrics}, or 0 if reads are not sampled. Deliberately not
+     * volatile, so that checking it on the read path is a plain load.
+     */
+    private int readSampleRate = 0;
+
+    /**
+     * Guards writes to {@link #entries}, {@link #derivedEntries}, {@link #bindings} and {@link #snapshot}. Readers never take this lock.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * Current values of this config. Replaced, never modified, whenever a value changes.
+     */
+    private volatile ConfigSnapshot snapshot = new ConfigSnapshot(entries, entries.getSlotTable(), 0, new Object[8], new long[8]);
+
+    /**
+     * Derived entries of this config, by index. Replaced, never modified, when an entry is added.
+     */
+    private DerivedEntry<?>[] derivedEntries = new DerivedEntry<?>[0];
+
+    /**
+     * Handles returned by {@link #bind(ConfigEntry)}, by slot. Null for entries that were never bound.
+     */
+    private BoundValue<?>[] bindings = new BoundValue<?>[0];
+
+    /**
+     * Number of snapshots published by this config. Only written while holding {@link #lock}.
+     */
+    private volatile long generation = 0;
+
+    /**
+     * Published snapshots whose listeners have not been notified yet, in publish order.
+     * Only accessed while holding {@link #lock}.
+     */
+    private final Queue<PendingUpdate> pendingUpdates = new ArrayDeque<>();
+
+    /**
+     * Number of updates ever added to, and removed and delivered from, {@link #pendingUpdates}.
+     * Only accessed while holding {@link #lock}, which is also waited on for deliveries.
+     */
+    private long publishedUpdates = 0;
+    private long deliveredUpdates = 0;
+
+    /**
+     * Thread delivering {@link #pendingUpdates}, or null if none is. Only accessed while holding {@link #lock}.
+     */
+    @Nullable
+    private Thread deliveringThread = null;
+
+    /**
+     * Value of {@link #deliveredUpdates} at which {@link #deliveringThread} stops delivering.
+     * Only accessed while holding {@link #lock}.
+     */
+    private long deliverUntil = 0;
+
+    /**
+     * A published snapshot, queued until its listeners are notified.
+     */
+    private record PendingUpdate(ConfigSnapshot previous, ConfigSnapshot current, UpdateCause cause) {
+    }
 
+    private static final Logger LOGGER = Logger.getLogger("Config");
 }
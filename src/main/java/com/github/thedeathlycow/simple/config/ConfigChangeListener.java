@@ -0,0 +1,24 @@
+package com.github.thedeathlycow.simple.config;
+
+import java.util.List;
+
+/**
+ * Listens for values of a {@link Config} changing. Unlike a {@link ConfigUpdateListener},
+ * this is only called when at least one value actually changed, and is told which ones.
+ *
+ * @author TheDeathlyCow
+ * @see Config#addChangeListener(ConfigChangeListener)
+ */
+@FunctionalInterface
+public interface ConfigChangeListener {
+
+    /**
+     * Called once for each new snapshot in which at least one value changed, so all values
+     * changed by a single reload are given together.
+     *
+     * @param config The config that changed.
+     * @param changes The entries whose values changed, in slot order.
+     */
+    void onChange(Config config, List<EntryChange<?>> changes);
+
+}
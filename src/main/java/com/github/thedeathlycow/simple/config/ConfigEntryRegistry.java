@@ -3,13 +3,19 @@ package com.github.thedeathlycow.simple.config;
 import com.github.thedeathlycow.simple.config.entry.ConfigEntry;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Handles entry registration for a config.
+ * Handles entry registration for a config. Each registered entry
+ * is given a dense slot index, in registration order, that configs
+ * use to store their values in flat arrays.
+ * <p>
+ * Lookups by name are safe from any thread. Registration is not, and
+ * is guarded by the owning config.
  *
  * @author TheDeathlyCow
  */
@@ -18,10 +24,10 @@ public class ConfigEntryRegistry {
     /**
      * Gets all entries in this registry.
      *
-     * @return Returns an unmodifiable collection of config keys.
+     * @return Returns an unmodifiable collection of config keys, in slot order.
      */
     public Collection<ConfigEntry<?>> getEntries() {
-        return Collections.unmodifiableCollection(entries.values());
+        return Collections.unmodifiableList(Arrays.asList(bySlot).subList(0, size));
     }
 
     /**
@@ -32,7 +38,55 @@ public class ConfigEntryRegistry {
      */
     @Nullable
     public ConfigEntry<?> getEntry(String name) {
-        return entries.get(name);
+        Integer slot = slots.get(name);
+        return slot != null ? bySlot[slot] : null;
+    }
+
+    /**
+     * Gets the config entry registered at a slot.
+     *
+     * @param slot Slot of the entry.
+     * @return Returns the entry at the slot.
+     * @throws IndexOutOfBoundsException Thrown if no entry is registered at the slot.
+     */
+    public ConfigEntry<?> getEntry(int slot) {
+        if (slot >= size) {
+            throw new IndexOutOfBoundsException(slot);
+        }
+        return bySlot[slot];
+    }
+
+    /**
+     * Finds the slot of an entry in this registry. If the entry was registered
+     * at the slot it has claimed, this is a single array load.
+     *
+     * @param configEntry Entry to find.
+     * @return Returns the slot of the entry, or -1 if it is not registered.
+     */
+    public int getSlot(ConfigEntry<?> configEntry) {
+        int slot = configEntry.getSlot();
+        if (slot >= 0 && slot < size && bySlot[slot] == configEntry) {
+            return slot;
+        }
+        return findSlot(configEntry);
+    }
+
+    /**
+     * Gets the slot of the entry registered under a name.
+     *
+     * @param name Name of the entry.
+     * @return Returns the slot of the entry, or -1 if no entry has that name.
+     */
+    public int getSlot(String name) {
+        Integer slot = slots.get(name);
+        return slot != null ? slot : -1;
+    }
+
+    /**
+     * @return Returns the number of registered entries.
+     */
+    public int size() {
+        return size;
     }
 
     /**
@@ -40,18 +94,53 @@ public class ConfigEntryRegistry {
      *
      * @param configEntry Entry to be added
      * @param <T> Type of the value that the config entry stores.
+     * @return Returns the slot assigned to the entry.
      * @throws IllegalArgumentException Thrown if the entry is already registered.
      */
-    public <T> void register(ConfigEntry<T> configEntry) {
-        if (!entries.containsKey(configEntry.getName())) {
-            entries.put(configEntry.getName(), configEntry);
+    public <T> int register(ConfigEntry<T> configEntry) {
+        if (!slots.containsKey(configEntry.getName())) {
+            int slot = size++;
+            if (slot == bySlot.length) {
+                bySlot = Arrays.copyOf(bySlot, slot * 2);
+            }
+            bySlot[slot] = configEntry;
+            slots.put(configEntry.getName(), slot);
+            configEntry.claimSlot(slot);
+            return slot;
         } else {
             throw new IllegalArgumentException("Config entry " + configEntry.getName() + " already registered!");
         }
     }
 
     /**
-     * Config key registry.
+     * Gets the backing slot table. Registration only ever appends to the table or
+     * replaces it with a larger copy, so the first {@link #size()} entries of a
+     * returned table never change.
+     */
+    ConfigEntry<?>[] getSlotTable() {
+        return bySlot;
+    }
+
+    /**
+     * Slow path of {@link #getSlot(ConfigEntry)}, for entries that have claimed
+     * a slot in a different registry.
+     */
+    private int findSlot(ConfigEntry<?> configEntry) {
+        Integer slot = slots.get(configEntry.getName());
+        if (slot != null && bySlot[slot].equals(configEntry)) {
+            return slot;
+        }
+        return -1;
+    }
+
+    /**
+     * Slot index of each registered entry, by name.
+     */
+    private final Map<String, Integer> slots = new ConcurrentHashMap<>();
+
+    /**
+     * Registered entries, by slot.
      */
-    private final Map<String, ConfigEntry<?>> entries = new HashMap<>();
+    private ConfigEntry<?>[] bySlot = new ConfigEntry<?>[8];
+    private int size = 0;
 }
@@ -0,0 +1,169 @@
+package com.github.thedeathlycow.simple.config;
+
+import com.github.thedeathlycow.simple.config.entry.ConfigEntry;
+import com.github.thedeathlycow.simple.config.reload.ParallelReload;
+import com.github.thedeathlycow.simple.config.reload.ReloadEvent;
+import com.github.thedeathlycow.simple.config.reload.ReloadResult;
+import com.github.thedeathlycow.simple.config.reload.Reloadable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Keeps track of every config of an application, by {@link Identifier}, together with the
+ * {@link Reloadable} that loads it. Lookups and registration are safe from any thread.
+ * <p>
+ * At startup, {@link #loadAll(Executor)} loads every registered config in parallel, so boot
+ * time grows with the slowest config rather than with the number of configs.
+ *
+ * @author TheDeathlyCow
+ */
+public class ConfigManager {
+
+    /**
+     * Creates a manager with no configs.
+     *
+     * @param parentDirectory The parent directory of the configs created by this manager.
+     */
+    public ConfigManager(@NotNull Path parentDirectory) {
+        this.parentDirectory = parentDirectory;
+    }
+
+    /**
+     * Creates a config in the parent directory of this manager, and registers it.
+     *
+     * @param namespace Namespace of the artefact creating the config.
+     * @param configName The name of the config.
+     * @param entries The starting keys of this config.
+     * @return Returns the new config.
+     * @throws IllegalArgumentException Thrown if a config with the same identifier is already registered.
+     */
+    public Config createConfig(String namespace, String configName, ConfigEntry<?>... entries) {
+        Config config = ConfigFactory.createConfigWithKeys(namespace, configName, parentDirectory, entries);
+        this.register(config);
+        return config;
+    }
+
+    /**
+     * Registers a config with this manager.
+     *
+     * @param config Config to register.
+     * @return Returns the reloadable that loads the config.
+     * @throws IllegalArgumentException Thrown if a config with the same identifier is already registered.
+     */
+    public Reloadable register(Config config) {
+        Reloadable reloadable = new Reloadable(config);
+        if (configs.putIfAbsent(config.getIdentifer(), reloadable) != null) {
+            throw new IllegalArgumentException("Attempted to register duplicate config " + config.getIdentifer());
+        }
+        return reloadable;
+    }
+
+    /**
+     * Removes a config from this manager. Reload events the config was added to are not changed.
+     *
+     * @param identifier Identifier of the config.
+     * @return Returns the config that was removed, or null if there was none.
+     */
+    @Nullable
+    public Config unregister(Identifier identifier) {
+        Reloadable reloadable = configs.remove(identifier);
+        return reloadable != null ? reloadable.getConfig() : null;
+    }
+
+    /**
+     * @param identifier Identifier of the config.
+     * @return Returns the config registered under the identifier, or null if there is none.
+     */
+    @Nullable
+    public Config getConfig(Identifier identifier) {
+        Reloadable reloadable = configs.get(identifier);
+        return reloadable != null ? reloadable.getConfig() : null;
+    }
+
+    /**
+     * @param identifier Identifier of the config.
+     * @return Returns the reloadable of the config registered under the identifier, or null if there is none.
+     */
+    @Nullable
+    public Reloadable getReloadable(Identifier identifier) {
+        return configs.get(identifier);
+    }
+
+    /**
+     * @return Returns an unmodifiable view of the identifiers of the registered configs.
+     */
+    public Collection<Identifier> getIdentifiers() {
+        return Collections.unmodifiableSet(configs.keySet());
+    }
+
+    /**
+     * @return Returns the number of registered configs.
+     */
+    public int size() {
+        return configs.size();
+    }
+
+    /**
+     * Adds the reloadable of every registered config to a reload event. Configs registered
+     * later must be added again.
+     *
+     * @param event Event to add the listeners to.
+     */
+    public void addReloadListeners(ReloadEvent event) {
+        for (Reloadable reloadable : configs.values()) {
+            event.addListener(reloadable);
+        }
+    }
+
+    /**
+     * Loads every registered config in parallel on an executor. Configs without a file
+     * keep their current values. Failures are isolated, as with {@link ReloadEvent#reload(Executor)}.
+     *
+     * @param executor Executor to load the configs on.
+     * @return Returns a future that completes once every config has been loaded, with the
+     * outcome of each load. The future never completes exceptionally.
+     */
+    public CompletableFuture<List<ReloadResult>> loadAll(Executor executor) {
+        return ParallelReload.run(configs.values(), executor, ConfigManager::load);
+    }
+
+    /**
+     * Loads every registered config in parallel on the common pool, and waits for them all.
+     *
+     * @return Returns the outcome of loading each config.
+     * @see #loadAll(Executor)
+     */
+    public List<ReloadResult> loadAll() {
+        return this.loadAll(ForkJoinPool.commonPool()).join();
+    }
+
+    public Path getParentDirectory() {
+        return parentDirectory;
+    }
+
+    private static void load(Reloadable reloadable) throws IOException {
+        if (Files.exists(reloadable.getConfig().getLocation().toPath())) {
+            reloadable.reload();
+        }
+    }
+
+    @NotNull
+    private final Path parentDirectory;
+
+    /**
+     * Reloadable of each registered config, by identifier.
+     */
+    private final Map<Identifier, Reloadable> configs = new ConcurrentHashMap<>();
+}
@@ -0,0 +1,651 @@
+package com.github.thedeathlycow.simple.config;
+
+import com.github.thedeathlycow.simple.config.codec.RawJson;
+import com.github.thedeathlycow.simple.config.entry.BooleanEntry;
+import com.github.thedeathlycow.simple.config.entry.ByteEntry;
+import com.github.thedeathlycow.simple.config.entry.ConfigEntry;
+import com.github.thedeathlycow.simple.config.entry.DoubleEntry;
+import com.github.thedeathlycow.simple.config.entry.EnumEntry;
+import com.github.thedeathlycow.simple.config.entry.FloatEntry;
+import com.github.thedeathlycow.simple.config.entry.IntegerEntry;
+import com.github.thedeathlycow.simple.config.entry.ShortEntry;
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An immutable set of values for every entry of a {@link Config}. A config
+ * publishes a new snapshot each time its values change, so reading several values
+ * from the same snapshot always gives a consistent view, even while the config is
+ * being reloaded on another thread.
+ * <p>
+ * Snapshots are created through a {@link Builder}, which is filled in off to the side
+ * and then published with {@link Config#publish(ConfigSnapshot)}.
+ *
+ * @author TheDeathlyCow
+ */
+public final class ConfigSnapshot {
+
+    /**
+     * Creates a snapshot over arrays that will not be written to again below <code>size</code>.
+     */
+    ConfigSnapshot(@NotNull ConfigEntryRegistry registry, ConfigEntry<?>[] slotTable, int size, Object[] values, long[] bits) {
+        this.registry = registry;
+        this.slotTable = slotTable;
+        this.size = size;
+        this.values = values;
+        this.bits = bits;
+    }
+
+    /**
+     * Gets the value of an entry.
+     *
+     * @param entry The entry in the config to get the value of.
+     * @param <T> The type of object stored at that entry.
+     * @return Returns the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of this snapshot.
+     */
+    public <T> T get(ConfigEntry<T> entry) {
+        int slot = this.getSlot(entry);
+        if (slot >= 0) {
+            return entry.adapt(resolve(this.values[slot]));
+        } else {
+            throw new IllegalArgumentException("Cannot get value of " + entry + " as it does not exist in config");
+        }
+    }
+
+    /**
+     * Gets the value of a derived entry. The value was computed when this snapshot was
+     * published, so this does not call the entry's function.
+     *
+     * @param entry The derived entry to get the value of.
+     * @param <T> The type of the derived value.
+     * @return Returns the derived value.
+     * @throws IllegalArgumentException Thrown if the entry had not been added to the config
+     * when this snapshot was published, or this snapshot has not been published.
+     * @throws IllegalStateException Thrown if the entry's function threw when computing the value.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(DerivedEntry<T> entry) {
+        Derivations derivations = this.derivations;
+        int index = derivations != null ? derivations.indexOf(entry) : -1;
+        if (index < 0) {
+            throw new IllegalArgumentException("Cannot get value of " + entry + " as it was not added to config");
+        }
+        Object value = derivations.values[index];
+        if (value instanceof DerivationFailure failure) {
+            throw new IllegalStateException("Could not compute derived entry " + entry.getName(), failure.cause());
+        }
+        return (T) value;
+    }
+
+    /**
+     * Gets the value of an integer entry without boxing.
+     *
+     * @param entry The entry in the config to get the value of.
+     * @return Returns the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of this snapshot.
+     */
+    public int getInt(IntegerEntry entry) {
+        return (int) this.bits[this.getSlotOrThrow(entry)];
+    }
+
+    /**
+     * Gets the value of a short entry without boxing.
+     *
+     * @param entry The entry in the config to get the value of.
+     * @return Returns the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of this snapshot.
+     */
+    public short getShort(ShortEntry entry) {
+        return (short) this.bits[this.getSlotOrThrow(entry)];
+    }
+
+    /**
+     * Gets the value of a byte entry without boxing.
+     *
+     * @param entry The entry in the config to get the value of.
+     * @return Returns the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of this snapshot.
+     */
+    public byte getByte(ByteEntry entry) {
+        return (byte) this.bits[this.getSlotOrThrow(entry)];
+    }
+
+    /**
+     * Gets the value of a double entry without boxing.
+     *
+     * @param entry The entry in the config to get the value of.
+     * @return Returns the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of this snapshot.
+     */
+    public double getDouble(DoubleEntry entry) {
+        return Double.longBitsToDouble(this.bits[this.getSlotOrThrow(entry)]);
+    }
+
+    /**
+     * Gets the value of a float entry without boxing.
+     *
+     * @param entry The entry in the config to get the value of.
+     * @return Returns the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of this snapshot.
+     */
+    public float getFloat(FloatEntry entry) {
+        return Float.intBitsToFloat((int) this.bits[this.getSlotOrThrow(entry)]);
+    }
+
+    /**
+     * Gets the value of a boolean entry without boxing.
+     *
+     * @param entry The entry in the config to get the value of.
+     * @return Returns the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of this snapshot.
+     */
+    public boolean getBoolean(BooleanEntry entry) {
+        return this.bits[this.getSlotOrThrow(entry)] != 0L;
+    }
+
+    /**
+     * Gets the ordinal of the value of an enum entry, without looking up the constant.
+     *
+     * @param entry The entry in the config to get the value of.
+     * @return Returns the ordinal of the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of this snapshot.
+     */
+    public int getOrdinal(EnumEntry<?> entry) {
+        return (int) this.bits[this.getSlotOrThrow(entry)];
+    }
+
+    /**
+     * Gets the raw JSON of a {@link ConfigEntry#isLazy() lazy} entry whose value has not
+     * been read yet.
+     *
+     * @param entry The entry in the config to get the raw JSON of.
+     * @return Returns the raw JSON of the value, or null if the value has been read, or was
+     * not set from JSON.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of this snapshot.
+     */
+    @ApiStatus.Internal
+    @Nullable
+    public String getLazyJson(ConfigEntry<?> entry) {
+        Object value = this.values[this.getSlotOrThrow(entry)];
+        return value instanceof LazyValue<?> lazy ? lazy.getJson() : null;
+    }
+
+    /**
+     * @return Returns the number of entries in this snapshot.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Returns an unmodifiable list of the entries in this snapshot, in slot order.
+     */
+    public List<ConfigEntry<?>> getEntries() {
+        return Collections.unmodifiableList(Arrays.asList(this.slotTable).subList(0, this.size));
+    }
+
+    /**
+     * Writes this snapshot as a JSON config file. The JSON is only serialized once
+     * per snapshot, so repeated writes of the same snapshot just copy bytes.
+     *
+     * @param out Stream to write the JSON to.
+     * @throws IOException Thrown if the stream could not be written to.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(this.serialize());
+    }
+
+    /**
+     * Creates a builder that starts with the values of this snapshot.
+     *
+     * @return Returns a new builder.
+     */
+    public Builder toBuilder() {
+        return new Builder(this.registry, this.slotTable, this.size, this.values, this.bits);
+    }
+
+    /**
+     * Finds the slot of an entry in this snapshot. If the entry was registered at
+     * the slot it has claimed, this is a single array load.
+     *
+     * @return Returns the slot of the entry, or -1 if it is not part of this snapshot.
+     */
+    int getSlot(ConfigEntry<?> entry) {
+        return findSlot(this.registry, this.slotTable, this.size, entry);
+    }
+
+    /**
+     * Finds the slot of an entry in this snapshot.
+     *
+     * @throws IllegalArgumentException Thrown if the entry is not part of this snapshot.
+     */
+    int getSlotOrThrow(ConfigEntry<?> entry) {
+        int slot = this.getSlot(entry);
+        if (slot < 0) {
+            StringBuilder msg = new StringBuilder("Attempted to access entry " + entry + " which does not exist in config!");
+            msg.append(" Config has keys:\n");
+            for (int i = 0; i < this.size; i++) {
+                msg.append(" - ");
+                msg.append(this.slotTable[i].getName());
+                msg.append("\n");
+            }
+            throw new IllegalArgumentException(msg.toString());
+        }
+        return slot;
+    }
+
+    /**
+     * Serializes this snapshot to JSON through each of its entries, in slot order.
+     * The result is cached, and must not be modified.
+     *
+     * @return Returns the UTF-8 bytes of the JSON object.
+     */
+    byte[] serialize() {
+        byte[] serialized = this.serialized;
+        if (serialized == null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (JsonWriter writer = RawJson.newWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+                writer.setIndent("  ");
+                writer.beginObject();
+                for (int slot = 0; slot < this.size; slot++) {
+                    this.writeEntry(writer, this.slotTable[slot], slot);
+                }
+                writer.endObject();
+            } catch (IOException e) {
+                // not thrown by an in-memory stream
+                throw new UncheckedIOException(e);
+            }
+            serialized = out.toByteArray();
+            this.serialized = serialized;
+        }
+        return serialized;
+    }
+
+    private <T> void writeEntry(JsonWriter writer, ConfigEntry<T> entry, int slot) throws IOException {
+        writer.name(entry.getName());
+        entry.write(writer, entry.adapt(resolve(this.values[slot])));
+    }
+
+    ConfigEntryRegistry getRegistry() {
+        return registry;
+    }
+
+    ConfigEntry<?> getEntry(int slot) {
+        return slotTable[slot];
+    }
+
+    /**
+     * Gets the value at a slot, deserializing it first if it is lazy.
+     */
+    Object getValue(int slot) {
+        return resolve(values[slot]);
+    }
+
+    /**
+     * Gets the value stored at a slot, which may be a {@link LazyValue} that has not been resolved.
+     */
+    Object getStored(int slot) {
+        return values[slot];
+    }
+
+    long getBits(int slot) {
+        return bits[slot];
+    }
+
+    /**
+     * Creates a snapshot with one more entry, set to its default value. The new entry must
+     * be the last one registered, right after the entries of this snapshot. The value arrays
+     * are shared with this snapshot when they have room, as this snapshot never reads past
+     * its own size.
+     */
+    <T> ConfigSnapshot withEntry(int slot, ConfigEntry<T> entry) {
+        Object[] values = this.values;
+        long[] bits = this.bits;
+        if (slot >= values.length) {
+            int length = Math.max(slot + 1, values.length * 2);
+            values = Arrays.copyOf(values, length);
+            bits = Arrays.copyOf(bits, length);
+        }
+        T defaultValue = entry.getDefaultValue();
+        values[slot] = defaultValue;
+        bits[slot] = entry.toBits(defaultValue);
+        return new ConfigSnapshot(this.registry, this.registry.getSlotTable(), slot + 1, values, bits);
+    }
+
+    /**
+     * Computes the derived values of this snapshot, reusing the values of the previous
+     * snapshot for entries whose sources have not changed. Does nothing if this snapshot
+     * already has values for the same derived entries. Must be called by the config
+     * before publishing this snapshot, while holding its lock.
+     *
+     * @param entries Derived entries of the config, which must not be modified afterward.
+     * @param previous The snapshot being replaced, or null if there is none.
+     */
+    void derive(DerivedEntry<?>[] entries, @Nullable ConfigSnapshot previous) {
+        Derivations current = this.derivations;
+        if (current != null && current.entries == entries) {
+            return;
+        }
+        Derivations reuse = previous != null ? previous.derivations : null;
+        Object[] values = new Object[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            DerivedEntry<?> entry = entries[i];
+            int previousIndex = reuse != null ? reuse.indexOf(entry) : -1;
+            if (previousIndex >= 0 && this.sourcesMatch(entry, previous)) {
+                values[i] = reuse.values[previousIndex];
+            } else {
+                values[i] = compute(entry, this);
+            }
+        }
+        this.derivations = new Derivations(entries, values);
+    }
+
+    /**
+     * Checks if every source of a derived entry has the same value in this and another snapshot.
+     */
+    private boolean sourcesMatch(DerivedEntry<?> entry, ConfigSnapshot other) {
+        for (ConfigEntry<?> source : entry.getSources()) {
+            int slot = this.getSlot(source);
+            if (slot < 0 || slot >= other.size) {
+                return false;
+            }
+            Object value = this.values[slot];
+            Object otherValue = other.values[slot];
+            if (this.bits[slot] != other.bits[slot] || (value != otherValue && !Objects.equals(value, otherValue))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Object compute(DerivedEntry<?> entry, ConfigSnapshot snapshot) {
+        try {
+            return entry.compute(snapshot);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Could not compute derived entry " + entry.getName(), e);
+            return new DerivationFailure(e);
+        }
+    }
+
+    private static int findSlot(ConfigEntryRegistry registry, ConfigEntry<?>[] slotTable, int size, ConfigEntry<?> entry) {
+        int slot = entry.getSlot();
+        if (slot >= 0 && slot < size && slotTable[slot] == entry) {
+            return slot;
+        }
+        slot = registry.getSlot(entry.getName());
+        if (slot >= 0 && slot < size && slotTable[slot].equals(entry)) {
+            return slot;
+        }
+        return -1;
+    }
+
+    /**
+     * Unwraps a stored value, deserializing it first if it is a {@link LazyValue}.
+     */
+    private static Object resolve(Object value) {
+        return value instanceof LazyValue<?> lazy ? lazy.get() : value;
+    }
+
+    static IllegalArgumentException invalidValue(ConfigEntry<?> entry, Object value) {
+        return new IllegalArgumentException("Invalid value of " + value + " for config entry " + entry.getName());
+    }
+
+    /**
+     * Collects values for a new {@link ConfigSnapshot}. Builders are not thread safe,
+     * but building a snapshot does not affect any config until it is published.
+     * A builder can only be built once.
+     */
+    public static final class Builder {
+
+        Builder(ConfigEntryRegistry registry, ConfigEntry<?>[] slotTable, int size, Object[] values, long[] bits) {
+            this.registry = registry;
+            this.slotTable = slotTable;
+            this.size = size;
+            this.values = Arrays.copyOf(values, size);
+            this.bits = Arrays.copyOf(bits, size);
+        }
+
+        /**
+         * Sets a new value for an entry, if the value is valid for that entry.
+         *
+         * @param entry Entry to set the new value of.
+         * @param value Value to be set if valid.
+         * @param <T> Type of object stored at the entry.
+         * @param <V> Type of the value, must extend the type of the value stored at the entry.
+         * @return Returns this builder.
+         * @throws IllegalArgumentException Thrown if <code>entry</code> is not a valid
+         * entry in the config
+         * @throws IllegalArgumentException Thrown if <code>value</code> is not valid
+         */
+        public <T, V extends T> Builder set(ConfigEntry<T> entry, V value) {
+            int slot = this.getSlotOrThrow(entry);
+            if (entry.isValid(value)) {
+                this.store(slot, entry, value);
+            } else {
+                throw invalidValue(entry, value);
+            }
+            return this;
+        }
+
+        /**
+         * Attempts to deserialize a json element into a value for an entry,
+         * then set that as the new value for that entry.
+         *
+         * @param entry Entry to set the new value of.
+         * @param jsonElement JSON element to be deserialized.
+         * @param <T> Type of object the entry stores.
+         * @return Returns this builder.
+         * @throws com.google.gson.JsonSyntaxException Thrown if the json element is not
+         * a valid representation of T.
+         * @throws IllegalArgumentException Thrown if <code>entry</code> is not a valid
+         * entry in the config
+         * @throws IllegalArgumentException Thrown if the value stored in <code>jsonElement</code>
+         * is not valid for the config entry.
+         */
+        public <T> Builder deserializeAndSet(ConfigEntry<T> entry, JsonElement jsonElement) {
+            return this.set(entry, entry.deserialize(jsonElement));
+        }
+
+        /**
+         * Sets the value of an entry to raw JSON, which is deserialized and validated the
+         * first time the value is read. If the JSON turns out not to be a valid value, the
+         * entry has its default value instead.
+         *
+         * @param entry Entry to set the new value of.
+         * @param json JSON of the new value.
+         * @param <T> Type of object the entry stores.
+         * @return Returns this builder.
+         * @throws IllegalArgumentException Thrown if <code>entry</code> is not a valid
+         * entry in the config
+         * @throws IllegalArgumentException Thrown if the entry is not {@link ConfigEntry#isLazy() lazy}.
+         */
+        public <T> Builder setLazy(ConfigEntry<T> entry, String json) {
+            int slot = this.getSlotOrThrow(entry);
+            if (!entry.isLazy()) {
+                throw new IllegalArgumentException("Entry " + entry.getName() + " is not lazy");
+            }
+            this.checkNotBuilt();
+            this.values[slot] = new LazyValue<>(entry, json);
+            this.bits[slot] = 0L;
+            return this;
+        }
+
+        /**
+         * Reads the next value of a JSON stream as raw JSON, without deserializing it,
+         * and sets it as the value of an entry. The stream is only checked to be well-formed.
+         *
+         * @param entry Entry to set the new value of.
+         * @param reader JSON reader positioned at the value to read.
+         * @param <T> Type of object the entry stores.
+         * @return Returns this builder.
+         * @throws IOException Thrown if the reader could not be read from.
+         * @throws com.google.gson.JsonSyntaxException Thrown if the value is not well-formed JSON.
+         * @throws IllegalArgumentException Thrown if the entry is not {@link ConfigEntry#isLazy() lazy}.
+         * @see #setLazy(ConfigEntry, String)
+         */
+        public <T> Builder readLazy(ConfigEntry<T> entry, JsonReader reader) throws IOException {
+            return this.setLazy(entry, RawJson.capture(reader));
+        }
+
+        /**
+         * Sets an entry back to its default value.
+         *
+         * @param entry Entry to reset.
+         * @return Returns this builder.
+         * @throws IllegalArgumentException Thrown if <code>entry</code> is not a valid
+         * entry in the config
+         */
+        public Builder reset(ConfigEntry<?> entry) {
+            this.storeDefault(this.getSlotOrThrow(entry), entry);
+            return this;
+        }
+
+        /**
+         * Creates a snapshot of the values in this builder.
+         *
+         * @return Returns the new snapshot.
+         * @throws IllegalStateException Thrown if this builder has already been built.
+         */
+        public ConfigSnapshot build() {
+            this.checkNotBuilt();
+            this.built = true;
+            return new ConfigSnapshot(registry, slotTable, size, values, bits);
+        }
+
+        /**
+         * Sets every entry back to its default value.
+         */
+        Builder resetAll() {
+            for (int slot = 0; slot < this.size; slot++) {
+                this.storeDefault(slot, this.slotTable[slot]);
+            }
+            return this;
+        }
+
+        /**
+         * Finds the slot of an entry in this builder.
+         *
+         * @return Returns the slot of the entry, or -1 if it is not part of this builder.
+         */
+        int getSlot(ConfigEntry<?> entry) {
+            return findSlot(this.registry, this.slotTable, this.size, entry);
+        }
+
+        /**
+         * Sets a value and its primitive bits at a slot, without checking validity.
+         */
+        <T> void store(int slot, ConfigEntry<T> entry, T value) {
+            this.checkNotBuilt();
+            this.values[slot] = value;
+            this.bits[slot] = entry.toBits(value);
+        }
+
+        void copy(int slot, ConfigSnapshot from, int fromSlot) {
+            this.checkNotBuilt();
+            this.values[slot] = from.values[fromSlot];
+            this.bits[slot] = from.bits[fromSlot];
+        }
+
+        private <T> void storeDefault(int slot, ConfigEntry<T> entry) {
+            this.store(slot, entry, entry.getDefaultValue());
+        }
+
+        private int getSlotOrThrow(ConfigEntry<?> entry) {
+            int slot = this.getSlot(entry);
+            if (slot < 0) {
+                throw new IllegalArgumentException("Attempted to access entry " + entry + " which does not exist in config!");
+            }
+            return slot;
+        }
+
+        private void checkNotBuilt() {
+            if (this.built) {
+                throw new IllegalStateException("Snapshot builder has already been built");
+            }
+        }
+
+        private final ConfigEntryRegistry registry;
+        private final ConfigEntry<?>[] slotTable;
+        private final int size;
+        private final Object[] values;
+        private final long[] bits;
+        private boolean built = false;
+    }
+
+    /**
+     * Derived values of a snapshot, by index in the derived entries of its config.
+     */
+    private record Derivations(DerivedEntry<?>[] entries, Object[] values) {
+
+        int indexOf(DerivedEntry<?> entry) {
+            int index = entry.getIndex();
+            if (index >= 0 && index < entries.length && entries[index] == entry) {
+                return index;
+            }
+            // entry has claimed an index in another config
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i] == entry) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Stands in for a derived value whose function threw.
+     */
+    private record DerivationFailure(RuntimeException cause) {
+    }
+
+    @NotNull
+    private final ConfigEntryRegistry registry;
+
+    /**
+     * Slot table of the registry at the time this snapshot was created.
+     */
+    private final ConfigEntry<?>[] slotTable;
+    private final int size;
+    private final Object[] values;
+    private final long[] bits;
+
+    /**
+     * Cached result of {@link #serialize()}. Threads may race to compute it, but all compute the same bytes.
+     */
+    private volatile byte[] serialized = null;
+
+    /**
+     * Derived values, set by the config that publishes this snapshot. Null until then.
+     */
+    @Nullable
+    private volatile Derivations derivations = null;
+
+    private static final Logger LOGGER = Logger.getLogger("Config");
+}
@@ -0,0 +1,38 @@
+package com.github.thedeathlycow.simple.config;
+
+/**
+ * Listens for new snapshots being published by a {@link Config}.
+ *
+ * @author TheDeathlyCow
+ * @see Config#addUpdateListener(ConfigUpdateListener)
+ */
+@FunctionalInterface
+public interface ConfigUpdateListener {
+
+    /**
+     * Called after a config has published a new snapshot, on one of the threads writing to it.
+     * Listeners are not called while the config is locked, so <code>current</code> may already
+     * have been replaced by the time a listener sees it. Updates are still delivered one at a
+     * time, in the order they were published, and the method that published a snapshot does
+     * not return until its listeners have been called. A listener must therefore not block on
+     * another thread that writes to the same config.
+     *
+     * @param config The config that was updated.
+     * @param previous The snapshot that was replaced.
+     * @param current The snapshot that was published.
+     */
+    void onUpdate(Config config, ConfigSnapshot previous, ConfigSnapshot current);
+
+    /**
+     * Called after a config has published a new snapshot, with the reason it was published. By default, calls {@link #onUpdate(Config, ConfigSnapshot, ConfigSnapshot)}.
+     *
+     * @param config The config that was updated.
+     * @param previous The snapshot that was replaced.
+     * @param current The snapshot that was published.
+     * @param cause Why the snapshot was published.
+     */
+    default void onUpdate(Config config, ConfigSnapshot previous, ConfigSnapshot current, UpdateCause cause) {
+        this.onUpdate(config, previous, current);
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.github.thedeathlycow.simple.config;
+
+import com.github.thedeathlycow.simple.config.entry.ConfigEntry;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A value that is computed from the values of other entries of a config, such as a
+ * compiled pattern or a lookup table built from a list. Derived values are not stored in
+ * the config file.
+ * <p>
+ * Once added to a config with {@link Config#addDerivedEntry(DerivedEntry)}, the value is
+ * computed when a snapshot is published, and kept in that snapshot, so reading it costs the
+ * same as reading a plain value. Publishing a snapshot in which none of the sources changed
+ * reuses the value of the previous snapshot instead of computing it again. A source counts as
+ * unchanged if its value is the same object as before, or is equal to it.
+ * <p>
+ * The function must be pure: it may only depend on the values of its sources. It is called
+ * while the config is locked for writing, so it should be cheap, and must not modify the config.
+ *
+ * @param <T> Type of the derived value.
+ * @author TheDeathlyCow
+ */
+public final class DerivedEntry<T> {
+
+    /**
+     * Creates a derived entry from any number of sources.
+     *
+     * @param name Name of the derived entry, unique among the derived entries of a config.
+     * @param function Computes the value from a snapshot. Must only read the sources.
+     * @param sources The entries the value is computed from.
+     */
+    public DerivedEntry(@NotNull String name, @NotNull Function<ConfigSnapshot, ? extends T> function, ConfigEntry<?>... sources) {
+        this.name = name;
+        this.function = function;
+        this.sources = List.of(sources);
+    }
+
+    /**
+     * Creates a derived entry that is computed from a single source.
+     *
+     * @param name Name of the derived entry.
+     * @param source The entry the value is computed from.
+     * @param function Computes the value from the value of the source.
+     * @param <A> Type of the source.
+     * @param <T> Type of the derived value.
+     * @return Returns a new derived entry.
+     */
+    public static <A, T> DerivedEntry<T> of(@NotNull String name, ConfigEntry<A> source,
+                                            Function<? super A, ? extends T> function) {
+        return new DerivedEntry<>(name, snapshot -> function.apply(snapshot.get(source)), source);
+    }
+
+    /**
+     * Creates a derived entry that is computed from two sources.
+     *
+     * @param name Name of the derived entry.
+     * @param first The first entry the value is computed from.
+     * @param second The second entry the value is computed from.
+     * @param function Computes the value from the values of the sources.
+     * @param <A> Type of the first source.
+     * @param <B> Type of the second source.
+     * @param <T> Type of the derived value.
+     * @return Returns a new derived entry.
+     */
+    public static <A, B, T> DerivedEntry<T> of(@NotNull String name, ConfigEntry<A> first, ConfigEntry<B> second,
+                                               BiFunction<? super A, ? super B, ? extends T> function) {
+        return new DerivedEntry<>(name, snapshot -> function.apply(snapshot.get(first), snapshot.get(second)), first, second);
+    }
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Returns an unmodifiable list of the entries this value is computed from.
+     */
+    public List<ConfigEntry<?>> getSources() {
+        return sources;
+    }
+
+    /**
+     * Computes the value from a snapshot.
+     */
+    T compute(ConfigSnapshot snapshot) {
+        return this.function.apply(snapshot);
+    }
+
+    /**
+     * Gets the index this entry has claimed in the derived values of a config.
+     *
+     * @return Returns the claimed index, or -1 if this entry has not been added to a config.
+     */
+    int getIndex() {
+        return index;
+    }
+
+    /**
+     * Claims an index for this entry. Only the first claim is kept, as with
+     * {@link ConfigEntry#claimSlot(int)}.
+     */
+    void claimIndex(int index) {
+        if (this.index < 0) {
+            this.index = index;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DerivedEntry{" + name + " from " + sources + "}";
+    }
+
+    @NotNull
+    private final String name;
+    @NotNull
+    private final Function<ConfigSnapshot, ? extends T> function;
+    private final List<ConfigEntry<?>> sources;
+    private int index = -1;
+}
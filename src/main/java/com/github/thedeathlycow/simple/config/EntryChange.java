@@ -0,0 +1,17 @@
+package com.github.thedeathlycow.simple.config;
+
+import com.github.thedeathlycow.simple.config.entry.ConfigEntry;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A change to the value of one entry of a config.
+ *
+ * @param entry The entry whose value changed.
+ * @param oldValue The value before the change.
+ * @param newValue The value after the change.
+ * @param <T> Type of the value.
+ * @author TheDeathlyCow
+ */
+public record EntryChange<T>(@NotNull ConfigEntry<T> entry, T oldValue, T newValue) {
+
+}
@@ -0,0 +1,21 @@
+package com.github.thedeathlycow.simple.config;
+
+/**
+ * Listens for the value of one entry of a {@link Config} changing.
+ *
+ * @param <T> Type of the value.
+ * @author TheDeathlyCow
+ * @see Config#addChangeListener(com.github.thedeathlycow.simple.config.entry.ConfigEntry, EntryChangeListener)
+ */
+@FunctionalInterface
+public interface EntryChangeListener<T> {
+
+    /**
+     * Called when a new snapshot is published in which the value of the entry has changed.
+     *
+     * @param oldValue The value before the change.
+     * @param newValue The value after the change.
+     */
+    void onChange(T oldValue, T newValue);
+
+}
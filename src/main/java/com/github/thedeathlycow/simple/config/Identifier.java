@@ -2,9 +2,7 @@ package com.github.thedeathlycow.simple.config;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.io.File;
 import java.nio.file.Path;
-import java.util.Objects;
 
 public record Identifier(@NotNull String namespace, @NotNull String name) {
 
@@ -19,7 +17,7 @@ public record Identifier(@NotNull String namespace, @NotNull String name) {
 
     @Override
     public String toString() {
-        return String.format("%s:%s", namespace, name);
+        return namespace + ":" + name;
     }
 
     @Override
@@ -32,7 +30,7 @@ public record Identifier(@NotNull String namespace, @NotNull String name) {
 
     @Override
     public int hashCode() {
-        return Objects.hash(namespace, name);
+        return 31 * namespace.hashCode() + name.hashCode();
     }
 
 }
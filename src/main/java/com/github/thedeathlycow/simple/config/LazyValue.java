@@ -0,0 +1,81 @@
+package com.github.thedeathlycow.simple.config;
+
+import com.github.thedeathlycow.simple.config.codec.RawJson;
+import com.github.thedeathlycow.simple.config.entry.ConfigEntry;
+import com.google.gson.JsonParseException;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.logging.Logger;
+
+/**
+ * The value of a lazy entry, held as raw JSON until it is first read. Stored in the
+ * value slots of a {@link ConfigSnapshot} in place of the value itself.
+ * <p>
+ * The value is deserialized and validated at most once, by whichever thread reads it
+ * first, and every thread sees the same result. A value that cannot be deserialized or is
+ * not valid is logged and replaced by the entry's default, just as a reload would have done.
+ *
+ * @param <T> Type of the value.
+ * @author TheDeathlyCow
+ */
+final class LazyValue<T> {
+
+    LazyValue(ConfigEntry<T> entry, String json) {
+        this.entry = entry;
+        this.json = json;
+    }
+
+    /**
+     * @return Returns the value, deserializing it if this is the first read.
+     */
+    T get() {
+        T value = this.value;
+        if (value == null) {
+            synchronized (this) {
+                value = this.value;
+                if (value == null) {
+                    value = this.resolve(this.json);
+                    this.value = value;
+                    this.json = null;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return Returns the raw JSON of the value, or null if it has already been deserialized.
+     */
+    @Nullable
+    String getJson() {
+        return this.value == null ? this.json : null;
+    }
+
+    private T resolve(String json) {
+        try {
+            T value = this.entry.read(RawJson.newReader(new StringReader(json)));
+            if (this.entry.isValid(value)) {
+                return value;
+            }
+            LOGGER.warning("Could not load config option '" + this.entry.getName() + "' with reason: "
+                    + ConfigSnapshot.invalidValue(this.entry, value).getMessage());
+        } catch (IOException | JsonParseException e) {
+            LOGGER.warning("Could not load config option '" + this.entry.getName() + "' with reason: " + e.getMessage());
+        }
+        return this.entry.getDefaultValue();
+    }
+
+    private final ConfigEntry<T> entry;
+
+    /**
+     * Raw JSON of the value, cleared once the value has been deserialized.
+     */
+    @Nullable
+    private volatile String json;
+    @Nullable
+    private volatile T value = null;
+
+    private static final Logger LOGGER = Logger.getLogger("Config");
+}
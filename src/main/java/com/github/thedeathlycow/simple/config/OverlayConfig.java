@@ -0,0 +1,466 @@
+package com.github.thedeathlycow.simple.config;
+
+import com.github.thedeathlycow.simple.config.entry.BooleanEntry;
+import com.github.thedeathlycow.simple.config.entry.ByteEntry;
+import com.github.thedeathlycow.simple.config.entry.ConfigEntry;
+import com.github.thedeathlycow.simple.config.entry.DoubleEntry;
+import com.github.thedeathlycow.simple.config.entry.EnumEntry;
+import com.github.thedeathlycow.simple.config.entry.FloatEntry;
+import com.github.thedeathlycow.simple.config.entry.IntegerEntry;
+import com.github.thedeathlycow.simple.config.entry.ShortEntry;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * A variant of a shared base {@link Config} that overrides some of its values, such as the
+ * config of one tenant out of thousands. An overlay has no entries or file of its own: it
+ * reads every value that it does not override from the current snapshot of its base, so
+ * reloading the base is seen by every overlay at once, without copying anything.
+ * <p>
+ * Overrides are stored sparsely, as a bitmap of the overridden slots of the base and a
+ * compact array holding only the overridden values. The memory used by an overlay grows
+ * with its number of overrides, not with the number of entries of the base. Reading a
+ * value checks one bit of the bitmap, then reads either the override or the base snapshot.
+ * <p>
+ * Like a config, overrides are replaced rather than modified, so reads never block. Each read
+ * from the overlay itself sees the latest base snapshot and overrides, so several reads are
+ * not guaranteed to be consistent with each other while the base is being reloaded. Reads
+ * that must be consistent should go through one {@link #snapshot()}.
+ *
+ * @author TheDeathlyCow
+ */
+public class OverlayConfig {
+
+    /**
+     * Creates an overlay with no overrides.
+     *
+     * @param base The config whose values are read when they are not overridden.
+     */
+    public OverlayConfig(@NotNull Config base) {
+        this.base = base;
+    }
+
+    /**
+     * Gets the value of an entry, either overridden or from the base.
+     *
+     * @param entry The entry in the base config to get the value of.
+     * @param <T> The type of object stored at that entry.
+     * @return Returns the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of the base config.
+     */
+    public <T> T get(ConfigEntry<T> entry) {
+        return getValue(this.base.snapshot(), this.overrides, entry);
+    }
+
+    /**
+     * Gets the value of an integer entry without boxing.
+     *
+     * @param entry The entry in the base config to get the value of.
+     * @return Returns the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of the base config.
+     */
+    public int getInt(IntegerEntry entry) {
+        return (int) this.getBits(entry);
+    }
+
+    /**
+     * Gets the value of a short entry without boxing.
+     *
+     * @param entry The entry in the base config to get the value of.
+     * @return Returns the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of the base config.
+     */
+    public short getShort(ShortEntry entry) {
+        return (short) this.getBits(entry);
+    }
+
+    /**
+     * Gets the value of a byte entry without boxing.
+     *
+     * @param entry The entry in the base config to get the value of.
+     * @return Returns the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of the base config.
+     */
+    public byte getByte(ByteEntry entry) {
+        return (byte) this.getBits(entry);
+    }
+
+    /**
+     * Gets the value of a double entry without boxing.
+     *
+     * @param entry The entry in the base config to get the value of.
+     * @return Returns the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of the base config.
+     */
+    public double getDouble(DoubleEntry entry) {
+        return Double.longBitsToDouble(this.getBits(entry));
+    }
+
+    /**
+     * Gets the value of a float entry without boxing.
+     *
+     * @param entry The entry in the base config to get the value of.
+     * @return Returns the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of the base config.
+     */
+    public float getFloat(FloatEntry entry) {
+        return Float.intBitsToFloat((int) this.getBits(entry));
+    }
+
+    /**
+     * Gets the value of a boolean entry without boxing.
+     *
+     * @param entry The entry in the base config to get the value of.
+     * @return Returns the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of the base config.
+     */
+    public boolean getBoolean(BooleanEntry entry) {
+        return this.getBits(entry) != 0L;
+    }
+
+    /**
+     * Gets the ordinal of the value of an enum entry, without looking up the constant.
+     *
+     * @param entry The entry in the base config to get the value of.
+     * @return Returns the ordinal of the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of the base config.
+     */
+    public int getOrdinal(EnumEntry<?> entry) {
+        return (int) this.getBits(entry);
+    }
+
+    /**
+     * Overrides the value of an entry in this overlay. The base is not changed.
+     *
+     * @param entry Entry to override the value of.
+     * @param value Value to be set if valid.
+     * @param <T> Type of object stored at the entry.
+     * @param <V> Type of the value, must extend the type of the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if <code>entry</code> is not a valid
+     * entry in the base config
+     * @throws IllegalArgumentException Thrown if <code>value</code> is not valid
+     */
+    public <T, V extends T> void setValue(ConfigEntry<T> entry, V value) {
+        int slot = this.base.snapshot().getSlotOrThrow(entry);
+        if (!entry.isValid(value)) {
+            throw ConfigSnapshot.invalidValue(entry, value);
+        }
+        long bits = entry.toBits(value);
+        synchronized (this) {
+            this.overrides = this.overrides.with(slot, value, bits);
+        }
+    }
+
+    /**
+     * Removes the override of an entry, so that its value is read from the base again.
+     *
+     * @param entry Entry to remove the override of.
+     * @return Returns true if the entry was overridden.
+     * @throws IllegalArgumentException Thrown if <code>entry</code> is not a valid
+     * entry in the base config
+     */
+    public boolean clearOverride(ConfigEntry<?> entry) {
+        int slot = this.base.snapshot().getSlotOrThrow(entry);
+        synchronized (this) {
+            if (!this.overrides.contains(slot)) {
+                return false;
+            }
+            this.overrides = this.overrides.without(slot);
+            return true;
+        }
+    }
+
+    /**
+     * Removes every override, so that all values are read from the base.
+     */
+    public synchronized void clearOverrides() {
+        this.overrides = Overrides.EMPTY;
+    }
+
+    /**
+     * @param entry Entry of the base config.
+     * @return Returns true if this overlay overrides the value of the entry.
+     * @throws IllegalArgumentException Thrown if <code>entry</code> is not a valid
+     * entry in the base config
+     */
+    public boolean isOverridden(ConfigEntry<?> entry) {
+        return this.overrides.contains(this.base.snapshot().getSlotOrThrow(entry));
+    }
+
+    /**
+     * @return Returns the number of entries this overlay overrides.
+     */
+    public int getOverrideCount() {
+        return this.overrides.values.length;
+    }
+
+    /**
+     * @return Returns the config whose values are read when they are not overridden.
+     */
+    @NotNull
+    public Config getBase() {
+        return base;
+    }
+
+    /**
+     * Pins the current snapshot of the base together with the current overrides, so that
+     * several values can be read as they were at one point in time. Neither later changes
+     * to the base nor to the overrides of this overlay are seen by the returned snapshot.
+     *
+     * @return Returns an immutable view of the current values of this overlay.
+     */
+    @NotNull
+    public Snapshot snapshot() {
+        return new Snapshot(this.base.snapshot(), this.overrides);
+    }
+
+    private long getBits(ConfigEntry<?> entry) {
+        return getBits(this.base.snapshot(), this.overrides, entry);
+    }
+
+    private static <T> T getValue(ConfigSnapshot snapshot, Overrides overrides, ConfigEntry<T> entry) {
+        int slot = snapshot.getSlotOrThrow(entry);
+        return entry.adapt(overrides.contains(slot) ? overrides.values[overrides.indexOf(slot)] : snapshot.getValue(slot));
+    }
+
+    private static long getBits(ConfigSnapshot snapshot, Overrides overrides, ConfigEntry<?> entry) {
+        int slot = snapshot.getSlotOrThrow(entry);
+        return overrides.contains(slot) ? overrides.bits[overrides.indexOf(slot)] : snapshot.getBits(slot);
+    }
+
+    /**
+     * The values of an overlay at one point in time: one snapshot of its base, together with
+     * the overrides that were current when it was taken. Safe to share between threads.
+     *
+     * @see #snapshot()
+     */
+    public static final class Snapshot {
+
+        private Snapshot(ConfigSnapshot base, Overrides overrides) {
+            this.base = base;
+            this.overrides = overrides;
+        }
+
+        /**
+         * Gets the value of an entry, either overridden or from the base.
+         *
+         * @param entry The entry in the base config to get the value of.
+         * @param <T> The type of object stored at that entry.
+         * @return Returns the value stored at the entry.
+         * @throws IllegalArgumentException Thrown if the entry is not
+         * part of the base config.
+         */
+        public <T> T get(ConfigEntry<T> entry) {
+            return getValue(this.base, this.overrides, entry);
+        }
+
+        /**
+         * Gets the value of an integer entry without boxing.
+         *
+         * @param entry The entry in the base config to get the value of.
+         * @return Returns the value stored at the entry.
+         * @throws IllegalArgumentException Thrown if the entry is not
+         * part of the base config.
+         */
+        public int getInt(IntegerEntry entry) {
+            return (int) getBits(this.base, this.overrides, entry);
+        }
+
+        /**
+         * Gets the value of a short entry without boxing.
+         *
+         * @param entry The entry in the base config to get the value of.
+         * @return Returns the value stored at the entry.
+         * @throws IllegalArgumentException Thrown if the entry is not
+         * part of the base config.
+         */
+        public short getShort(ShortEntry entry) {
+            return (short) getBits(this.base, this.overrides, entry);
+        }
+
+        /**
+         * Gets the value of a byte entry without boxing.
+         *
+         * @param entry The entry in the base config to get the value of.
+         * @return Returns the value stored at the entry.
+         * @throws IllegalArgumentException Thrown if the entry is not
+         * part of the base config.
+         */
+        public byte getByte(ByteEntry entry) {
+            return (byte) getBits(this.base, this.overrides, entry);
+        }
+
+        /**
+         * Gets the value of a double entry without boxing.
+         *
+         * @param entry The entry in the base config to get the value of.
+         * @return Returns the value stored at the entry.
+         * @throws IllegalArgumentException Thrown if the entry is not
+         * part of the base config.
+         */
+        public double getDouble(DoubleEntry entry) {
+            return Double.longBitsToDouble(getBits(this.base, this.overrides, entry));
+        }
+
+        /**
+         * Gets the value of a float entry without boxing.
+         *
+         * @param entry The entry in the base config to get the value of.
+         * @return Returns the value stored at the entry.
+         * @throws IllegalArgumentException Thrown if the entry is not
+         * part of the base config.
+         */
+        public float getFloat(FloatEntry entry) {
+            return Float.intBitsToFloat((int) getBits(this.base, this.overrides, entry));
+        }
+
+        /**
+         * Gets the value of a boolean entry without boxing.
+         *
+         * @param entry The entry in the base config to get the value of.
+         * @return Returns the value stored at the entry.
+         * @throws IllegalArgumentException Thrown if the entry is not
+         * part of the base config.
+         */
+        public boolean getBoolean(BooleanEntry entry) {
+            return getBits(this.base, this.overrides, entry) != 0L;
+        }
+
+        /**
+         * Gets the ordinal of the value of an enum entry, without looking up the constant.
+         *
+         * @param entry The entry in the base config to get the value of.
+         * @return Returns the ordinal of the value stored at the entry.
+         * @throws IllegalArgumentException Thrown if the entry is not
+         * part of the base config.
+         */
+        public int getOrdinal(EnumEntry<?> entry) {
+            return (int) getBits(this.base, this.overrides, entry);
+        }
+
+        /**
+         * @param entry Entry of the base config.
+         * @return Returns true if the value of the entry was overridden when this snapshot was taken.
+         * @throws IllegalArgumentException Thrown if <code>entry</code> is not a valid
+         * entry in the base config
+         */
+        public boolean isOverridden(ConfigEntry<?> entry) {
+            return this.overrides.contains(this.base.getSlotOrThrow(entry));
+        }
+
+        /**
+         * @return Returns the snapshot of the base config that values which are not overridden are read from.
+         */
+        @NotNull
+        public ConfigSnapshot getBase() {
+            return base;
+        }
+
+        @NotNull
+        private final ConfigSnapshot base;
+        @NotNull
+        private final Overrides overrides;
+    }
+
+    /**
+     * Overridden values, in slot order. A slot is overridden if its bit is set in the mask,
+     * and its value is at the index given by the number of overridden slots before it.
+     * That number is found from <code>ranks</code>, the number of overridden slots before
+     * each word of the mask, so reading an override costs the same for every slot.
+     */
+    private record Overrides(long[] mask, int[] ranks, Object[] values, long[] bits) {
+
+        /**
+         * Creates overrides, computing the ranks of a mask.
+         */
+        static Overrides of(long[] mask, Object[] values, long[] bits) {
+            int[] ranks = new int[mask.length];
+            int rank = 0;
+            for (int i = 0; i < mask.length; i++) {
+                ranks[i] = rank;
+                rank += Long.bitCount(mask[i]);
+            }
+            return new Overrides(mask, ranks, values, bits);
+        }
+
+        boolean contains(int slot) {
+            int word = slot >>> 6;
+            return word < mask.length && (mask[word] & (1L << slot)) != 0;
+        }
+
+        /**
+         * Counts the overridden slots before a slot, which is the index of its value.
+         */
+        int indexOf(int slot) {
+            int word = slot >>> 6;
+            return ranks[word] + Long.bitCount(mask[word] & ((1L << slot) - 1));
+        }
+
+        Overrides with(int slot, Object value, long valueBits) {
+            int index = this.insertionIndex(slot);
+            if (this.contains(slot)) {
+                Object[] values = this.values.clone();
+                long[] bits = this.bits.clone();
+                values[index] = value;
+                bits[index] = valueBits;
+                return new Overrides(mask, ranks, values, bits);
+            }
+            long[] mask = Arrays.copyOf(this.mask, Math.max(this.mask.length, (slot >>> 6) + 1));
+            mask[slot >>> 6] |= 1L << slot;
+            Object[] values = new Object[this.values.length + 1];
+            long[] bits = new long[this.bits.length + 1];
+            System.arraycopy(this.values, 0, values, 0, index);
+            System.arraycopy(this.bits, 0, bits, 0, index);
+            values[index] = value;
+            bits[index] = valueBits;
+            System.arraycopy(this.values, index, values, index + 1, this.values.length - index);
+            System.arraycopy(this.bits, index, bits, index + 1, this.bits.length - index);
+            return Overrides.of(mask, values, bits);
+        }
+
+        Overrides without(int slot) {
+            int index = this.indexOf(slot);
+            if (this.values.length == 1) {
+                return EMPTY;
+            }
+            long[] mask = this.mask.clone();
+            mask[slot >>> 6] &= ~(1L << slot);
+            Object[] values = new Object[this.values.length - 1];
+            long[] bits = new long[this.bits.length - 1];
+            System.arraycopy(this.values, 0, values, 0, index);
+            System.arraycopy(this.bits, 0, bits, 0, index);
+            System.arraycopy(this.values, index + 1, values, index, values.length - index);
+            System.arraycopy(this.bits, index + 1, bits, index, bits.length - index);
+            return Overrides.of(mask, values, bits);
+        }
+
+        /**
+         * Index at which the value of a slot is, or would be inserted. Unlike {@link #indexOf(int)},
+         * also works for slots past the end of the mask.
+         */
+        private int insertionIndex(int slot) {
+            return (slot >>> 6) < mask.length ? this.indexOf(slot) : this.values.length;
+        }
+
+        static final Overrides EMPTY = new Overrides(new long[0], new int[0], new Object[0], new long[0]);
+    }
+
+    @NotNull
+    private final Config base;
+
+    /**
+     * Replaced, never modified, whenever an override changes. Only written while holding
+     * the lock of this overlay.
+     */
+    @NotNull
+    private volatile Overrides overrides = Overrides.EMPTY;
+}
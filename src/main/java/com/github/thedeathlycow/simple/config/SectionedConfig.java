@@ -0,0 +1,211 @@
+package com.github.thedeathlycow.simple.config;
+
+import com.github.thedeathlycow.simple.config.entry.ConfigEntry;
+import com.github.thedeathlycow.simple.config.reload.ReloadEvent;
+import com.github.thedeathlycow.simple.config.reload.Reloadable;
+import com.google.gson.JsonParseException;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A config split into named sections, each of which is a {@link Config} with its own file.
+ * The file of a section is <code>namespace/name/section.json</code> under the parent
+ * directory, where a plain config would have used <code>namespace/name.json</code>.
+ * <p>
+ * Sections are loaded on demand: a section's file is only read the first time one of its
+ * entries, or the section itself, is accessed through this config. After that, each section
+ * is reloaded on its own when its file changes, so the cost of a reload is proportional to
+ * the section that changed rather than to the whole config. Reloads of sections that have
+ * not been loaded yet are skipped.
+ *
+ * @author TheDeathlyCow
+ */
+public class SectionedConfig {
+
+    /**
+     * Creates a sectioned config with no sections.
+     *
+     * @param identifier Identifier of the config.
+     * @param parentDirectory The parent directory of the config.
+     */
+    public SectionedConfig(@NotNull Identifier identifier, Path parentDirectory) {
+        this.identifier = identifier;
+        this.parentDirectory = parentDirectory;
+    }
+
+    /**
+     * Adds a section to this config. The section is not loaded until it is first accessed.
+     *
+     * @param name Name of the section, which is also the name of its file.
+     * @param entries The entries of the section.
+     * @return Returns the config of the new section. Reading from it directly does not load it.
+     * @throws IllegalArgumentException Thrown if the name is not a valid file name, if a section
+     * with the same name already exists, or if an entry is already part of another section.
+     */
+    public synchronized Config addSection(String name, ConfigEntry<?>... entries) {
+        if (name.isEmpty() || name.contains("/") || name.contains("\\") || name.equals(".") || name.equals("..")) {
+            throw new IllegalArgumentException("Invalid section name '" + name + "'");
+        }
+        if (sections.containsKey(name)) {
+            throw new IllegalArgumentException("Config " + identifier + " already has a section named '" + name + "'");
+        }
+        for (ConfigEntry<?> entry : entries) {
+            if (sectionsByEntry.containsKey(entry.getName())) {
+                throw new IllegalArgumentException("Attempted to add duplicate value " + entry + " to config " + identifier);
+            }
+        }
+
+        Config config = new Config(new Identifier(identifier.namespace(), identifier.name() + "/" + name), parentDirectory);
+        for (ConfigEntry<?> entry : entries) {
+            config.addEntry(entry);
+        }
+        Section section = new Section(config);
+        sections.put(name, section);
+        for (ConfigEntry<?> entry : entries) {
+            sectionsByEntry.put(entry.getName(), section);
+        }
+        return config;
+    }
+
+    /**
+     * Gets a section, loading it if it has not been loaded yet.
+     *
+     * @param name Name of the section.
+     * @return Returns the config of the section.
+     * @throws IllegalArgumentException Thrown if there is no section with the name.
+     */
+    public Config getSection(String name) {
+        Section section = sections.get(name);
+        if (section == null) {
+            throw new IllegalArgumentException("Config " + identifier + " has no section named '" + name + "'");
+        }
+        return section.load();
+    }
+
+    /**
+     * Gets the value of an entry, loading its section if it has not been loaded yet.
+     *
+     * @param entry The entry in the config to get the value of.
+     * @param <T> The type of object stored at that entry.
+     * @return Returns the value stored at the entry.
+     * @throws IllegalArgumentException Thrown if the entry is not
+     * part of any section of this config.
+     */
+    public <T> T get(ConfigEntry<T> entry) {
+        Section section = sectionsByEntry.get(entry.getName());
+        if (section == null) {
+            throw new IllegalArgumentException("Cannot get value of " + entry + " as it does not exist in config");
+        }
+        return section.load().get(entry);
+    }
+
+    /**
+     * @param name Name of the section.
+     * @return Returns true if the section exists and has been loaded.
+     */
+    public boolean isLoaded(String name) {
+        Section section = sections.get(name);
+        return section != null && section.loaded;
+    }
+
+    /**
+     * Adds a listener for each section to a reload event, so that each section reloads
+     * on its own. Sections added later must be registered again.
+     *
+     * @param event Event to add the listeners to.
+     */
+    public void addReloadListeners(ReloadEvent event) {
+        for (Section section : sections.values()) {
+            event.addListener(section.reloadable);
+        }
+    }
+
+    /**
+     * @return Returns an unmodifiable view of the names of the sections of this config.
+     */
+    public Set<String> getSectionNames() {
+        return Collections.unmodifiableSet(sections.keySet());
+    }
+
+    public Identifier getIdentifier() {
+        return identifier;
+    }
+
+    /**
+     * A section and whether it has been loaded.
+     */
+    private static final class Section {
+
+        Section(Config config) {
+            this.config = config;
+            this.reloadable = new SectionReloadable(this);
+        }
+
+        Config load() {
+            if (!this.loaded) {
+                synchronized (this) {
+                    if (!this.loaded) {
+                        this.reloadable.load();
+                        this.loaded = true;
+                    }
+                }
+            }
+            return this.config;
+        }
+
+        private final Config config;
+        private final SectionReloadable reloadable;
+        private volatile boolean loaded = false;
+    }
+
+    /**
+     * Reloads a section, but only once it has been loaded.
+     */
+    private static final class SectionReloadable extends Reloadable {
+
+        SectionReloadable(Section section) {
+            super(section.config);
+            this.section = section;
+        }
+
+        @Override
+        public synchronized void reload() throws IOException {
+            if (this.section.loaded) {
+                super.reload();
+            }
+        }
+
+        /**
+         * Loads the section for the first time. A section without a file keeps its default values.
+         */
+        synchronized void load() {
+            if (!Files.exists(this.getConfig().getLocation().toPath())) {
+                return;
+            }
+            try {
+                super.reload();
+            } catch (IOException | JsonParseException | IllegalStateException e) {
+                LOGGER.log(Level.SEVERE, "Error loading config section " + this.getConfig().getIdentifer() + ": " + e.getMessage());
+            }
+        }
+
+        private final Section section;
+    }
+
+    @NotNull
+    private final Identifier identifier;
+    private final Path parentDirectory;
+    private final Map<String, Section> sections = new ConcurrentHashMap<>();
+    private final Map<String, Section> sectionsByEntry = new ConcurrentHashMap<>();
+
+    private static final Logger LOGGER = Logger.getLogger("Config");
+}
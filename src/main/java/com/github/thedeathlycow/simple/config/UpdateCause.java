@@ -0,0 +1,26 @@
+package com.github.thedeathlycow.simple.config;
+
+/**
+ * Why a {@link Config} published a new snapshot.
+ *
+ * @author TheDeathlyCow
+ * @see ConfigUpdateListener#onUpdate(Config, ConfigSnapshot, ConfigSnapshot, UpdateCause)
+ */
+public enum UpdateCause {
+
+    /**
+     * Values were changed at runtime, by a setter, {@link Config#update(Config)},
+     * {@link Config#reset()} or {@link Config#publish(ConfigSnapshot)}.
+     */
+    RUNTIME,
+
+    /**
+     * Values were loaded from the config file.
+     */
+    RELOAD,
+
+    /**
+     * An entry or derived entry was added to the config.
+     */
+    SCHEMA
+}
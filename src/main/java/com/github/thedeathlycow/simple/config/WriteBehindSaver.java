@@ -0,0 +1,211 @@
+package com.github.thedeathlycow.simple.config;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Saves configs in the background after their values change at runtime.
+ * <p>
+ * Saving is opt-in: only configs that have been {@link #attach(Config) attached} are
+ * saved. A {@link UpdateCause#RUNTIME runtime} change marks its config as dirty, and the
+ * config is saved once the coalescing window after the first change has passed. Reloads
+ * and added entries do not mark a config as dirty, as the file already holds those values.
+ * Every change made during the window is written by that one
+ * {@link Config#save() atomic save}, so a burst of changes only writes the file once.
+ * <p>
+ * Dirty configs are also flushed when the saver is closed, and when the JVM shuts down.
+ * A save that fails is logged and retried after another window.
+ *
+ * @author TheDeathlyCow
+ */
+public class WriteBehindSaver implements Closeable {
+
+    /**
+     * Creates a saver that flushes dirty configs on a single daemon thread.
+     *
+     * @param window How long to wait after a config first becomes dirty before saving it.
+     */
+    public WriteBehindSaver(@NotNull Duration window) {
+        this.windowNanos = window.toNanos();
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ConfigWriteBehind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.shutdownHook = new Thread(this::flush, "ConfigWriteBehindShutdown");
+        Runtime.getRuntime().addShutdownHook(this.shutdownHook);
+    }
+
+    /**
+     * Starts saving a config whenever its values change. Values that changed before
+     * the config was attached are not saved until the next change.
+     *
+     * @param config Config to save.
+     * @throws IllegalArgumentException Thrown if the config is already attached.
+     */
+    public void attach(Config config) {
+        Tracked tracked = new Tracked(config);
+        if (this.tracked.putIfAbsent(config, tracked) != null) {
+            throw new IllegalArgumentException("Config " + config.getIdentifer() + " is already attached");
+        }
+        config.addUpdateListener(tracked);
+    }
+
+    /**
+     * Stops saving a config. If the config has unsaved changes, they are saved first.
+     *
+     * @param config Config to stop saving.
+     * @return Returns true if the config was attached.
+     */
+    public boolean detach(Config config) {
+        Tracked tracked = this.tracked.remove(config);
+        if (tracked == null) {
+            return false;
+        }
+        config.removeUpdateListener(tracked);
+        tracked.flush();
+        return true;
+    }
+
+    /**
+     * Saves every dirty config now, on the calling thread.
+     */
+    public void flush() {
+        for (Tracked tracked : this.tracked.values()) {
+            tracked.flush();
+        }
+    }
+
+    /**
+     * Checks if a config has changes that have not been saved yet.
+     *
+     * @param config Config to check.
+     * @return Returns true if the config is attached and dirty.
+     */
+    public boolean isDirty(Config config) {
+        Tracked tracked = this.tracked.get(config);
+        return tracked != null && tracked.dirty.get();
+    }
+
+    /**
+     * @return Returns the number of attached configs that have changes that have not been
+     * saved yet.
+     */
+    public int getPendingCount() {
+        int pending = 0;
+        for (Tracked tracked : this.tracked.values()) {
+            if (tracked.dirty.get()) {
+                pending++;
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * Gets how long the last successful save of a config took.
+     *
+     * @param config Config to check.
+     * @return Returns the latency of the last save, or null if the config is not
+     * attached or has not been saved yet.
+     */
+    @Nullable
+    public Duration getLastFlushLatency(Config config) {
+        Tracked tracked = this.tracked.get(config);
+        return tracked != null ? tracked.lastFlushLatency : null;
+    }
+
+    /**
+     * Stops the background thread and saves every dirty config. Changes made after
+     * the saver is closed are not saved.
+     */
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+        this.flush();
+        try {
+            Runtime.getRuntime().removeShutdownHook(this.shutdownHook);
+        } catch (IllegalStateException e) {
+            // already shutting down
+        }
+    }
+
+    private void schedule(Tracked tracked) {
+        try {
+            this.executor.schedule(tracked::flush, this.windowNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // closed
+        }
+    }
+
+    /**
+     * Dirty state of an attached config.
+     */
+    private final class Tracked implements ConfigUpdateListener {
+
+        Tracked(Config config) {
+            this.config = config;
+        }
+
+        @Override
+        public void onUpdate(Config config, ConfigSnapshot previous, ConfigSnapshot current) {
+            this.onUpdate(config, previous, current, UpdateCause.RUNTIME);
+        }
+
+        @Override
+        public void onUpdate(Config config, ConfigSnapshot previous, ConfigSnapshot current, UpdateCause cause) {
+            // reloads already match the file, and saving them would write back
+            // rejected values as defaults
+            if (cause != UpdateCause.RUNTIME) {
+                return;
+            }
+            // only the first change of a window schedules a flush
+            if (this.dirty.compareAndSet(false, true)) {
+                schedule(this);
+            }
+        }
+
+        synchronized void flush() {
+            if (!this.dirty.getAndSet(false)) {
+                return;
+            }
+            // changes from here on mark the config dirty again, and are either
+            // picked up by this save or by the flush they schedule
+            long start = System.nanoTime();
+            try {
+                this.config.save();
+                this.lastFlushLatency = Duration.ofNanos(System.nanoTime() - start);
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, "Error saving config " + this.config.getIdentifer()
+                        + ": " + e.getMessage());
+                if (this.dirty.compareAndSet(false, true)) {
+                    schedule(this);
+                }
+            }
+        }
+
+        private final Config config;
+        private final AtomicBoolean dirty = new AtomicBoolean(false);
+        @Nullable
+        private volatile Duration lastFlushLatency = null;
+    }
+
+    private final long windowNanos;
+    private final ScheduledExecutorService executor;
+    private final Thread shutdownHook;
+    private final Map<Config, Tracked> tracked = new ConcurrentHashMap<>();
+
+    private static final Logger LOGGER = Logger.getLogger("WriteBehindSaver");
+}
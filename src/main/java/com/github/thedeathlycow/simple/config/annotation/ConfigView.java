@@ -0,0 +1,32 @@
+package com.github.thedeathlycow.simple.config.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an interface as the typed view of a config. Every abstract method of the
+ * interface declares an {@link Entry}, whose type is the return type of the method.
+ * Supported types are <code>int</code>, <code>short</code>, <code>byte</code>,
+ * <code>double</code>, <code>float</code>, <code>boolean</code>, {@link String} and enums.
+ * <p>
+ * At compile time, the config view processor generates a final class in the same package
+ * that implements the interface. The generated class declares a constant for each entry,
+ * holds the value of each entry in a <code>final</code> field, and can be created from a
+ * {@link com.github.thedeathlycow.simple.config.ConfigSnapshot} or read straight from JSON.
+ * Reading a value is a plain field load, and nothing is done reflectively.
+ *
+ * @author TheDeathlyCow
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface ConfigView {
+
+    /**
+     * @return Returns the simple name of the generated class. Defaults to the name of
+     * the interface followed by <code>View</code>.
+     */
+    String className() default "";
+
+}
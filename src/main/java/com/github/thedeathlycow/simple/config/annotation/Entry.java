@@ -0,0 +1,40 @@
+package com.github.thedeathlycow.simple.config.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares an entry of a {@link ConfigView}. Values are given as strings that parse as the
+ * type of the method, such as <code>"10"</code> or <code>"true"</code>, and are checked when
+ * the view is generated. The default value must be within the bounds.
+ *
+ * @author TheDeathlyCow
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+public @interface Entry {
+
+    /**
+     * @return Returns the name of the entry. Defaults to the name of the method.
+     */
+    String name() default "";
+
+    /**
+     * @return Returns the default value of the entry. For enums, this is the name of a
+     * constant. May only be left out for strings, which default to the empty string.
+     */
+    String defaultValue() default "";
+
+    /**
+     * @return Returns the minimum value of a numeric entry (inclusive). Defaults to unbounded.
+     */
+    String min() default "";
+
+    /**
+     * @return Returns the maximum value of a numeric entry (inclusive). Defaults to unbounded.
+     */
+    String max() default "";
+
+}
@@ -0,0 +1,54 @@
+package com.github.thedeathlycow.simple.config.codec;
+
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Converts values of a type to and from JSON. Config entries resolve their codec once
+ * when they are constructed, so reading and writing values does not need to look
+ * anything up.
+ * <p>
+ * Codecs do not check validity, that is left to the entry.
+ *
+ * @param <T> The type this codec converts.
+ * @author TheDeathlyCow
+ * @see Codecs
+ */
+public interface Codec<T> {
+
+    /**
+     * Reads the next value of a JSON stream. The whole value is always consumed from
+     * the reader, even if it is not a valid representation of T, so that the reader may
+     * continue on to the next value.
+     *
+     * @param reader JSON reader positioned at the value to read.
+     * @return Returns the value read.
+     * @throws IOException Thrown if the reader could not be read from.
+     * @throws com.google.gson.JsonSyntaxException Thrown if the
+     *                                             json value is not a valid representation of T.
+     */
+    T read(JsonReader reader) throws IOException;
+
+    /**
+     * Decodes a JSON element.
+     *
+     * @param element JSON element to decode.
+     * @return Returns the value the element represents.
+     * @throws com.google.gson.JsonSyntaxException Thrown if the
+     *                                             json element is not a valid representation of T.
+     */
+    T decode(JsonElement element);
+
+    /**
+     * Writes a value to a JSON stream, in a form that {@link #read(JsonReader)} can read back.
+     *
+     * @param writer JSON writer to write the value to.
+     * @param value Value to write.
+     * @throws IOException Thrown if the writer could not be written to.
+     */
+    void write(JsonWriter writer, T value) throws IOException;
+
+}
@@ -0,0 +1,226 @@
+package com.github.thedeathlycow.simple.config.codec;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Built-in codecs, and the registry that config entries resolve their codecs from.
+ * <p>
+ * The built-in codecs read values without reflection, and accept the same JSON as
+ * Gson's own adapters for those types, except that <code>null</code> is never a valid
+ * value. Enums are read and written by name, honouring Gson's
+ * {@link com.google.gson.annotations.SerializedName}. Other types that have neither a
+ * registered nor a built-in codec fall back to a Gson type adapter.
+ *
+ * @author TheDeathlyCow
+ */
+public final class Codecs {
+
+    public static final Codec<Integer> INTEGER = new PrimitiveCodec<>("an int") {
+        @Override
+        Integer parse(JsonToken token, String value) {
+            return (int) parseIntegral(this, value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public void write(JsonWriter writer, Integer value) throws IOException {
+            writer.value(value.longValue());
+        }
+    };
+
+    public static final Codec<Short> SHORT = new PrimitiveCodec<>("a short") {
+        @Override
+        Short parse(JsonToken token, String value) {
+            // narrowed like Gson, the entry's bounds are checked afterwards
+            return (short) parseIntegral(this, value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public void write(JsonWriter writer, Short value) throws IOException {
+            writer.value(value.longValue());
+        }
+    };
+
+    public static final Codec<Byte> BYTE = new PrimitiveCodec<>("a byte") {
+        @Override
+        Byte parse(JsonToken token, String value) {
+            return (byte) parseIntegral(this, value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public void write(JsonWriter writer, Byte value) throws IOException {
+            writer.value(value.longValue());
+        }
+    };
+
+    public static final Codec<Long> LONG = new PrimitiveCodec<>("a long") {
+        @Override
+        Long parse(JsonToken token, String value) {
+            return parseIntegral(this, value, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+
+        @Override
+        public void write(JsonWriter writer, Long value) throws IOException {
+            writer.value(value.longValue());
+        }
+    };
+
+    public static final Codec<Double> DOUBLE = new PrimitiveCodec<>("a double") {
+        @Override
+        Double parse(JsonToken token, String value) {
+            return parseDouble(this, token, value);
+        }
+
+        @Override
+        public void write(JsonWriter writer, Double value) throws IOException {
+            writer.value(value.doubleValue());
+        }
+    };
+
+    public static final Codec<Float> FLOAT = new PrimitiveCodec<>("a float") {
+        @Override
+        Float parse(JsonToken token, String value) {
+            return (float) parseDouble(this, token, value);
+        }
+
+        @Override
+        public void write(JsonWriter writer, Float value) throws IOException {
+            // written as a Number so that the float is not widened, 0.1f stays 0.1
+            writer.value(value);
+        }
+    };
+
+    public static final Codec<Boolean> BOOLEAN = new PrimitiveCodec<>("a boolean") {
+        @Override
+        Boolean parse(JsonToken token, String value) {
+            if (token == JsonToken.NUMBER) {
+                throw this.unexpected(token);
+            }
+            // like Gson, any string other than "true" is false
+            return Boolean.parseBoolean(value);
+        }
+
+        @Override
+        public void write(JsonWriter writer, Boolean value) throws IOException {
+            writer.value(value.booleanValue());
+        }
+    };
+
+    public static final Codec<String> STRING = new PrimitiveCodec<>("a string") {
+        @Override
+        String parse(JsonToken token, String value) {
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter writer, String value) throws IOException {
+            writer.value(value);
+        }
+    };
+
+    /**
+     * Registers a codec for a type. Entries resolve their codec when they are constructed,
+     * so codecs must be registered before any entry of their type is created.
+     *
+     * @param type Type the codec converts.
+     * @param codec Codec to use for the type.
+     * @param <T> Type the codec converts.
+     * @throws IllegalArgumentException Thrown if the type already has a codec registered.
+     */
+    public static <T> void register(@NotNull Class<T> type, @NotNull Codec<T> codec) {
+        if (REGISTERED.putIfAbsent(type, codec) != null) {
+            throw new IllegalArgumentException("A codec is already registered for " + type.getName());
+        }
+    }
+
+    /**
+     * Gets the codec for a type: the registered codec if there is one, otherwise the
+     * built-in codec, otherwise an enum codec for enums and a codec backed by a Gson
+     * type adapter for anything else.
+     *
+     * @param type Type to get the codec of.
+     * @param <T> Type to get the codec of.
+     * @return Returns the codec for the type.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @NotNull
+    public static <T> Codec<T> forType(@NotNull Class<T> type) {
+        Codec<?> codec = REGISTERED.get(type);
+        if (codec == null) {
+            codec = BUILT_IN.get(type);
+        }
+        if (codec == null) {
+            codec = FALLBACK.computeIfAbsent(type, t -> t.isEnum()
+                    ? new EnumCodec(t)
+                    : new GsonCodec<>(GSON.getAdapter(t)));
+        }
+        return (Codec<T>) codec;
+    }
+
+    /**
+     * Parses an integral value. Like Gson, a decimal that has no fractional part, such as
+     * <code>5.0</code>, is accepted.
+     */
+    private static long parseIntegral(PrimitiveCodec<?> codec, String value, long min, long max) {
+        long parsed;
+        try {
+            parsed = Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            double asDouble;
+            try {
+                asDouble = Double.parseDouble(value);
+            } catch (NumberFormatException notDouble) {
+                throw codec.invalid(value, notDouble);
+            }
+            parsed = (long) asDouble;
+            if (parsed != asDouble) {
+                throw codec.invalid(value, e);
+            }
+        }
+        if (parsed < min || parsed > max) {
+            throw codec.invalid(value, null);
+        }
+        return parsed;
+    }
+
+    private static double parseDouble(PrimitiveCodec<?> codec, JsonToken token, String value) {
+        if (token == JsonToken.BOOLEAN) {
+            throw codec.unexpected(token);
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw codec.invalid(value, e);
+        }
+    }
+
+    private Codecs() {
+    }
+
+    private static final Gson GSON = new Gson();
+
+    private static final Map<Class<?>, Codec<?>> BUILT_IN = Map.of(
+            Integer.class, INTEGER,
+            Short.class, SHORT,
+            Byte.class, BYTE,
+            Long.class, LONG,
+            Double.class, DOUBLE,
+            Float.class, FLOAT,
+            Boolean.class, BOOLEAN,
+            String.class, STRING
+    );
+
+    private static final Map<Class<?>, Codec<?>> REGISTERED = new ConcurrentHashMap<>();
+
+    /**
+     * Enum and Gson backed codecs, cached so that each type is only resolved once.
+     */
+    private static final Map<Class<?>, Codec<?>> FALLBACK = new ConcurrentHashMap<>();
+}
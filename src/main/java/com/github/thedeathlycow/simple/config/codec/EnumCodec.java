@@ -0,0 +1,65 @@
+package com.github.thedeathlycow.simple.config.codec;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Codec for enum constants, written by name. Like Gson, a constant annotated with
+ * {@link SerializedName} is written under that name and read from it or any of its
+ * alternates. Names are resolved once, when the codec is created.
+ *
+ * @param <E> Type of the enum.
+ * @author TheDeathlyCow
+ */
+final class EnumCodec<E extends Enum<E>> extends PrimitiveCodec<E> {
+
+    EnumCodec(Class<E> type) {
+        super("a constant of " + type.getSimpleName());
+        E[] constants = type.getEnumConstants();
+        this.names = new String[constants.length];
+        for (E constant : constants) {
+            String name = constant.name();
+            SerializedName annotation;
+            try {
+                annotation = type.getField(name).getAnnotation(SerializedName.class);
+            } catch (NoSuchFieldException e) {
+                throw new IllegalStateException(e);
+            }
+            if (annotation != null) {
+                name = annotation.value();
+                for (String alternate : annotation.alternate()) {
+                    this.byName.put(alternate, constant);
+                }
+            }
+            this.byName.put(name, constant);
+            this.names[constant.ordinal()] = name;
+        }
+    }
+
+    @Override
+    E parse(JsonToken token, String value) {
+        E constant = this.byName.get(value);
+        if (constant == null) {
+            throw this.invalid(value, null);
+        }
+        return constant;
+    }
+
+    @Override
+    public void write(JsonWriter writer, E value) throws IOException {
+        writer.value(this.names[value.ordinal()]);
+    }
+
+    private final Map<String, E> byName = new HashMap<>();
+
+    /**
+     * Written name of each constant, by ordinal.
+     */
+    private final String[] names;
+}
@@ -0,0 +1,50 @@
+package com.github.thedeathlycow.simple.config.codec;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Codec for types without a codec of their own, backed by a Gson type adapter that is
+ * looked up once when the codec is created. Values are parsed into a tree before they
+ * are converted, so that an invalid value is always fully consumed.
+ *
+ * @param <T> The type this codec converts.
+ * @author TheDeathlyCow
+ */
+final class GsonCodec<T> implements Codec<T> {
+
+    GsonCodec(TypeAdapter<T> adapter) {
+        this.adapter = adapter;
+    }
+
+    @Override
+    public T read(JsonReader reader) throws IOException {
+        return this.decode(JsonParser.parseReader(reader));
+    }
+
+    @Override
+    public T decode(JsonElement element) {
+        try {
+            return this.adapter.fromJsonTree(element);
+        } catch (JsonIOException e) {
+            throw e;
+        } catch (IllegalStateException | NumberFormatException e) {
+            // same as Gson.fromJson
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    @Override
+    public void write(JsonWriter writer, T value) throws IOException {
+        this.adapter.write(writer, value);
+    }
+
+    private final TypeAdapter<T> adapter;
+}
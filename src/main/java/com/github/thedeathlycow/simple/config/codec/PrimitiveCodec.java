@@ -0,0 +1,71 @@
+package com.github.thedeathlycow.simple.config.codec;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Base for codecs of values that are written as a single JSON primitive. Reading and
+ * decoding both go through {@link #parse(JsonToken, String)}, so they accept exactly
+ * the same values.
+ *
+ * @param <T> The type this codec converts.
+ * @author TheDeathlyCow
+ */
+abstract class PrimitiveCodec<T> implements Codec<T> {
+
+    PrimitiveCodec(String typeName) {
+        this.typeName = typeName;
+    }
+
+    @Override
+    public T read(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        switch (token) {
+            case STRING:
+            case NUMBER:
+                return this.parse(token, reader.nextString());
+            case BOOLEAN:
+                return this.parse(token, Boolean.toString(reader.nextBoolean()));
+            default:
+                reader.skipValue();
+                throw this.unexpected(token);
+        }
+    }
+
+    @Override
+    public T decode(JsonElement element) {
+        if (!element.isJsonPrimitive()) {
+            throw this.unexpected(element.isJsonNull() ? JsonToken.NULL
+                    : element.isJsonArray() ? JsonToken.BEGIN_ARRAY : JsonToken.BEGIN_OBJECT);
+        }
+        JsonPrimitive primitive = element.getAsJsonPrimitive();
+        JsonToken token = primitive.isBoolean() ? JsonToken.BOOLEAN
+                : primitive.isNumber() ? JsonToken.NUMBER : JsonToken.STRING;
+        return this.parse(token, primitive.getAsString());
+    }
+
+    /**
+     * Parses the text of a JSON primitive.
+     *
+     * @param token Whether the primitive is a string, number or boolean.
+     * @param value Text of the primitive, without quotes.
+     * @return Returns the parsed value.
+     * @throws JsonSyntaxException Thrown if the text is not a valid representation of T.
+     */
+    abstract T parse(JsonToken token, String value);
+
+    JsonSyntaxException unexpected(JsonToken token) {
+        return new JsonSyntaxException("Expected " + typeName + " but was " + token);
+    }
+
+    JsonSyntaxException invalid(String value, Throwable cause) {
+        return new JsonSyntaxException("Expected " + typeName + " but was '" + value + "'", cause);
+    }
+
+    private final String typeName;
+}
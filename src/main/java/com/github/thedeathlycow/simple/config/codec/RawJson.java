@@ -0,0 +1,184 @@
+package com.github.thedeathlycow.simple.config.codec;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * Helpers for handling JSON values as raw text, without deserializing them. Values are
+ * copied token by token, so the reader still checks that they are well-formed, but no
+ * tree is built.
+ *
+ * @author TheDeathlyCow
+ */
+public final class RawJson {
+
+    /**
+     * Creates a reader for config JSON. Readers are lenient, as {@link com.google.gson.JsonParser}
+     * is, so that config files may contain comments, unquoted keys and non-finite numbers.
+     *
+     * @param in Source of the JSON text.
+     * @return Returns a lenient JSON reader over the source.
+     */
+    public static JsonReader newReader(Reader in) {
+        JsonReader reader = new JsonReader(in);
+        reader.setLenient(true);
+        return reader;
+    }
+
+    /**
+     * Creates a writer for config JSON. Writers are lenient, so that non-finite numbers, which
+     * bounded entries accept by default, are written as they are and read back by
+     * {@link #newReader(Reader)}.
+     *
+     * @param out Destination of the JSON text.
+     * @return Returns a lenient JSON writer to the destination.
+     */
+    public static JsonWriter newWriter(Writer out) {
+        JsonWriter writer = new JsonWriter(out);
+        writer.setLenient(true);
+        return writer;
+    }
+
+    /**
+     * Checks that nothing but whitespace and comments follows the top-level value of a
+     * document, which a lenient reader would otherwise accept.
+     *
+     * @param reader JSON reader positioned after the top-level value.
+     * @throws IOException Thrown if the reader could not be read from.
+     * @throws JsonSyntaxException Thrown if there is more content after the value.
+     */
+    public static void endDocument(JsonReader reader) throws IOException {
+        if (reader.peek() != JsonToken.END_DOCUMENT) {
+            throw new JsonSyntaxException("Did not consume the entire document.");
+        }
+    }
+
+    /**
+     * Copies the next value of a JSON stream as compact JSON text.
+     *
+     * @param reader JSON reader positioned at the value to copy.
+     * @return Returns the value as compact JSON text.
+     * @throws IOException Thrown if the reader could not be read from.
+     * @throws com.google.gson.stream.MalformedJsonException Thrown if the value is not well-formed JSON.
+     */
+    public static String capture(JsonReader reader) throws IOException {
+        StringBuilder out = new StringBuilder();
+        copy(reader, out);
+        return out.toString();
+    }
+
+    /**
+     * Copies the next value of a JSON stream as compact JSON text.
+     *
+     * @param reader JSON reader positioned at the value to copy.
+     * @param out Destination of the JSON text.
+     * @throws IOException Thrown if the reader could not be read from, or the destination
+     * could not be written to.
+     * @throws com.google.gson.stream.MalformedJsonException Thrown if the value is not well-formed JSON.
+     */
+    public static void copy(JsonReader reader, Appendable out) throws IOException {
+        JsonWriter writer = new JsonWriter(new AppendableWriter(out));
+        writer.setLenient(true);
+        copy(reader, writer);
+        writer.flush();
+    }
+
+    /**
+     * Hashes JSON text with 64-bit FNV-1a.
+     *
+     * @param json JSON text to hash.
+     * @return Returns the hash of the text.
+     */
+    public static long hash(CharSequence json) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < json.length(); i++) {
+            char c = json.charAt(i);
+            hash = (hash ^ (c & 0xFF)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static void copy(JsonReader reader, JsonWriter writer) throws IOException {
+        switch (reader.peek()) {
+            case BEGIN_ARRAY -> {
+                reader.beginArray();
+                writer.beginArray();
+                while (reader.hasNext()) {
+                    copy(reader, writer);
+                }
+                reader.endArray();
+                writer.endArray();
+            }
+            case BEGIN_OBJECT -> {
+                reader.beginObject();
+                writer.beginObject();
+                while (reader.hasNext()) {
+                    writer.name(reader.nextName());
+                    copy(reader, writer);
+                }
+                reader.endObject();
+                writer.endObject();
+            }
+            case STRING -> writer.value(reader.nextString());
+            // the literal is copied as is, so that no precision is lost
+            case NUMBER -> writer.jsonValue(reader.nextString());
+            case BOOLEAN -> writer.value(reader.nextBoolean());
+            case NULL -> {
+                reader.nextNull();
+                writer.nullValue();
+            }
+            default -> throw new IllegalStateException("Unexpected token " + reader.peek());
+        }
+    }
+
+    private RawJson() {
+    }
+
+    /**
+     * Writer over an appendable, so that a reused {@link StringBuilder} can be written to
+     * without copying it.
+     */
+    private static final class AppendableWriter extends Writer {
+
+        AppendableWriter(Appendable out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            for (int i = offset; i < offset + length; i++) {
+                out.append(buffer[i]);
+            }
+        }
+
+        @Override
+        public void write(String str, int offset, int length) throws IOException {
+            out.append(str, offset, offset + length);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            out.append((char) c);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private final Appendable out;
+    }
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+}
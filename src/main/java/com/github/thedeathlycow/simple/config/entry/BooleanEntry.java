@@ -1,5 +1,7 @@
 package com.github.thedeathlycow.simple.config.entry;
 
+import com.github.thedeathlycow.simple.config.BoundValue;
+import com.github.thedeathlycow.simple.config.Config;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -14,13 +16,37 @@ public class BooleanEntry extends ConfigEntry<Boolean> {
     }
 
     /**
-     * Boolean keys are always valid
+     * Any boolean is valid, but null is not.
      *
      * @param value Value to check.
-     * @return Returns true.
+     * @return Returns true if the value is not null.
      */
     @Override
     public boolean isValid(Boolean value) {
-        return true;
+        return value != null;
+    }
+
+    @Override
+    public long toBits(Boolean value) {
+        return value ? 1L : 0L;
+    }
+
+    /**
+     * Gets a handle to the current value of this entry in a config, which reads the value
+     * without boxing. Shorthand for {@link Config#bind(BooleanEntry)}.
+     *
+     * @param config Config to bind this entry to.
+     * @return Returns the handle of this entry in the config.
+     * @throws IllegalArgumentException Thrown if this entry is not part of the config.
+     */
+    @Override
+    public BoundValue.OfBoolean bind(Config config) {
+        return config.bind(this);
+    }
+
+    @Override
+    protected boolean readsTrees() {
+        // subclasses may have overridden deserialize
+        return this.getClass() != BooleanEntry.class;
     }
 }
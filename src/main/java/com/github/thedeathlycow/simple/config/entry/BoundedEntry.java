@@ -29,14 +29,14 @@ public class BoundedEntry<T extends Comparable<T>> extends ConfigEntry<T> {
         this.min = min;
         this.max = max;
 
-        if (!isValid(defaultValue)) {
+        if (!isWithinBounds(defaultValue)) {
             throw new IllegalArgumentException("Default value for bounded key " + name + " is invalid");
         }
     }
 
     /**
      * Determines if the value given is greater than or equal to the
-     * minimum value and less than or equal to the maximum value.
+     * minimum value and less than or equal to the maximum value. Null is never valid.
      *
      * @param value Value to check.
      * @return Returns a boolean determining if the given value is
@@ -44,7 +44,7 @@ public class BoundedEntry<T extends Comparable<T>> extends ConfigEntry<T> {
      */
     @Override
     public boolean isValid(T value) {
-        return min.compareTo(value) <= 0 && max.compareTo(value) >= 0;
+        return value != null && isWithinBounds(value);
     }
 
     public T getMin() {
@@ -55,6 +55,21 @@ public class BoundedEntry<T extends Comparable<T>> extends ConfigEntry<T> {
         return max;
     }
 
+    /**
+     * Compares a value against the bounds. Used in the constructor rather than
+     * {@link #isValid(Comparable)}, as subclasses may override that with checks
+     * on fields that are not yet initialized.
+     */
+    private boolean isWithinBounds(T value) {
+        return min.compareTo(value) <= 0 && max.compareTo(value) >= 0;
+    }
+
+    @Override
+    protected boolean readsTrees() {
+        // subclasses may have overridden deserialize
+        return this.getClass() != BoundedEntry.class;
+    }
+
     private final T min;
     private final T max;
 }
@@ -1,11 +1,20 @@
 package com.github.thedeathlycow.simple.config.entry;
 
+import com.github.thedeathlycow.simple.config.BoundValue;
+import com.github.thedeathlycow.simple.config.Config;
+import com.github.thedeathlycow.simple.config.codec.Codec;
+import com.github.thedeathlycow.simple.config.codec.Codecs;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -16,7 +25,9 @@ import java.util.Objects;
  * <p>
  * This class provides methods for deserializing JSON objects into the type
  * that the entry stores as well as for determining the validity of the type.
- * Validity must be implemented by concrete subclasses.
+ * Values are converted to and from JSON by the entry's {@link Codec}, which is
+ * resolved once when the entry is constructed. Validity must be implemented by
+ * concrete subclasses.
  * <p>
  * Important: equals() and hashCode() for this object is based solely on
  * its name, as it is meant to function like an in-memory JSON key.
@@ -27,16 +38,30 @@ import java.util.Objects;
 public abstract class ConfigEntry<T> {
 
     /**
-     * Constructs a config entry with a name, default value, and type.
+     * Constructs a config entry with a name, default value, and type. The codec
+     * of the entry is looked up from {@link Codecs#forType(Class)}.
      *
      * @param name         Name of the config entry.
      * @param defaultValue Default value of the entry in a config.
      * @param type         The type of the value. May not be null.
      */
     public ConfigEntry(@NotNull String name, @NotNull T defaultValue, @NotNull Class<T> type) {
+        this(name, defaultValue, type, Codecs.forType(type));
+    }
+
+    /**
+     * Constructs a config entry with a name, default value, type, and codec.
+     *
+     * @param name         Name of the config entry.
+     * @param defaultValue Default value of the entry in a config.
+     * @param type         The type of the value. May not be null.
+     * @param codec        Codec that converts values of the entry to and from JSON.
+     */
+    public ConfigEntry(@NotNull String name, @NotNull T defaultValue, @NotNull Class<T> type, @NotNull Codec<T> codec) {
         this.name = name;
         this.defaultValue = defaultValue;
         this.type = type;
+        this.codec = codec;
     }
 
     @NotNull
@@ -57,6 +82,42 @@ public abstract class ConfigEntry<T> {
         return type;
     }
 
+    /**
+     * @return Gets the codec that converts values of this entry to and from JSON.
+     */
+    @NotNull
+    protected Codec<T> getCodec() {
+        return codec;
+    }
+
+    /**
+     * Gets the slot index this entry was first registered at. Configs
+     * use this as a hint to find the value of this entry without hashing.
+     *
+     * @return Returns the claimed slot, or -1 if this entry has never been
+     * registered to a config.
+     */
+    @ApiStatus.Internal
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Claims a slot index for this entry. Only the first claim is kept, so an entry
+     * that is added to several configs keeps the slot of the first one. Configs that
+     * register the same entries in the same order will share the same slots.
+     *
+     * @param slot The slot the registering config assigned to this entry.
+     * @return Returns the slot that this entry has claimed.
+     */
+    @ApiStatus.Internal
+    public int claimSlot(int slot) {
+        if (this.slot < 0) {
+            this.slot = slot;
+        }
+        return this.slot;
+    }
+
     /**
      * Adapts an object into an instance of T.
      *
@@ -79,7 +140,81 @@ public abstract class ConfigEntry<T> {
      *                                             json element is not a valid representation of T.
      */
     public T deserialize(JsonElement jsonElement) {
-        return GSON.fromJson(jsonElement, this.getType());
+        return this.codec.decode(jsonElement);
+    }
+
+    /**
+     * Reads the next value of a JSON stream into this entry's type.
+     * Does NOT check for validity.
+     * <p>
+     * The value is always fully consumed from the reader, so that the reader may
+     * continue on to the next value if the value is not a valid representation of T.
+     * Entries that {@link #readsTrees() read trees} read the value into a tree and
+     * deserialize that, otherwise the value is read straight from the stream by the
+     * entry's codec.
+     *
+     * @param reader JSON reader positioned at the value to read.
+     * @return Returns the deserialized object.
+     * @throws IOException Thrown if the reader could not be read from.
+     * @throws com.google.gson.JsonSyntaxException Thrown if the
+     *                                             json value is not a valid representation of T.
+     */
+    public T read(JsonReader reader) throws IOException {
+        if (this.readsTrees()) {
+            return deserialize(JsonParser.parseReader(reader));
+        }
+        return this.codec.read(reader);
+    }
+
+    /**
+     * Writes a value of this entry to a JSON stream. Subclasses that override
+     * {@link #deserialize(JsonElement)} should override this as well, so that
+     * written values can be read back.
+     *
+     * @param writer JSON writer to write the value to.
+     * @param value Value to write.
+     * @throws IOException Thrown if the writer could not be written to.
+     */
+    public void write(JsonWriter writer, T value) throws IOException {
+        this.codec.write(writer, value);
+    }
+
+    /**
+     * Encodes a value of this entry into the raw bits that configs store
+     * alongside it, so that primitive entries can be read without unboxing.
+     * Entries that do not store a primitive return 0.
+     *
+     * @param value Value to encode.
+     * @return Returns the primitive bits of the value.
+     */
+    @ApiStatus.Internal
+    public long toBits(T value) {
+        return 0L;
+    }
+
+    /**
+     * Checks if this entry is lazy. Reloads keep the values of lazy entries as raw JSON,
+     * which is only deserialized and validated the first time the value is read, so entries
+     * that are never read cost no more than checking that their JSON is well-formed.
+     * Entries that store primitives are never lazy.
+     *
+     * @return Returns true if this entry is lazy.
+     * @see com.github.thedeathlycow.simple.config.ConfigSnapshot.Builder#setLazy(ConfigEntry, String)
+     */
+    public boolean isLazy() {
+        return false;
+    }
+
+    /**
+     * Gets a handle to the current value of this entry in a config. Shorthand for
+     * {@link Config#bind(ConfigEntry)}.
+     *
+     * @param config Config to bind this entry to.
+     * @return Returns the handle of this entry in the config.
+     * @throws IllegalArgumentException Thrown if this entry is not part of the config.
+     */
+    public BoundValue<T> bind(Config config) {
+        return config.bind(this);
     }
 
     /**
@@ -114,6 +249,19 @@ public abstract class ConfigEntry<T> {
         return Objects.hash(name);
     }
 
+    /**
+     * Checks if this entry reads values as JSON trees, through {@link #deserialize(JsonElement)},
+     * rather than streaming them through its codec. Reading trees is always correct, so it is
+     * the default; the built-in entries stream their values unless they have been subclassed.
+     * Subclasses that do not override {@link #deserialize(JsonElement)} may override this to
+     * return false, so that reloads stream their values.
+     *
+     * @return Returns true by default.
+     */
+    protected boolean readsTrees() {
+        return true;
+    }
+
     @Override
     public String toString() {
         return "ConfigEntry{" +
@@ -132,6 +280,11 @@ public abstract class ConfigEntry<T> {
     @NotNull
     private final Class<T> type;
 
+    @NotNull
+    private final Codec<T> codec;
+
+    private int slot = -1;
+
     protected static final Gson GSON = new GsonBuilder()
             .create();
 
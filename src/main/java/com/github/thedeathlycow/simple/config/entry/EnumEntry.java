@@ -0,0 +1,128 @@
+package com.github.thedeathlycow.simple.config.entry;
+
+import com.github.thedeathlycow.simple.config.BoundValue;
+import com.github.thedeathlycow.simple.config.Config;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Config key for enum values. Values are read by name and resolved to their constant
+ * once, when they are deserialized, and configs also store the ordinal of the constant
+ * so that it can be read without boxing or hashing.
+ * <p>
+ * An enum entry may be restricted to a subset of the constants of its enum.
+ *
+ * @param <E> Type of the enum.
+ * @author TheDeathlyCow
+ */
+public class EnumEntry<E extends Enum<E>> extends ConfigEntry<E> {
+
+    /**
+     * Constructs an enum key that allows every constant of the enum.
+     *
+     * @param name         Name of the key.
+     * @param defaultValue Default value of the key.
+     * @param type         Type of the enum.
+     */
+    public EnumEntry(@NotNull String name, @NotNull E defaultValue, @NotNull Class<E> type) {
+        this(name, defaultValue, type, EnumSet.allOf(type));
+    }
+
+    /**
+     * Constructs an enum key that only allows some constants of the enum.
+     *
+     * @param name         Name of the key.
+     * @param defaultValue Default value of the key.
+     * @param type         Type of the enum.
+     * @param allowed      Constants that are valid values of this key.
+     * @throws IllegalArgumentException Thrown if the default value is not allowed.
+     */
+    public EnumEntry(@NotNull String name, @NotNull E defaultValue, @NotNull Class<E> type, @NotNull Set<E> allowed) {
+        super(name, defaultValue, type);
+        this.constants = type.getEnumConstants();
+        this.allowed = allowed.isEmpty() ? EnumSet.noneOf(type) : EnumSet.copyOf(allowed);
+
+        if (!this.allowed.contains(defaultValue)) {
+            throw new IllegalArgumentException("Default value for enum key " + name + " is not allowed");
+        }
+    }
+
+    /**
+     * Checks if a value is one of the allowed constants of this entry.
+     *
+     * @param value Value to check.
+     * @return Returns true if the value is allowed.
+     */
+    @Override
+    public boolean isValid(E value) {
+        return value != null && allowed.contains(value);
+    }
+
+    /**
+     * Gets the constant of this entry's enum with an ordinal.
+     *
+     * @param ordinal Ordinal of the constant.
+     * @return Returns the constant.
+     * @throws ArrayIndexOutOfBoundsException Thrown if no constant has the ordinal.
+     */
+    public E fromOrdinal(int ordinal) {
+        return constants[ordinal];
+    }
+
+    /**
+     * @return Returns an unmodifiable view of the constants that are valid values of this entry.
+     */
+    public Set<E> getAllowed() {
+        return Collections.unmodifiableSet(allowed);
+    }
+
+    @Override
+    public long toBits(E value) {
+        return value.ordinal();
+    }
+
+    /**
+     * Gets a handle to the current value of this entry in a config, which reads the value
+     * as an ordinal. Shorthand for {@link Config#bind(EnumEntry)}.
+     *
+     * @param config Config to bind this entry to.
+     * @return Returns the handle of this entry in the config.
+     * @throws IllegalArgumentException Thrown if this entry is not part of the config.
+     */
+    @Override
+    public BoundValue.OfEnum<E> bind(Config config) {
+        return config.bind(this);
+    }
+
+    /**
+     * Two enum entries are equal if their names match and they are for the same enum, so
+     * that entries for different enums that happen to share a name are not confused.
+     *
+     * @param o Other config entry.
+     * @return Returns a boolean representing if the two entries are equal.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return super.equals(o) && this.getType() == ((EnumEntry<?>) o).getType();
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + this.getType().hashCode();
+    }
+
+    @Override
+    protected boolean readsTrees() {
+        // subclasses may have overridden deserialize
+        return this.getClass() != EnumEntry.class;
+    }
+
+    /**
+     * Constants of the enum, by ordinal.
+     */
+    private final E[] constants;
+    private final EnumSet<E> allowed;
+}
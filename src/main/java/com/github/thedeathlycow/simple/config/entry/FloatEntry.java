@@ -1,5 +1,7 @@
 package com.github.thedeathlycow.simple.config.entry;
 
+import com.github.thedeathlycow.simple.config.BoundValue;
+import com.github.thedeathlycow.simple.config.Config;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -44,6 +46,56 @@ public class FloatEntry extends BoundedEntry<Float> {
      */
     public FloatEntry(@NotNull String name, @NotNull Float defaultValue, Float min, Float max) {
         super(name, defaultValue, Float.class, min, max);
+        this.primitiveMin = min;
+        this.primitiveMax = max;
     }
 
+    /**
+     * Checks the bounds of a primitive value, without boxing.
+     *
+     * @param value Value to check.
+     * @return Returns a boolean determining if the given value is
+     * within the bounds of this entry.
+     */
+    public boolean isValid(float value) {
+        return primitiveMin <= value && value <= primitiveMax;
+    }
+
+    /**
+     * Checks the bounds of a boxed value. Null is never valid.
+     *
+     * @param value Value to check.
+     * @return Returns true if the value is not null and is within the bounds of this entry.
+     */
+    @Override
+    public boolean isValid(Float value) {
+        return value != null && isValid(value.floatValue());
+    }
+
+    @Override
+    public long toBits(Float value) {
+        return Float.floatToRawIntBits(value.floatValue());
+    }
+
+    /**
+     * Gets a handle to the current value of this entry in a config, which reads the value
+     * without boxing. Shorthand for {@link Config#bind(FloatEntry)}.
+     *
+     * @param config Config to bind this entry to.
+     * @return Returns the handle of this entry in the config.
+     * @throws IllegalArgumentException Thrown if this entry is not part of the config.
+     */
+    @Override
+    public BoundValue.OfFloat bind(Config config) {
+        return config.bind(this);
+    }
+
+    @Override
+    protected boolean readsTrees() {
+        // subclasses may have overridden deserialize
+        return this.getClass() != FloatEntry.class;
+    }
+
+    private final float primitiveMin;
+    private final float primitiveMax;
 }
@@ -1,5 +1,7 @@
 package com.github.thedeathlycow.simple.config.entry;
 
+import com.github.thedeathlycow.simple.config.BoundValue;
+import com.github.thedeathlycow.simple.config.Config;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -44,5 +46,56 @@ public class IntegerEntry extends BoundedEntry<Integer> {
      */
     public IntegerEntry(@NotNull String name, @NotNull Integer defaultValue, Integer min, Integer max) {
         super(name, defaultValue, Integer.class, min, max);
+        this.primitiveMin = min;
+        this.primitiveMax = max;
     }
+
+    /**
+     * Checks the bounds of a primitive value, without boxing.
+     *
+     * @param value Value to check.
+     * @return Returns a boolean determining if the given value is
+     * within the bounds of this entry.
+     */
+    public boolean isValid(int value) {
+        return primitiveMin <= value && value <= primitiveMax;
+    }
+
+    /**
+     * Checks the bounds of a boxed value. Null is never valid.
+     *
+     * @param value Value to check.
+     * @return Returns true if the value is not null and is within the bounds of this entry.
+     */
+    @Override
+    public boolean isValid(Integer value) {
+        return value != null && isValid(value.intValue());
+    }
+
+    @Override
+    public long toBits(Integer value) {
+        return (long) value.intValue();
+    }
+
+    /**
+     * Gets a handle to the current value of this entry in a config, which reads the value
+     * without boxing. Shorthand for {@link Config#bind(IntegerEntry)}.
+     *
+     * @param config Config to bind this entry to.
+     * @return Returns the handle of this entry in the config.
+     * @throws IllegalArgumentException Thrown if this entry is not part of the config.
+     */
+    @Override
+    public BoundValue.OfInt bind(Config config) {
+        return config.bind(this);
+    }
+
+    @Override
+    protected boolean readsTrees() {
+        // subclasses may have overridden deserialize
+        return this.getClass() != IntegerEntry.class;
+    }
+
+    private final int primitiveMin;
+    private final int primitiveMax;
 }
@@ -0,0 +1,32 @@
+package com.github.thedeathlycow.simple.config.entry;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Config key for string values.
+ *
+ * @author TheDeathlyCow
+ */
+public class StringEntry extends ConfigEntry<String> {
+
+    public StringEntry(@NotNull String name, @NotNull String defaultValue) {
+        super(name, defaultValue, String.class);
+    }
+
+    /**
+     * Any string is valid, but null is not.
+     *
+     * @param value Value to check.
+     * @return Returns true if the value is not null.
+     */
+    @Override
+    public boolean isValid(String value) {
+        return value != null;
+    }
+
+    @Override
+    protected boolean readsTrees() {
+        // subclasses may have overridden deserialize
+        return this.getClass() != StringEntry.class;
+    }
+}
@@ -1,15 +1,24 @@
 package com.github.thedeathlycow.simple.config.entry.collection;
 
+import com.github.thedeathlycow.simple.config.codec.Codec;
+import com.github.thedeathlycow.simple.config.codec.Codecs;
 import com.github.thedeathlycow.simple.config.entry.ConfigEntry;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 
 /**
  * A config entry for collections. Handles adaption
- * and deserialization for collections.
+ * and deserialization for collections. Elements are converted
+ * by an element {@link Codec}, resolved once when the entry is constructed.
  *
  * @param <T> The type of the objects stored in the collection.
  * @param <C> The type of collection of T that this entry uses.
@@ -25,9 +34,24 @@ public abstract class CollectionEntry<T, C extends Collection<T>> extends Config
      * @param collectionCreator Factory for creating new collection
      */
     public CollectionEntry(@NotNull String name, @NotNull C defaultValue, @NotNull Class<T> type, @NotNull Class<C> collectionType, @NotNull CollectionCreator<T, C> collectionCreator) {
+        this(name, defaultValue, type, collectionType, collectionCreator, Codecs.forType(type));
+    }
+
+    /**
+     * Constructs a collection entry with a name, default value, type, a new collection creator,
+     * and a codec for the elements of the collection.
+     *
+     * @param name              Name of the collection entry.
+     * @param defaultValue      Default value of the entry in a config.
+     * @param type              The type of the elements of the collection. May not be null.
+     * @param collectionCreator Factory for creating new collection
+     * @param elementCodec      Codec that converts elements to and from JSON.
+     */
+    public CollectionEntry(@NotNull String name, @NotNull C defaultValue, @NotNull Class<T> type, @NotNull Class<C> collectionType, @NotNull CollectionCreator<T, C> collectionCreator, @NotNull Codec<T> elementCodec) {
         super(name, defaultValue, collectionType);
         this.collectionType = type;
         this.collectionCreator = collectionCreator;
+        this.elementCodec = elementCodec;
     }
 
     /**
@@ -42,11 +66,51 @@ public abstract class CollectionEntry<T, C extends Collection<T>> extends Config
      */
     @Override
     public C deserialize(JsonElement jsonElement) {
-        if (jsonElement.isJsonArray()) {
-            return deserializeIterable(jsonElement.getAsJsonArray());
-        } else {
-            return deserializeIterable(Collections.singleton(jsonElement));
+        C deserialized = this.collectionCreator.create();
+        this.deserializeElements(jsonElement, deserialized);
+        return deserialized;
+    }
+
+    /**
+     * Reads a JSON array from a stream into a collection of T, one element at a time,
+     * without building a tree of the whole array, unless the entry {@link #readsTrees() reads trees}.
+     * Unless the entry {@link #readsElementTrees() reads element trees}, elements are read
+     * straight from the stream by the element codec. If the value is not an array, will
+     * treat it as a singleton collection.
+     * <p>
+     * If an element is not a valid representation of T, the rest of the array is still
+     * consumed before the exception is thrown.
+     *
+     * @param reader JSON reader positioned at the value to read.
+     * @return Returns the {@link Collection} of T that the value represents.
+     * @throws IOException Thrown if the reader could not be read from.
+     * @throws com.google.gson.JsonSyntaxException Thrown if the
+     *                                             json value is not a valid representation of T.
+     */
+    @Override
+    public C read(JsonReader reader) throws IOException {
+        if (this.readsTrees()) {
+            return deserialize(JsonParser.parseReader(reader));
+        }
+        C deserialized = this.collectionCreator.create();
+        this.readElements(reader, deserialized);
+        return deserialized;
+    }
+
+    /**
+     * Writes a collection as a JSON array, writing each element with the element codec.
+     *
+     * @param writer JSON writer to write the value to.
+     * @param value Value to write.
+     * @throws IOException Thrown if the writer could not be written to.
+     */
+    @Override
+    public void write(JsonWriter writer, C value) throws IOException {
+        writer.beginArray();
+        for (T element : value) {
+            this.elementCodec.write(writer, element);
         }
+        writer.endArray();
     }
 
     /**
@@ -61,7 +125,36 @@ public abstract class CollectionEntry<T, C extends Collection<T>> extends Config
      *                                             json element is not a valid representation of T.
      */
     protected T deserializeElement(JsonElement element) {
-        return GSON.fromJson(element, collectionType);
+        return this.elementCodec.decode(element);
+    }
+
+    /**
+     * Checks if this entry reads elements as JSON trees, through {@link #deserializeElement(JsonElement)},
+     * rather than streaming them through its element codec. As with {@link #readsTrees()}, this
+     * is the default, and the built-in entries stream their elements unless they have been
+     * subclassed. Subclasses that do not override {@link #deserializeElement(JsonElement)} may
+     * override this to return false.
+     *
+     * @return Returns true by default.
+     */
+    protected boolean readsElementTrees() {
+        return true;
+    }
+
+    /**
+     * Makes this entry lazy or eager. Collection entries are eager by default. Entries
+     * should be made lazy before they are added to a config.
+     *
+     * @param lazy Whether this entry should be lazy.
+     * @see #isLazy()
+     */
+    public void setLazy(boolean lazy) {
+        this.lazy = lazy;
+    }
+
+    @Override
+    public boolean isLazy() {
+        return lazy;
     }
 
     /**
@@ -87,19 +180,64 @@ public abstract class CollectionEntry<T, C extends Collection<T>> extends Config
     }
 
     /**
-     * Deserializes an iterable of JSON elements into a {@link Collection} of T.
-     *
-     * @param iterable Iterable of JSON elements to deserialize
-     * @return Returns the {@link Collection} of T that <code>iterable</code> represents.
+     * Deserializes the elements of a JSON element into a collection, through
+     * {@link #deserializeElement(JsonElement)}. Shared with subclasses that cannot add
+     * elements to their own collection type, such as {@link FrozenSetEntry}.
      */
-    private C deserializeIterable(Iterable<JsonElement> iterable) {
-        C deserialized = this.collectionCreator.create();
-        for (JsonElement elem : iterable) {
+    void deserializeElements(JsonElement jsonElement, Collection<T> deserialized) {
+        Iterable<JsonElement> elements = jsonElement.isJsonArray()
+                ? jsonElement.getAsJsonArray()
+                : Collections.singleton(jsonElement);
+        for (JsonElement elem : elements) {
             deserialized.add(deserializeElement(elem));
         }
-        return deserialized;
+    }
+
+    /**
+     * Reads the elements of a value from a stream into a collection, as described by
+     * {@link #read(JsonReader)}. Shared with subclasses in the same way as
+     * {@link #deserializeElements(JsonElement, Collection)}.
+     */
+    void readElements(JsonReader reader, Collection<T> deserialized) throws IOException {
+        if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+            JsonParseException failure = null;
+            reader.beginArray();
+            while (reader.hasNext()) {
+                if (failure == null) {
+                    try {
+                        deserialized.add(readElement(reader));
+                    } catch (JsonParseException e) {
+                        if (e.getCause() instanceof IOException) {
+                            throw e;
+                        }
+                        failure = e;
+                    }
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endArray();
+            if (failure != null) {
+                throw failure;
+            }
+        } else {
+            deserialized.add(readElement(reader));
+        }
+    }
+
+    /**
+     * Reads the next element of the collection from a stream. Always consumes the whole element.
+     */
+    private T readElement(JsonReader reader) throws IOException {
+        if (this.readsElementTrees()) {
+            return deserializeElement(JsonParser.parseReader(reader));
+        }
+        return this.elementCodec.read(reader);
     }
 
     private final Class<T> collectionType;
     private final CollectionCreator<T, C> collectionCreator;
+    private final Codec<T> elementCodec;
+
+    private volatile boolean lazy = false;
 }
@@ -0,0 +1,111 @@
+package com.github.thedeathlycow.simple.config.entry.collection;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+
+/**
+ * An immutable list of doubles, backed by a double array.
+ *
+ * @author TheDeathlyCow
+ * @see DoubleListEntry
+ */
+public final class DoubleList extends PrimitiveList<Double, double[]> {
+
+    /**
+     * Creates a list holding a copy of some values.
+     *
+     * @param values Values of the list.
+     * @return Returns a new list of the values.
+     */
+    public static DoubleList of(double... values) {
+        return values.length == 0 ? EMPTY : new DoubleList(values.clone());
+    }
+
+    /**
+     * Gets a value of this list without boxing.
+     *
+     * @param index Index of the value.
+     * @return Returns the value at the index.
+     * @throws IndexOutOfBoundsException Thrown if the index is out of range.
+     */
+    public double getDouble(int index) {
+        return values[index];
+    }
+
+    @Override
+    public Double get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Checks if this list contains a value, without boxing.
+     *
+     * @param value Value to look for.
+     * @return Returns true if this list contains the value.
+     */
+    public boolean containsDouble(double value) {
+        return indexOfDouble(value) >= 0;
+    }
+
+    /**
+     * Finds the first index of a value, without boxing.
+     *
+     * @param value Value to look for.
+     * @return Returns the first index of the value, or -1 if this list does not contain it.
+     */
+    public int indexOfDouble(double value) {
+        for (int i = 0; i < values.length; i++) {
+            if (Double.compare(values[i], value) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return Returns a new array holding the values of this list.
+     */
+    public double[] toDoubleArray() {
+        return values.clone();
+    }
+
+    /**
+     * Performs an action for each value of this list, in order, without boxing.
+     *
+     * @param action Action to perform.
+     */
+    public void forEachDouble(@NotNull DoubleConsumer action) {
+        for (double value : values) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * @return Returns a sequential stream of the values of this list.
+     */
+    public DoubleStream doubleStream() {
+        return Arrays.stream(values);
+    }
+
+    @Override
+    boolean valuesEqual(double[] other) {
+        return Arrays.equals(values, other);
+    }
+
+    @Override
+    int valuesHashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    /**
+     * Wraps an array without copying it. The array must not be modified afterwards.
+     */
+    DoubleList(double[] values) {
+        super(values, values.length);
+    }
+
+    public static final DoubleList EMPTY = new DoubleList(new double[0]);
+}
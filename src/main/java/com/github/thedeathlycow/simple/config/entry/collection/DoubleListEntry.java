@@ -0,0 +1,106 @@
+package com.github.thedeathlycow.simple.config.entry.collection;
+
+import com.github.thedeathlycow.simple.config.codec.Codecs;
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Config entry for lists of doubles. Values are parsed straight into a double array and
+ * stored as a {@link DoubleList}, so elements are never boxed. Elements may optionally
+ * be bounded, in which case every element must be within the bounds.
+ *
+ * @author TheDeathlyCow
+ */
+public class DoubleListEntry extends PrimitiveListEntry<Double, DoubleList, double[]> {
+
+    /**
+     * Constructs a double list entry whose elements are unbounded.
+     *
+     * @param name         Name of the entry.
+     * @param defaultValue Default value of the entry in a config.
+     */
+    public DoubleListEntry(@NotNull String name, @NotNull DoubleList defaultValue) {
+        this(name, defaultValue, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Constructs a double list entry whose elements must be within a minimum and maximum bound.
+     *
+     * @param name         Name of the entry.
+     * @param defaultValue Default value of the entry in a config.
+     * @param min          Minimum allowed value of each element (inclusive).
+     * @param max          Maximum allowed value of each element (inclusive).
+     * @throws IllegalArgumentException Thrown if an element of the default value is
+     *                                  not within the bounds of min and max.
+     */
+    public DoubleListEntry(@NotNull String name, @NotNull DoubleList defaultValue, double min, double max) {
+        super(name, defaultValue, Double.class, DoubleList.class, DoubleList.EMPTY, Codecs.DOUBLE);
+        this.min = min;
+        this.max = max;
+        this.checkDefaultValue(defaultValue);
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    @Override
+    double[] newArray(int length) {
+        return new double[length];
+    }
+
+    @Override
+    DoubleList wrap(double[] values) {
+        return new DoubleList(values);
+    }
+
+    /**
+     * Numbers are read without boxing, anything else is left to the codec, which consumes
+     * invalid values.
+     */
+    @Override
+    void readElement(JsonReader reader, double[] values, int index) throws IOException {
+        if (reader.peek() == JsonToken.NUMBER) {
+            try {
+                values[index] = reader.nextDouble();
+                return;
+            } catch (NumberFormatException e) {
+                throw invalidNumber(reader, e);
+            }
+        }
+        values[index] = Codecs.DOUBLE.read(reader);
+    }
+
+    @Override
+    void decodeElement(JsonElement element, double[] values, int index) {
+        values[index] = Codecs.DOUBLE.decode(element);
+    }
+
+    @Override
+    void writeElement(JsonWriter writer, double[] values, int index) throws IOException {
+        writer.value(values[index]);
+    }
+
+    @Override
+    boolean isWithinBounds(double[] values, int index) {
+        return min <= values[index] && values[index] <= max;
+    }
+
+    @Override
+    protected boolean readsTrees() {
+        // subclasses may have overridden deserialize
+        return this.getClass() != DoubleListEntry.class;
+    }
+
+    private final double min;
+    private final double max;
+}
@@ -0,0 +1,39 @@
+package com.github.thedeathlycow.simple.config.entry.collection;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.EnumSet;
+
+/**
+ * Config entry for sets of enum constants, stored as an {@link EnumSet} so that
+ * checking for a constant is a single bit test. Elements are read by name.
+ *
+ * @param <E> Type of the enum.
+ * @author TheDeathlyCow
+ */
+public class EnumSetEntry<E extends Enum<E>> extends CollectionEntry<E, EnumSet<E>> {
+
+    /**
+     * Constructs an enum set entry with a name, default value, and enum type.
+     *
+     * @param name         Name of the set entry.
+     * @param defaultValue Default value of the entry in a config.
+     * @param type         Type of the enum. May not be null.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public EnumSetEntry(@NotNull String name, @NotNull EnumSet<E> defaultValue, @NotNull Class<E> type) {
+        super(name, defaultValue.clone(), type, (Class) EnumSet.class, () -> EnumSet.noneOf(type));
+    }
+
+    @Override
+    protected boolean readsTrees() {
+        // subclasses may have overridden deserialize
+        return this.getClass() != EnumSetEntry.class;
+    }
+
+    @Override
+    protected boolean readsElementTrees() {
+        // subclasses may have overridden deserializeElement
+        return this.getClass() != EnumSetEntry.class;
+    }
+}
@@ -0,0 +1,249 @@
+package com.github.thedeathlycow.simple.config.entry.collection;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set that is built once and optimised for {@link #contains(Object)}.
+ * <p>
+ * Elements are kept in a dense array, in the order they were first seen, and found through
+ * an open-addressing table with linear probing. Each slot of the table packs the hash of
+ * an element together with its index, so a lookup usually touches a single slot, and
+ * only calls {@link Object#equals(Object)} on an element whose hash matches. Hashes are
+ * computed once, when the set is built.
+ * <p>
+ * A set may also have a Bloom filter in front of the table. The filter is a fraction of the
+ * size of the table and is more likely to stay in cache, so lookups of elements that are
+ * not in the set can usually be answered without touching the table at all.
+ * <p>
+ * Null elements are not permitted.
+ *
+ * @param <E> Type of the elements.
+ * @author TheDeathlyCow
+ * @see FrozenSetEntry
+ */
+public final class FrozenSet<E> extends AbstractSet<E> {
+
+    /**
+     * @param <E> Type of the elements.
+     * @return Returns the empty frozen set.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> FrozenSet<E> of() {
+        return (FrozenSet<E>) EMPTY;
+    }
+
+    /**
+     * Creates a frozen set of the elements of a collection, without a Bloom filter.
+     * Duplicate elements are dropped.
+     *
+     * @param elements Elements of the set.
+     * @param <E> Type of the elements.
+     * @return Returns a new frozen set.
+     * @throws NullPointerException Thrown if any element is null.
+     */
+    public static <E> FrozenSet<E> copyOf(@NotNull Collection<? extends E> elements) {
+        return copyOf(elements, false);
+    }
+
+    /**
+     * Creates a frozen set of the elements of a collection. Duplicate elements are dropped.
+     *
+     * @param elements Elements of the set.
+     * @param bloomFilter Whether to check a Bloom filter before the table on lookups.
+     * @param <E> Type of the elements.
+     * @return Returns a new frozen set.
+     * @throws NullPointerException Thrown if any element is null.
+     */
+    public static <E> FrozenSet<E> copyOf(@NotNull Collection<? extends E> elements, boolean bloomFilter) {
+        if (elements instanceof FrozenSet<?> frozen && (frozen.bloom != null) == bloomFilter) {
+            @SuppressWarnings("unchecked")
+            FrozenSet<E> copy = (FrozenSet<E>) frozen;
+            return copy;
+        }
+        if (elements.isEmpty() && !bloomFilter) {
+            return of();
+        }
+        return new FrozenSet<>(elements.toArray(), bloomFilter);
+    }
+
+    /**
+     * Checks if an element is in this set.
+     *
+     * @param o Element to look for.
+     * @return Returns true if this set contains the element.
+     */
+    @Override
+    public boolean contains(Object o) {
+        if (o == null) {
+            return false;
+        }
+        int hash = spread(o.hashCode());
+        if (bloom != null && !bloomMightContain(bloom, hash)) {
+            return false;
+        }
+        return indexOf(elements, table, o, hash) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    /**
+     * Iterates over the elements in the order they were first added.
+     *
+     * @return Returns an iterator that does not support removal.
+     */
+    @NotNull
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return next < elements.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (next >= elements.length) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[next++];
+            }
+
+            private int next = 0;
+        };
+    }
+
+    /**
+     * @return Returns true if lookups check a Bloom filter before the table.
+     */
+    public boolean hasBloomFilter() {
+        return bloom != null;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     * Builds the table, and the Bloom filter if wanted. Drops duplicates from
+     * <code>elements</code>, which is owned by the new set.
+     */
+    private FrozenSet(Object[] elements, boolean bloomFilter) {
+        // at most half full, so that probe sequences stay short
+        long[] table = new long[Integer.highestOneBit(Math.max(1, elements.length) * 2 - 1) * 2];
+        long[] bloom = bloomFilter
+                ? new long[Integer.highestOneBit(Math.max(1, (elements.length * BLOOM_BITS_PER_ELEMENT + 63) / 64) * 2 - 1)]
+                : null;
+
+        int size = 0;
+        int hashCode = 0;
+        for (Object element : elements) {
+            int hash = spread(element.hashCode());
+            if (indexOf(elements, table, element, hash) >= 0) {
+                continue;
+            }
+            elements[size] = element;
+            insert(table, hash, size);
+            if (bloom != null) {
+                bloomAdd(bloom, hash);
+            }
+            hashCode += element.hashCode();
+            size++;
+        }
+        this.elements = size == elements.length ? elements : Arrays.copyOf(elements, size);
+        this.table = table;
+        this.bloom = bloom;
+        this.hashCode = hashCode;
+    }
+
+    private FrozenSet() {
+        this.table = new long[2];
+        this.bloom = null;
+        this.elements = new Object[0];
+        this.hashCode = 0;
+    }
+
+    private static int indexOf(Object[] elements, long[] table, Object o, int hash) {
+        int mask = table.length - 1;
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            long slot = table[i];
+            if (slot == 0) {
+                return -1;
+            }
+            if ((int) (slot >>> 32) == hash) {
+                int index = (int) slot - 1;
+                Object element = elements[index];
+                if (element == o || element.equals(o)) {
+                    return index;
+                }
+            }
+        }
+    }
+
+    private static void insert(long[] table, int hash, int index) {
+        int mask = table.length - 1;
+        int i = hash & mask;
+        while (table[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        table[i] = ((long) hash << 32) | (index + 1);
+    }
+
+    /**
+     * Mixes the bits of a hash code, so that the low bits used to pick a slot depend on all of them.
+     */
+    private static int spread(int hashCode) {
+        int h = hashCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Blocked Bloom filter: every element sets 3 bits of a single word, so a lookup
+     * reads only one word.
+     */
+    private static boolean bloomMightContain(long[] bloom, int hash) {
+        long mixed = hash * 0x9E3779B97F4A7C15L;
+        long bits = bloomBits(mixed);
+        return (bloom[(int) (mixed >>> 32) & (bloom.length - 1)] & bits) == bits;
+    }
+
+    private static void bloomAdd(long[] bloom, int hash) {
+        long mixed = hash * 0x9E3779B97F4A7C15L;
+        bloom[(int) (mixed >>> 32) & (bloom.length - 1)] |= bloomBits(mixed);
+    }
+
+    private static long bloomBits(long mixed) {
+        return (1L << mixed) | (1L << (mixed >>> 6)) | (1L << (mixed >>> 12));
+    }
+
+    private static final int BLOOM_BITS_PER_ELEMENT = 12;
+
+    private static final FrozenSet<?> EMPTY = new FrozenSet<>();
+
+    /**
+     * Elements, in the order they were added.
+     */
+    private final Object[] elements;
+
+    /**
+     * Open-addressing table. Each used slot holds the spread hash of an element in the
+     * high 32 bits, and its index in {@link #elements} plus one in the low 32 bits.
+     * Empty slots are 0.
+     */
+    private final long[] table;
+
+    @Nullable
+    private final long[] bloom;
+    private final int hashCode;
+}
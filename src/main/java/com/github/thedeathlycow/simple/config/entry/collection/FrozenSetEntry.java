@@ -0,0 +1,113 @@
+package com.github.thedeathlycow.simple.config.entry.collection;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Config entry for sets that are only read from, such as allow and deny lists. Values
+ * are stored as a {@link FrozenSet}, built once whenever the value is read from JSON,
+ * which cannot be modified and answers {@link Set#contains(Object)} faster and with
+ * far less memory than a {@link java.util.HashSet}.
+ *
+ * @param <T> The type of the elements of the set.
+ * @author TheDeathlyCow
+ */
+public class FrozenSetEntry<T> extends CollectionEntry<T, FrozenSet<T>> {
+
+    /**
+     * Constructs a frozen set entry with a name, default value, and type, without a Bloom filter.
+     *
+     * @param name         Name of the set entry.
+     * @param defaultValue Default value of the entry in a config. Copied into a frozen set.
+     * @param type         The type of the elements of the set. May not be null.
+     */
+    public FrozenSetEntry(@NotNull String name, @NotNull Set<T> defaultValue, @NotNull Class<T> type) {
+        this(name, defaultValue, type, false);
+    }
+
+    /**
+     * Constructs a frozen set entry with a name, default value, and type.
+     *
+     * @param name         Name of the set entry.
+     * @param defaultValue Default value of the entry in a config. Copied into a frozen set.
+     * @param type         The type of the elements of the set. May not be null.
+     * @param bloomFilter  Whether sets read by this entry check a Bloom filter before their table.
+     *                     Worth it for large sets where most lookups are misses.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public FrozenSetEntry(@NotNull String name, @NotNull Set<T> defaultValue, @NotNull Class<T> type, boolean bloomFilter) {
+        // elements are collected into a list and then frozen, so the collection creator is never used
+        super(name, FrozenSet.copyOf(defaultValue, bloomFilter), type, (Class) FrozenSet.class, FrozenSet::of);
+        this.bloomFilter = bloomFilter;
+    }
+
+    /**
+     * Deserializes a JSON array into a frozen set. If the JSON element is not an
+     * array, will treat it as a singleton set.
+     *
+     * @param jsonElement JSON element to deserialize
+     * @return Returns the set that the JSON element represents.
+     * @throws JsonSyntaxException Thrown if an element is not a valid representation of T.
+     */
+    @Override
+    public FrozenSet<T> deserialize(JsonElement jsonElement) {
+        List<T> elements = new ArrayList<>();
+        this.deserializeElements(jsonElement, elements);
+        return this.freeze(elements);
+    }
+
+    /**
+     * Streams a JSON array into a frozen set. If the value is not an array, will treat
+     * it as a singleton set.
+     *
+     * @param reader JSON reader positioned at the value to read.
+     * @return Returns the set that the value represents.
+     * @throws IOException Thrown if the reader could not be read from.
+     * @throws JsonSyntaxException Thrown if an element is not a valid representation of T.
+     */
+    @Override
+    public FrozenSet<T> read(JsonReader reader) throws IOException {
+        if (this.readsTrees()) {
+            return deserialize(JsonParser.parseReader(reader));
+        }
+        List<T> elements = new ArrayList<>();
+        this.readElements(reader, elements);
+        return this.freeze(elements);
+    }
+
+    /**
+     * @return Returns true if sets read by this entry have a Bloom filter.
+     */
+    public boolean hasBloomFilter() {
+        return bloomFilter;
+    }
+
+    private FrozenSet<T> freeze(List<T> elements) {
+        if (elements.contains(null)) {
+            throw new JsonSyntaxException("Set entry " + this.getName() + " may not contain null");
+        }
+        return FrozenSet.copyOf(elements, this.bloomFilter);
+    }
+
+    @Override
+    protected boolean readsTrees() {
+        // subclasses may have overridden deserialize
+        return this.getClass() != FrozenSetEntry.class;
+    }
+
+    @Override
+    protected boolean readsElementTrees() {
+        // subclasses may have overridden deserializeElement
+        return this.getClass() != FrozenSetEntry.class;
+    }
+
+    private final boolean bloomFilter;
+}
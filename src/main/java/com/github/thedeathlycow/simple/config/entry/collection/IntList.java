@@ -0,0 +1,111 @@
+package com.github.thedeathlycow.simple.config.entry.collection;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable list of ints, backed by an int array.
+ *
+ * @author TheDeathlyCow
+ * @see IntListEntry
+ */
+public final class IntList extends PrimitiveList<Integer, int[]> {
+
+    /**
+     * Creates a list holding a copy of some values.
+     *
+     * @param values Values of the list.
+     * @return Returns a new list of the values.
+     */
+    public static IntList of(int... values) {
+        return values.length == 0 ? EMPTY : new IntList(values.clone());
+    }
+
+    /**
+     * Gets a value of this list without boxing.
+     *
+     * @param index Index of the value.
+     * @return Returns the value at the index.
+     * @throws IndexOutOfBoundsException Thrown if the index is out of range.
+     */
+    public int getInt(int index) {
+        return values[index];
+    }
+
+    @Override
+    public Integer get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Checks if this list contains a value, without boxing.
+     *
+     * @param value Value to look for.
+     * @return Returns true if this list contains the value.
+     */
+    public boolean containsInt(int value) {
+        return indexOfInt(value) >= 0;
+    }
+
+    /**
+     * Finds the first index of a value, without boxing.
+     *
+     * @param value Value to look for.
+     * @return Returns the first index of the value, or -1 if this list does not contain it.
+     */
+    public int indexOfInt(int value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return Returns a new array holding the values of this list.
+     */
+    public int[] toIntArray() {
+        return values.clone();
+    }
+
+    /**
+     * Performs an action for each value of this list, in order, without boxing.
+     *
+     * @param action Action to perform.
+     */
+    public void forEachInt(@NotNull IntConsumer action) {
+        for (int value : values) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * @return Returns a sequential stream of the values of this list.
+     */
+    public IntStream intStream() {
+        return Arrays.stream(values);
+    }
+
+    @Override
+    boolean valuesEqual(int[] other) {
+        return Arrays.equals(values, other);
+    }
+
+    @Override
+    int valuesHashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    /**
+     * Wraps an array without copying it. The array must not be modified afterwards.
+     */
+    IntList(int[] values) {
+        super(values, values.length);
+    }
+
+    public static final IntList EMPTY = new IntList(new int[0]);
+}
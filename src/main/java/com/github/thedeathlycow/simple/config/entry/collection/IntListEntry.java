@@ -0,0 +1,106 @@
+package com.github.thedeathlycow.simple.config.entry.collection;
+
+import com.github.thedeathlycow.simple.config.codec.Codecs;
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Config entry for lists of ints. Values are parsed straight into an int array and
+ * stored as an {@link IntList}, so elements are never boxed. Elements may optionally
+ * be bounded, in which case every element must be within the bounds.
+ *
+ * @author TheDeathlyCow
+ */
+public class IntListEntry extends PrimitiveListEntry<Integer, IntList, int[]> {
+
+    /**
+     * Constructs an int list entry whose elements are unbounded.
+     *
+     * @param name         Name of the entry.
+     * @param defaultValue Default value of the entry in a config.
+     */
+    public IntListEntry(@NotNull String name, @NotNull IntList defaultValue) {
+        this(name, defaultValue, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs an int list entry whose elements must be within a minimum and maximum bound.
+     *
+     * @param name         Name of the entry.
+     * @param defaultValue Default value of the entry in a config.
+     * @param min          Minimum allowed value of each element (inclusive).
+     * @param max          Maximum allowed value of each element (inclusive).
+     * @throws IllegalArgumentException Thrown if an element of the default value is
+     *                                  not within the bounds of min and max.
+     */
+    public IntListEntry(@NotNull String name, @NotNull IntList defaultValue, int min, int max) {
+        super(name, defaultValue, Integer.class, IntList.class, IntList.EMPTY, Codecs.INTEGER);
+        this.min = min;
+        this.max = max;
+        this.checkDefaultValue(defaultValue);
+    }
+
+    public int getMin() {
+        return min;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    @Override
+    int[] newArray(int length) {
+        return new int[length];
+    }
+
+    @Override
+    IntList wrap(int[] values) {
+        return new IntList(values);
+    }
+
+    /**
+     * Numbers are read without boxing, anything else is left to the codec, which consumes
+     * invalid values.
+     */
+    @Override
+    void readElement(JsonReader reader, int[] values, int index) throws IOException {
+        if (reader.peek() == JsonToken.NUMBER) {
+            try {
+                values[index] = reader.nextInt();
+                return;
+            } catch (NumberFormatException e) {
+                throw invalidNumber(reader, e);
+            }
+        }
+        values[index] = Codecs.INTEGER.read(reader);
+    }
+
+    @Override
+    void decodeElement(JsonElement element, int[] values, int index) {
+        values[index] = Codecs.INTEGER.decode(element);
+    }
+
+    @Override
+    void writeElement(JsonWriter writer, int[] values, int index) throws IOException {
+        writer.value(values[index]);
+    }
+
+    @Override
+    boolean isWithinBounds(int[] values, int index) {
+        return min <= values[index] && values[index] <= max;
+    }
+
+    @Override
+    protected boolean readsTrees() {
+        // subclasses may have overridden deserialize
+        return this.getClass() != IntListEntry.class;
+    }
+
+    private final int min;
+    private final int max;
+}
@@ -31,4 +31,16 @@ public class ListEntry<T> extends CollectionEntry<T, List<T>> {
     public ListEntry(@NotNull String name, @NotNull List<T> defaultValue, @NotNull Class<T> type, @NotNull CollectionCreator<T, List<T>> collectionCreator) {
         super(name, defaultValue, type, (Class) List.class, collectionCreator);
     }
+
+    @Override
+    protected boolean readsTrees() {
+        // subclasses may have overridden deserialize
+        return this.getClass() != ListEntry.class;
+    }
+
+    @Override
+    protected boolean readsElementTrees() {
+        // subclasses may have overridden deserializeElement
+        return this.getClass() != ListEntry.class;
+    }
 }
@@ -0,0 +1,111 @@
+package com.github.thedeathlycow.simple.config.entry.collection;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * An immutable list of longs, backed by a long array.
+ *
+ * @author TheDeathlyCow
+ * @see LongListEntry
+ */
+public final class LongList extends PrimitiveList<Long, long[]> {
+
+    /**
+     * Creates a list holding a copy of some values.
+     *
+     * @param values Values of the list.
+     * @return Returns a new list of the values.
+     */
+    public static LongList of(long... values) {
+        return values.length == 0 ? EMPTY : new LongList(values.clone());
+    }
+
+    /**
+     * Gets a value of this list without boxing.
+     *
+     * @param index Index of the value.
+     * @return Returns the value at the index.
+     * @throws IndexOutOfBoundsException Thrown if the index is out of range.
+     */
+    public long getLong(int index) {
+        return values[index];
+    }
+
+    @Override
+    public Long get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Checks if this list contains a value, without boxing.
+     *
+     * @param value Value to look for.
+     * @return Returns true if this list contains the value.
+     */
+    public boolean containsLong(long value) {
+        return indexOfLong(value) >= 0;
+    }
+
+    /**
+     * Finds the first index of a value, without boxing.
+     *
+     * @param value Value to look for.
+     * @return Returns the first index of the value, or -1 if this list does not contain it.
+     */
+    public int indexOfLong(long value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return Returns a new array holding the values of this list.
+     */
+    public long[] toLongArray() {
+        return values.clone();
+    }
+
+    /**
+     * Performs an action for each value of this list, in order, without boxing.
+     *
+     * @param action Action to perform.
+     */
+    public void forEachLong(@NotNull LongConsumer action) {
+        for (long value : values) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * @return Returns a sequential stream of the values of this list.
+     */
+    public LongStream longStream() {
+        return Arrays.stream(values);
+    }
+
+    @Override
+    boolean valuesEqual(long[] other) {
+        return Arrays.equals(values, other);
+    }
+
+    @Override
+    int valuesHashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    /**
+     * Wraps an array without copying it. The array must not be modified afterwards.
+     */
+    LongList(long[] values) {
+        super(values, values.length);
+    }
+
+    public static final LongList EMPTY = new LongList(new long[0]);
+}
@@ -0,0 +1,106 @@
+package com.github.thedeathlycow.simple.config.entry.collection;
+
+import com.github.thedeathlycow.simple.config.codec.Codecs;
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Config entry for lists of longs. Values are parsed straight into a long array and
+ * stored as a {@link LongList}, so elements are never boxed. Elements may optionally
+ * be bounded, in which case every element must be within the bounds.
+ *
+ * @author TheDeathlyCow
+ */
+public class LongListEntry extends PrimitiveListEntry<Long, LongList, long[]> {
+
+    /**
+     * Constructs a long list entry whose elements are unbounded.
+     *
+     * @param name         Name of the entry.
+     * @param defaultValue Default value of the entry in a config.
+     */
+    public LongListEntry(@NotNull String name, @NotNull LongList defaultValue) {
+        this(name, defaultValue, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a long list entry whose elements must be within a minimum and maximum bound.
+     *
+     * @param name         Name of the entry.
+     * @param defaultValue Default value of the entry in a config.
+     * @param min          Minimum allowed value of each element (inclusive).
+     * @param max          Maximum allowed value of each element (inclusive).
+     * @throws IllegalArgumentException Thrown if an element of the default value is
+     *                                  not within the bounds of min and max.
+     */
+    public LongListEntry(@NotNull String name, @NotNull LongList defaultValue, long min, long max) {
+        super(name, defaultValue, Long.class, LongList.class, LongList.EMPTY, Codecs.LONG);
+        this.min = min;
+        this.max = max;
+        this.checkDefaultValue(defaultValue);
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    @Override
+    long[] newArray(int length) {
+        return new long[length];
+    }
+
+    @Override
+    LongList wrap(long[] values) {
+        return new LongList(values);
+    }
+
+    /**
+     * Numbers are read without boxing, anything else is left to the codec, which consumes
+     * invalid values.
+     */
+    @Override
+    void readElement(JsonReader reader, long[] values, int index) throws IOException {
+        if (reader.peek() == JsonToken.NUMBER) {
+            try {
+                values[index] = reader.nextLong();
+                return;
+            } catch (NumberFormatException e) {
+                throw invalidNumber(reader, e);
+            }
+        }
+        values[index] = Codecs.LONG.read(reader);
+    }
+
+    @Override
+    void decodeElement(JsonElement element, long[] values, int index) {
+        values[index] = Codecs.LONG.decode(element);
+    }
+
+    @Override
+    void writeElement(JsonWriter writer, long[] values, int index) throws IOException {
+        writer.value(values[index]);
+    }
+
+    @Override
+    boolean isWithinBounds(long[] values, int index) {
+        return min <= values[index] && values[index] <= max;
+    }
+
+    @Override
+    protected boolean readsTrees() {
+        // subclasses may have overridden deserialize
+        return this.getClass() != LongListEntry.class;
+    }
+
+    private final long min;
+    private final long max;
+}
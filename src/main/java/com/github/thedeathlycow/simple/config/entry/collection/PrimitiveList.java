@@ -0,0 +1,79 @@
+package com.github.thedeathlycow.simple.config.entry.collection;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Base of the immutable lists backed by a primitive array, such as {@link IntList}. Holds
+ * the array and implements everything that does not depend on the element type. As a
+ * {@link java.util.List} it is a read-only view that boxes elements as they are read;
+ * the primitive accessors and bulk methods of subclasses never box.
+ *
+ * @param <E> Boxed type of the elements.
+ * @param <A> Type of the backing array.
+ * @author TheDeathlyCow
+ * @see PrimitiveListEntry
+ */
+public abstract sealed class PrimitiveList<E, A> extends AbstractList<E> implements RandomAccess
+        permits IntList, LongList, DoubleList {
+
+    /**
+     * Wraps an array without copying it. The array must not be modified afterwards.
+     */
+    PrimitiveList(A values, int size) {
+        this.values = values;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copies values of this list into an array.
+     *
+     * @param srcPos Index of the first value to copy.
+     * @param dest Array to copy into.
+     * @param destPos Index in <code>dest</code> to copy the first value to.
+     * @param length Number of values to copy.
+     * @throws IndexOutOfBoundsException Thrown if either range is out of bounds.
+     */
+    public void copyTo(int srcPos, A dest, int destPos, int length) {
+        System.arraycopy(values, srcPos, dest, destPos, length);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o instanceof PrimitiveList<?, ?> other && other.getClass() == this.getClass()) {
+            return this.valuesEqual((A) other.values);
+        }
+        return super.equals(o);
+    }
+
+    /**
+     * Same as the hash code of any {@link java.util.List} with the same values.
+     */
+    @Override
+    public int hashCode() {
+        return this.valuesHashCode();
+    }
+
+    /**
+     * Compares the values of this list with the values of a list of the same type.
+     */
+    abstract boolean valuesEqual(A other);
+
+    /**
+     * Hashes the values of this list the same way as {@link java.util.List#hashCode()}.
+     */
+    abstract int valuesHashCode();
+
+    /**
+     * Values of this list. Never modified. Read directly by {@link PrimitiveListEntry}.
+     */
+    final A values;
+    private final int size;
+}
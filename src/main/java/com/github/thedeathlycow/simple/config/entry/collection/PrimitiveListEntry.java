@@ -0,0 +1,202 @@
+package com.github.thedeathlycow.simple.config.entry.collection;
+
+import com.github.thedeathlycow.simple.config.codec.Codec;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Base of the config entries for {@link PrimitiveList}s. Values are parsed straight into a
+ * primitive array, so elements are never boxed. Elements may optionally be bounded, in which
+ * case every element must be within the bounds.
+ * <p>
+ * Subclasses only handle single elements of the backing array; reading, writing and
+ * validating whole lists is done here.
+ *
+ * @param <E> Boxed type of the elements.
+ * @param <L> Type of the list.
+ * @param <A> Type of the backing array of the list.
+ * @author TheDeathlyCow
+ */
+public abstract class PrimitiveListEntry<E, L extends PrimitiveList<E, A>, A> extends CollectionEntry<E, L> {
+
+    PrimitiveListEntry(@NotNull String name, @NotNull L defaultValue, @NotNull Class<E> type, @NotNull Class<L> listType, @NotNull L empty, @NotNull Codec<E> elementCodec) {
+        // elements are parsed straight into arrays, so the collection creator is never used
+        super(name, defaultValue, type, listType, () -> empty, elementCodec);
+        this.empty = empty;
+    }
+
+    /**
+     * Deserializes a JSON array into a list. If the JSON element is not an array, will
+     * treat it as a singleton list.
+     *
+     * @param jsonElement JSON element to deserialize
+     * @return Returns the list that the JSON element represents.
+     * @throws JsonSyntaxException Thrown if an element is not a valid value of the element type.
+     */
+    @Override
+    public L deserialize(JsonElement jsonElement) {
+        if (!jsonElement.isJsonArray()) {
+            A values = newArray(1);
+            decodeElement(jsonElement, values, 0);
+            return wrap(values);
+        }
+        JsonArray array = jsonElement.getAsJsonArray();
+        A values = newArray(array.size());
+        for (int i = 0; i < array.size(); i++) {
+            decodeElement(array.get(i), values, i);
+        }
+        return wrap(values);
+    }
+
+    /**
+     * Reads a JSON array from a stream straight into a primitive array. If the value is not
+     * an array, will treat it as a singleton list.
+     * <p>
+     * If an element is not valid, the rest of the array is still consumed before the
+     * exception is thrown.
+     *
+     * @param reader JSON reader positioned at the value to read.
+     * @return Returns the list that the value represents.
+     * @throws IOException Thrown if the reader could not be read from.
+     * @throws JsonSyntaxException Thrown if an element is not a valid value of the element type.
+     */
+    @Override
+    public L read(JsonReader reader) throws IOException {
+        if (this.readsTrees()) {
+            return deserialize(JsonParser.parseReader(reader));
+        }
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            A values = newArray(1);
+            readElement(reader, values, 0);
+            return wrap(values);
+        }
+
+        int capacity = 16;
+        A values = newArray(capacity);
+        int size = 0;
+        JsonParseException failure = null;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (failure != null) {
+                reader.skipValue();
+                continue;
+            }
+            try {
+                if (size == capacity) {
+                    capacity *= 2;
+                    values = copyOf(values, size, capacity);
+                }
+                readElement(reader, values, size);
+                size++;
+            } catch (JsonParseException e) {
+                failure = e;
+            }
+        }
+        reader.endArray();
+        if (failure != null) {
+            throw failure;
+        }
+        return size == 0 ? empty : wrap(size == capacity ? values : copyOf(values, size, size));
+    }
+
+    @Override
+    public void write(JsonWriter writer, L value) throws IOException {
+        writer.beginArray();
+        for (int i = 0; i < value.size(); i++) {
+            writeElement(writer, value.values, i);
+        }
+        writer.endArray();
+    }
+
+    /**
+     * Checks that every element of the list is within the bounds of this entry.
+     *
+     * @param value Value to check.
+     * @return Returns true if every element is within the bounds.
+     */
+    @Override
+    public boolean isValid(L value) {
+        return isWithinBounds(value);
+    }
+
+    /**
+     * Called by subclass constructors once the bounds are set.
+     *
+     * @throws IllegalArgumentException Thrown if an element of the default value is not
+     *                                  within the bounds.
+     */
+    void checkDefaultValue(L defaultValue) {
+        if (!isWithinBounds(defaultValue)) {
+            throw new IllegalArgumentException("Default value for bounded key " + this.getName() + " is invalid");
+        }
+    }
+
+    /**
+     * Creates a backing array of some length.
+     */
+    abstract A newArray(int length);
+
+    /**
+     * Wraps a backing array in a list without copying it.
+     */
+    abstract L wrap(A values);
+
+    /**
+     * Reads a single element from a stream into an array.
+     */
+    abstract void readElement(JsonReader reader, A values, int index) throws IOException;
+
+    /**
+     * Decodes a single element from a JSON tree into an array.
+     */
+    abstract void decodeElement(JsonElement element, A values, int index);
+
+    /**
+     * Writes a single element of an array to a stream.
+     */
+    abstract void writeElement(JsonWriter writer, A values, int index) throws IOException;
+
+    /**
+     * Checks that a single element of an array is within the bounds of this entry.
+     */
+    abstract boolean isWithinBounds(A values, int index);
+
+    /**
+     * Used when a number token could not be read as the element type. Consumes the number,
+     * which is still buffered in the reader, so that the rest of the array can be skipped.
+     */
+    static JsonSyntaxException invalidNumber(JsonReader reader, NumberFormatException cause) throws IOException {
+        reader.skipValue();
+        return new JsonSyntaxException(cause);
+    }
+
+    private A copyOf(A values, int size, int length) {
+        A copy = newArray(length);
+        System.arraycopy(values, 0, copy, 0, size);
+        return copy;
+    }
+
+    /**
+     * Used in the constructor rather than {@link #isValid(PrimitiveList)}, as subclasses may
+     * override that with checks on fields that are not yet initialized.
+     */
+    private boolean isWithinBounds(L value) {
+        for (int i = 0; i < value.size(); i++) {
+            if (!isWithinBounds(value.values, i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final L empty;
+}
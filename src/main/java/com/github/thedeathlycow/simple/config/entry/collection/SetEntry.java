@@ -31,4 +31,16 @@ public class SetEntry<T> extends CollectionEntry<T, Set<T>> {
     public SetEntry(@NotNull String name, @NotNull Set<T> defaultValue, @NotNull Class<T> type, @NotNull CollectionCreator<T, Set<T>> collectionCreator) {
         super(name, defaultValue, type, (Class) Set.class, collectionCreator);
     }
+
+    @Override
+    protected boolean readsTrees() {
+        // subclasses may have overridden deserialize
+        return this.getClass() != SetEntry.class;
+    }
+
+    @Override
+    protected boolean readsElementTrees() {
+        // subclasses may have overridden deserializeElement
+        return this.getClass() != SetEntry.class;
+    }
 }
@@ -0,0 +1,65 @@
+package com.github.thedeathlycow.simple.config.metrics;
+
+import com.github.thedeathlycow.simple.config.Config;
+import com.github.thedeathlycow.simple.config.entry.ConfigEntry;
+
+/**
+ * Receives metrics from a {@link Config}. Every method does nothing by default, so
+ * implementations only need to override what they want to record.
+ * <p>
+ * Methods are called on whichever thread did the work being reported, and must be
+ * safe to call from several threads at once.
+ *
+ * @author TheDeathlyCow
+ * @see Config#setMetrics(ConfigMetrics)
+ */
+public interface ConfigMetrics {
+
+    /**
+     * Metrics that records nothing. This is the default for every config, and adds
+     * no cost to reading values.
+     */
+    ConfigMetrics NONE = new ConfigMetrics() {
+    };
+
+    /**
+     * Called after a config has been reloaded from its file. Reloads that are skipped
+     * because the file has not changed are not reported.
+     *
+     * @param config The config that was reloaded.
+     * @param metrics Measurements of the reload.
+     */
+    default void onReload(Config config, ReloadMetrics metrics) {
+    }
+
+    /**
+     * Called when a config could not be reloaded from its file.
+     *
+     * @param config The config that failed to reload.
+     * @param error Why the reload failed.
+     */
+    default void onReloadFailed(Config config, Throwable error) {
+    }
+
+    /**
+     * Gets how often reads of entries are sampled. Only read when the metrics are
+     * set on a config, so changing the result afterwards has no effect.
+     *
+     * @return Returns <code>n</code> to report about one in every <code>n</code> reads,
+     * or 0 to not report reads at all.
+     */
+    default int getReadSampleRate() {
+        return 0;
+    }
+
+    /**
+     * Called for a sample of the reads of a config's values.
+     *
+     * @param config The config that was read.
+     * @param entry The entry whose value was read.
+     * @param weight The number of reads this sample stands for, which is the sample rate.
+     */
+    default void onEntryRead(Config config, ConfigEntry<?> entry, int weight) {
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.github.thedeathlycow.simple.config.metrics;
+
+import java.time.Duration;
+
+/**
+ * Measurements of a single reload of a config file.
+ *
+ * @param ioTime Time spent reading the file and checking whether it had changed.
+ * @param parseTime Time spent parsing and validating values, not including I/O.
+ * @param applyTime Time spent publishing the new values to the config.
+ * @param fileSize Size of the file in bytes.
+ * @param applied Number of entries that were read from the file and applied.
+ * @param skipped Number of keys in the file that are not entries of the config.
+ * @param rejected Number of entries whose values in the file could not be read or were invalid.
+ * @author TheDeathlyCow
+ */
+public record ReloadMetrics(
+        Duration ioTime,
+        Duration parseTime,
+        Duration applyTime,
+        long fileSize,
+        int applied,
+        int skipped,
+        int rejected
+) {
+
+    /**
+     * @return Returns the total time the reload took.
+     */
+    public Duration totalTime() {
+        return ioTime.plus(parseTime).plus(applyTime);
+    }
+
+}
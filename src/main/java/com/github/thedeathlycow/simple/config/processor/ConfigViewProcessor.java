@@ -0,0 +1,355 @@
+package com.github.thedeathlycow.simple.config.processor;
+
+import com.github.thedeathlycow.simple.config.annotation.ConfigView;
+import com.github.thedeathlycow.simple.config.annotation.Entry;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Generates the classes of {@link ConfigView} interfaces. Registered as a service, so it
+ * runs whenever this library is on the annotation processor path.
+ *
+ * @author TheDeathlyCow
+ */
+@SupportedAnnotationTypes("com.github.thedeathlycow.simple.config.annotation.ConfigView")
+public class ConfigViewProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(ConfigView.class)) {
+            if (element.getKind() != ElementKind.INTERFACE) {
+                error(element, "@ConfigView may only be used on interfaces");
+                continue;
+            }
+            TypeElement view = (TypeElement) element;
+            List<EntryModel> entries = readEntries(view);
+            if (entries != null) {
+                generate(view, entries);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the entries declared by an interface.
+     *
+     * @return Returns the entries, or null if any of them are invalid.
+     */
+    private List<EntryModel> readEntries(TypeElement view) {
+        List<EntryModel> entries = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        Set<String> constants = new HashSet<>();
+        boolean valid = true;
+        for (Element member : view.getEnclosedElements()) {
+            if (member.getKind() != ElementKind.METHOD
+                    || member.getModifiers().contains(Modifier.DEFAULT)
+                    || member.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            ExecutableElement method = (ExecutableElement) member;
+            EntryModel entry = readEntry(method);
+            if (entry == null) {
+                valid = false;
+            } else if (!names.add(entry.name)) {
+                error(method, "Duplicate entry name '" + entry.name + "'");
+                valid = false;
+            } else if (!constants.add(entry.constant)) {
+                error(method, "Method " + entry.method + " has the same constant name " + entry.constant + " as another entry");
+                valid = false;
+            } else {
+                entries.add(entry);
+            }
+        }
+        return valid ? entries : null;
+    }
+
+    private EntryModel readEntry(ExecutableElement method) {
+        String methodName = method.getSimpleName().toString();
+        if (!method.getParameters().isEmpty() || !method.getTypeParameters().isEmpty()) {
+            error(method, "Config view methods may not have parameters");
+            return null;
+        }
+        if (RESERVED_NAMES.contains(methodName)) {
+            error(method, "Config view methods may not be named " + methodName + ", as it is used by the generated class");
+            return null;
+        }
+        Entry annotation = method.getAnnotation(Entry.class);
+        if (annotation == null) {
+            error(method, "Config view methods must be annotated with @Entry");
+            return null;
+        }
+
+        TypeMirror returnType = method.getReturnType();
+        Kind kind = Kind.of(returnType);
+        if (kind == null) {
+            error(method, "Unsupported config view type " + returnType);
+            return null;
+        }
+        if (annotation.defaultValue().isEmpty() && kind != Kind.STRING) {
+            error(method, "@Entry of type " + returnType + " must have a default value");
+            return null;
+        }
+        if ((!annotation.min().isEmpty() || !annotation.max().isEmpty()) && !kind.bounded) {
+            error(method, "@Entry of type " + returnType + " may not have bounds");
+            return null;
+        }
+
+        String name = annotation.name().isEmpty() ? methodName : annotation.name();
+        String type = kind == Kind.ENUM ? returnType.toString() : kind.fieldType;
+        String entryType = kind == Kind.ENUM ? ENTRY_PACKAGE + "EnumEntry<" + type + ">" : ENTRY_PACKAGE + kind.entryType;
+
+        StringBuilder arguments = new StringBuilder(javaString(name));
+        try {
+            arguments.append(", ").append(literal(kind, returnType, annotation.defaultValue()));
+            if (kind == Kind.ENUM) {
+                arguments.append(", ").append(type).append(".class");
+            }
+            if (kind.bounded) {
+                arguments.append(", ").append(annotation.min().isEmpty() ? kind.min : literal(kind, returnType, annotation.min()));
+                arguments.append(", ").append(annotation.max().isEmpty() ? kind.max : literal(kind, returnType, annotation.max()));
+            }
+        } catch (IllegalArgumentException e) {
+            error(method, e.getMessage());
+            return null;
+        }
+        // otherwise the generated class would fail to initialize
+        if (kind.bounded && !isWithinBounds(kind, annotation)) {
+            error(method, "Default value " + annotation.defaultValue() + " of entry '" + name + "' is not within its bounds");
+            return null;
+        }
+
+        return new EntryModel(methodName, name, constantName(methodName), kind, type, entryType, arguments.toString());
+    }
+
+    /**
+     * Converts a value of an {@link Entry} into a Java literal of an entry's type.
+     *
+     * @throws IllegalArgumentException Thrown if the value is not valid for the type.
+     */
+    private String literal(Kind kind, TypeMirror type, String value) {
+        try {
+            return switch (kind) {
+                case INT -> Integer.toString(Integer.parseInt(value));
+                case SHORT -> "(short) " + Short.parseShort(value);
+                case BYTE -> "(byte) " + Byte.parseByte(value);
+                case DOUBLE -> {
+                    double parsed = Double.parseDouble(value);
+                    yield floatingLiteral(parsed, "Double", parsed + "");
+                }
+                case FLOAT -> {
+                    float parsed = Float.parseFloat(value);
+                    yield floatingLiteral(parsed, "Float", parsed + "f");
+                }
+                case BOOLEAN -> {
+                    if (!value.equals("true") && !value.equals("false")) {
+                        throw new IllegalArgumentException("Invalid boolean '" + value + "'");
+                    }
+                    yield value;
+                }
+                case STRING -> javaString(value);
+                case ENUM -> {
+                    TypeElement enumType = (TypeElement) processingEnv.getTypeUtils().asElement(type);
+                    for (Element constant : enumType.getEnclosedElements()) {
+                        if (constant.getKind() == ElementKind.ENUM_CONSTANT && constant.getSimpleName().contentEquals(value)) {
+                            yield type + "." + value;
+                        }
+                    }
+                    throw new IllegalArgumentException(type + " has no constant '" + value + "'");
+                }
+            };
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + kind.fieldType + " '" + value + "'");
+        }
+    }
+
+    /**
+     * Checks the default value of a bounded entry against its bounds, after they have
+     * been checked by {@link #literal(Kind, TypeMirror, String)}. Every bounded type is
+     * exactly representable as a double, and floats are rounded first so that they
+     * compare the same way as in the generated entry.
+     */
+    private static boolean isWithinBounds(Kind kind, Entry annotation) {
+        double value = parseBound(kind, annotation.defaultValue(), Double.NaN);
+        double min = parseBound(kind, annotation.min(), Double.NEGATIVE_INFINITY);
+        double max = parseBound(kind, annotation.max(), Double.POSITIVE_INFINITY);
+        return min <= value && value <= max;
+    }
+
+    private static double parseBound(Kind kind, String value, double fallback) {
+        if (value.isEmpty()) {
+            return fallback;
+        }
+        return kind == Kind.FLOAT ? Float.parseFloat(value) : Double.parseDouble(value);
+    }
+
+    private static String floatingLiteral(double value, String boxed, String literal) {
+        if (Double.isNaN(value)) {
+            return boxed + ".NaN";
+        } else if (Double.isInfinite(value)) {
+            return value > 0 ? boxed + ".POSITIVE_INFINITY" : boxed + ".NEGATIVE_INFINITY";
+        }
+        return literal;
+    }
+
+    private void generate(TypeElement view, List<EntryModel> entries) {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(view);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String className = view.getAnnotation(ConfigView.class).className();
+        if (className.isEmpty()) {
+            className = view.getSimpleName() + "View";
+        }
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, view).openWriter()) {
+            writer.write(new ViewWriter(packageName, className, view.getQualifiedName().toString(), entries).write());
+        } catch (IOException e) {
+            error(view, "Could not write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * Converts a method name, such as <code>maxPlayers</code>, into a constant name, such as <code>MAX_PLAYERS</code>.
+     */
+    private static String constantName(String methodName) {
+        StringBuilder constant = new StringBuilder();
+        for (int i = 0; i < methodName.length(); i++) {
+            char c = methodName.charAt(i);
+            if (Character.isUpperCase(c) && i > 0) {
+                constant.append('_');
+            }
+            constant.append(Character.toUpperCase(c));
+        }
+        return constant.toString().toUpperCase(Locale.ROOT);
+    }
+
+    static String javaString(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7E) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    /**
+     * Supported types of entries.
+     */
+    enum Kind {
+        INT("int", "IntegerEntry", "getInt", true, "Integer.MIN_VALUE", "Integer.MAX_VALUE"),
+        SHORT("short", "ShortEntry", "getShort", true, "Short.MIN_VALUE", "Short.MAX_VALUE"),
+        BYTE("byte", "ByteEntry", "getByte", true, "Byte.MIN_VALUE", "Byte.MAX_VALUE"),
+        DOUBLE("double", "DoubleEntry", "getDouble", true, "Double.NEGATIVE_INFINITY", "Double.POSITIVE_INFINITY"),
+        FLOAT("float", "FloatEntry", "getFloat", true, "Float.NEGATIVE_INFINITY", "Float.POSITIVE_INFINITY"),
+        BOOLEAN("boolean", "BooleanEntry", "getBoolean", false, null, null),
+        STRING("java.lang.String", "StringEntry", "get", false, null, null),
+        ENUM(null, null, "get", false, null, null);
+
+        Kind(String fieldType, String entryType, String getter, boolean bounded, String min, String max) {
+            this.fieldType = fieldType;
+            this.entryType = entryType;
+            this.getter = getter;
+            this.bounded = bounded;
+            this.min = min;
+            this.max = max;
+        }
+
+        static Kind of(TypeMirror type) {
+            switch (type.getKind()) {
+                case INT:
+                    return INT;
+                case SHORT:
+                    return SHORT;
+                case BYTE:
+                    return BYTE;
+                case DOUBLE:
+                    return DOUBLE;
+                case FLOAT:
+                    return FLOAT;
+                case BOOLEAN:
+                    return BOOLEAN;
+                case DECLARED:
+                    if (type.toString().equals("java.lang.String")) {
+                        return STRING;
+                    }
+                    Element element = ((DeclaredType) type).asElement();
+                    return element.getKind() == ElementKind.ENUM ? ENUM : null;
+                default:
+                    return null;
+            }
+        }
+
+        final String fieldType;
+        final String entryType;
+        final String getter;
+        final boolean bounded;
+        final String min;
+        final String max;
+    }
+
+    /**
+     * An entry of a config view.
+     *
+     * @param method Name of the method that declares the entry, also used for the field.
+     * @param name Name of the entry in the config.
+     * @param constant Name of the constant that holds the entry.
+     * @param kind Type of the entry.
+     * @param type Java type of the value.
+     * @param entryType Java type of the entry.
+     * @param arguments Arguments of the entry's constructor.
+     */
+    record EntryModel(String method, String name, String constant, Kind kind, String type, String entryType, String arguments) {
+    }
+
+    /**
+     * Names of the parameters and members of generated classes that an entry's field
+     * or method would clash with, including the methods of {@link Object} that take no
+     * parameters, such as <code>toString</code>, which the generated class overrides.
+     */
+    private static final Set<String> RESERVED_NAMES = Set.of(
+            "reader", "writer", "snapshot", "entries",
+            "toString", "hashCode", "getClass", "clone", "finalize", "notify", "notifyAll", "wait"
+    );
+
+    private static final String ENTRY_PACKAGE = "com.github.thedeathlycow.simple.config.entry.";
+}
@@ -0,0 +1,225 @@
+package com.github.thedeathlycow.simple.config.processor;
+
+import com.github.thedeathlycow.simple.config.processor.ConfigViewProcessor.EntryModel;
+
+import java.util.List;
+
+/**
+ * Writes the source of a generated config view class. Generated code uses fully
+ * qualified names, so that it never clashes with the names in the user's package.
+ *
+ * @author TheDeathlyCow
+ */
+class ViewWriter {
+
+    ViewWriter(String packageName, String className, String viewName, List<EntryModel> entries) {
+        this.packageName = packageName;
+        this.className = className;
+        this.viewName = viewName;
+        this.entries = entries;
+    }
+
+    String write() {
+        if (!packageName.isEmpty()) {
+            line(0, "package " + packageName + ";");
+            line(0, "");
+        }
+        line(0, "/**");
+        line(0, " * Typed view of a config, generated from {@link " + viewName + "}. Do not edit.");
+        line(0, " */");
+        line(0, "@javax.annotation.processing.Generated(\"" + ConfigViewProcessor.class.getName() + "\")");
+        line(0, "public final class " + className + " implements " + viewName + " {");
+        line(0, "");
+
+        for (EntryModel entry : entries) {
+            line(1, "public static final " + entry.entryType() + " " + entry.constant()
+                    + " = new " + entry.entryType() + "(" + entry.arguments() + ");");
+        }
+        if (!entries.isEmpty()) {
+            line(0, "");
+        }
+
+        writeConstructors();
+        writeFactories();
+        writeRead();
+        writeWrite();
+
+        for (EntryModel entry : entries) {
+            line(1, "@Override");
+            line(1, "public " + entry.type() + " " + entry.method() + "() {");
+            line(2, "return " + entry.method() + ";");
+            line(1, "}");
+            line(0, "");
+        }
+
+        line(1, "@Override");
+        line(1, "public String toString() {");
+        StringBuilder toString = new StringBuilder("return \"" + className + "{\"");
+        for (int i = 0; i < entries.size(); i++) {
+            EntryModel entry = entries.get(i);
+            toString.append(" + \"").append(i > 0 ? ", " : "").append(entry.method()).append("=\" + ").append(entry.method());
+        }
+        line(2, toString.append(" + \"}\";").toString());
+        line(1, "}");
+        line(0, "");
+
+        line(1, "private static <T> T readValue(" + ENTRY + "<T> entry, " + READER + " reader) throws java.io.IOException {");
+        line(2, "T value = entry.read(reader);");
+        line(2, "if (!entry.isValid(value)) {");
+        line(3, "throw new com.google.gson.JsonSyntaxException(\"Invalid value for '\" + entry.getName() + \"': \" + value);");
+        line(2, "}");
+        line(2, "return value;");
+        line(1, "}");
+        line(0, "");
+
+        for (EntryModel entry : entries) {
+            line(1, "private final " + entry.type() + " " + entry.method() + ";");
+        }
+        line(0, "}");
+        return source.toString();
+    }
+
+    private void writeConstructors() {
+        line(1, "/**");
+        line(1, " * Reads every value of this view from a snapshot of a config.");
+        line(1, " *");
+        line(1, " * @param snapshot Snapshot of a config that contains every entry of this view.");
+        line(1, " * @throws IllegalArgumentException Thrown if an entry is not part of the snapshot.");
+        line(1, " */");
+        line(1, "public " + className + "(" + SNAPSHOT + " snapshot) {");
+        for (EntryModel entry : entries) {
+            line(2, "this." + entry.method() + " = snapshot." + entry.kind().getter + "(" + entry.constant() + ");");
+        }
+        line(1, "}");
+        line(0, "");
+
+        StringBuilder parameters = new StringBuilder();
+        for (EntryModel entry : entries) {
+            if (parameters.length() > 0) {
+                parameters.append(", ");
+            }
+            parameters.append(entry.type()).append(' ').append(entry.method());
+        }
+        line(1, "private " + className + "(" + parameters + ") {");
+        for (EntryModel entry : entries) {
+            line(2, "this." + entry.method() + " = " + entry.method() + ";");
+        }
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeFactories() {
+        line(1, "/**");
+        line(1, " * @param config Config that contains every entry of this view.");
+        line(1, " * @return Returns a view of the current values of the config.");
+        line(1, " */");
+        line(1, "public static " + className + " of(" + CONFIG + " config) {");
+        line(2, "return new " + className + "(config.snapshot());");
+        line(1, "}");
+        line(0, "");
+
+        line(1, "/**");
+        line(1, " * @return Returns a new array of every entry of this view, in declaration order.");
+        line(1, " */");
+        line(1, "public static " + ENTRY + "<?>[] entries() {");
+        StringBuilder constants = new StringBuilder();
+        for (EntryModel entry : entries) {
+            if (constants.length() > 0) {
+                constants.append(", ");
+            }
+            constants.append(entry.constant());
+        }
+        line(2, "return new " + ENTRY + "<?>[]{" + constants + "};");
+        line(1, "}");
+        line(0, "");
+
+        line(1, "/**");
+        line(1, " * Creates a config with every entry of this view.");
+        line(1, " *");
+        line(1, " * @param namespace Namespace of the artefact creating the config.");
+        line(1, " * @param configName The name of the config.");
+        line(1, " * @param parentDir The parent directory of the config");
+        line(1, " * @return Returns the new config");
+        line(1, " */");
+        line(1, "public static " + CONFIG + " createConfig(String namespace, String configName, java.nio.file.Path parentDir) {");
+        line(2, "return com.github.thedeathlycow.simple.config.ConfigFactory.createConfigWithKeys(namespace, configName, parentDir, entries());");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeRead() {
+        line(1, "/**");
+        line(1, " * Reads a view straight from a JSON object, without creating a config. Entries");
+        line(1, " * missing from the object have their default values, and unknown keys are skipped.");
+        line(1, " *");
+        line(1, " * @param reader JSON reader positioned at the object to read.");
+        line(1, " * @return Returns the view that the object represents.");
+        line(1, " * @throws java.io.IOException Thrown if the reader could not be read from.");
+        line(1, " * @throws com.google.gson.JsonSyntaxException Thrown if a value is not valid for its entry.");
+        line(1, " */");
+        line(1, "public static " + className + " read(" + READER + " reader) throws java.io.IOException {");
+        for (EntryModel entry : entries) {
+            line(2, entry.type() + " " + entry.method() + " = " + entry.constant() + ".getDefaultValue();");
+        }
+        line(2, "reader.beginObject();");
+        line(2, "while (reader.hasNext()) {");
+        line(3, "switch (reader.nextName()) {");
+        for (EntryModel entry : entries) {
+            line(4, "case " + ConfigViewProcessor.javaString(entry.name()) + ":");
+            line(5, entry.method() + " = readValue(" + entry.constant() + ", reader);");
+            line(5, "break;");
+        }
+        line(4, "default:");
+        line(5, "reader.skipValue();");
+        line(3, "}");
+        line(2, "}");
+        line(2, "reader.endObject();");
+        StringBuilder arguments = new StringBuilder();
+        for (EntryModel entry : entries) {
+            if (arguments.length() > 0) {
+                arguments.append(", ");
+            }
+            arguments.append(entry.method());
+        }
+        line(2, "return new " + className + "(" + arguments + ");");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeWrite() {
+        line(1, "/**");
+        line(1, " * Writes this view as a JSON object, in the same format as a saved config.");
+        line(1, " *");
+        line(1, " * @param writer JSON writer to write to.");
+        line(1, " * @throws java.io.IOException Thrown if the writer could not be written to.");
+        line(1, " */");
+        line(1, "public void write(" + WRITER + " writer) throws java.io.IOException {");
+        line(2, "writer.beginObject();");
+        for (EntryModel entry : entries) {
+            line(2, "writer.name(" + ConfigViewProcessor.javaString(entry.name()) + ");");
+            line(2, entry.constant() + ".write(writer, " + entry.method() + ");");
+        }
+        line(2, "writer.endObject();");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void line(int indent, String line) {
+        if (!line.isEmpty()) {
+            source.append("    ".repeat(indent)).append(line);
+        }
+        source.append('\n');
+    }
+
+    private static final String CONFIG = "com.github.thedeathlycow.simple.config.Config";
+    private static final String SNAPSHOT = "com.github.thedeathlycow.simple.config.ConfigSnapshot";
+    private static final String ENTRY = "com.github.thedeathlycow.simple.config.entry.ConfigEntry";
+    private static final String READER = "com.google.gson.stream.JsonReader";
+    private static final String WRITER = "com.google.gson.stream.JsonWriter";
+
+    private final String packageName;
+    private final String className;
+    private final String viewName;
+    private final List<EntryModel> entries;
+    private final StringBuilder source = new StringBuilder();
+}
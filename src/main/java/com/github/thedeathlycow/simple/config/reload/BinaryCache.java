@@ -0,0 +1,296 @@
+package com.github.thedeathlycow.simple.config.reload;
+
+import com.github.thedeathlycow.simple.config.AtomicFileWriter;
+import com.github.thedeathlycow.simple.config.Config;
+import com.github.thedeathlycow.simple.config.ConfigSnapshot;
+import com.github.thedeathlycow.simple.config.codec.RawJson;
+import com.github.thedeathlycow.simple.config.entry.ConfigEntry;
+import com.github.thedeathlycow.simple.config.entry.collection.DoubleList;
+import com.github.thedeathlycow.simple.config.entry.collection.IntList;
+import com.github.thedeathlycow.simple.config.entry.collection.LongList;
+import com.google.gson.JsonParseException;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.zip.CRC32;
+
+/**
+ * Compact binary copy of the values that a config file applied to its config, stored
+ * next to the config file. Loading the cache skips parsing the JSON, which matters for
+ * configs with large lists.
+ * <p>
+ * The cache is keyed by the size and CRC-32 of the config file, and by a hash of the
+ * names and classes of the config's entries. It is only used if all three match, and
+ * every cached value is still valid for its entry. Each value is stored as a
+ * length-prefixed record with a type tag. Scalars, strings and primitive lists are
+ * stored as raw bytes, and any other value is stored as the JSON its entry writes, so
+ * that only that value has to be parsed. Values of lazy entries that have not been read
+ * yet are stored as their raw JSON, and stay lazy when the cache is loaded.
+ *
+ * @author TheDeathlyCow
+ */
+class BinaryCache {
+
+    BinaryCache(Path location) {
+        this.location = location;
+        this.writer = new AtomicFileWriter(location);
+    }
+
+    /**
+     * Hashes the names and classes of the entries of a config.
+     *
+     * @param entries Entries of the config.
+     * @return Returns a hash that changes whenever an entry is added, removed, renamed or retyped.
+     */
+    static long schemaHash(Collection<ConfigEntry<?>> entries) {
+        CRC32 hash = new CRC32();
+        for (ConfigEntry<?> entry : entries) {
+            hash.update(entry.getName().getBytes(StandardCharsets.UTF_8));
+            hash.update(0);
+            hash.update(entry.getClass().getName().getBytes(StandardCharsets.UTF_8));
+            hash.update(0);
+        }
+        return hash.getValue();
+    }
+
+    /**
+     * Applies the cached values of a config file to a snapshot builder, if the cache is
+     * up to date.
+     *
+     * @param config Config the builder was created from.
+     * @param source The config file.
+     * @param attributes Attributes of the config file.
+     * @param schemaHash {@link #schemaHash(Collection) Schema hash} of the config.
+     * @param configIn Builder to apply the cached values to.
+     * @param counts Counts of the entries that were applied and skipped.
+     * @return Returns the fingerprint of the config file if the cache was applied, or null
+     * if there is no up-to-date cache. The builder should be discarded if the cache was not applied.
+     * @throws IOException Thrown if the config file could not be read.
+     */
+    @Nullable
+    FileFingerprint read(Config config, Path source, BasicFileAttributes attributes, long schemaHash,
+                         ConfigSnapshot.Builder configIn, Reloadable.ReloadCounts counts) throws IOException {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(location);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+
+        try {
+            ByteBuffer in = ByteBuffer.wrap(bytes);
+            if (in.getInt() != MAGIC || in.getInt() != VERSION
+                    || in.getLong() != attributes.size() || in.getLong() != schemaHash) {
+                return null;
+            }
+            long sourceHash = in.getLong();
+            if (FileFingerprint.hash(source) != sourceHash) {
+                return null;
+            }
+            CRC32 checksum = new CRC32();
+            checksum.update(bytes, 0, bytes.length - Long.BYTES);
+            if (checksum.getValue() != ByteBuffer.wrap(bytes, bytes.length - Long.BYTES, Long.BYTES).getLong()) {
+                return null;
+            }
+
+            int skipped = in.getInt();
+            int count = in.getInt();
+            for (int i = 0; i < count; i++) {
+                ConfigEntry<?> entry = config.getEntryByName(new String(readBytes(in), StandardCharsets.UTF_8));
+                byte tag = in.get();
+                ByteBuffer value = ByteBuffer.wrap(readBytes(in));
+                if (entry == null || !apply(configIn, entry, tag, value)) {
+                    return null;
+                }
+            }
+            counts.applied += count;
+            counts.skipped += skipped;
+            return new FileFingerprint(attributes.size(), attributes.lastModifiedTime(), sourceHash);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            // truncated or corrupt
+            return null;
+        }
+    }
+
+    /**
+     * Replaces the cache with the values that a config file applied to its config.
+     *
+     * @param fingerprint Fingerprint of the config file.
+     * @param schemaHash {@link #schemaHash(Collection) Schema hash} of the config.
+     * @param snapshot Snapshot that was read from the config file.
+     * @param applied Entries whose values were read from the config file.
+     * @param skipped Number of unknown keys in the config file.
+     * @throws IOException Thrown if the cache could not be written.
+     */
+    void write(FileFingerprint fingerprint, long schemaHash, ConfigSnapshot snapshot,
+               Collection<ConfigEntry<?>> applied, int skipped) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(fingerprint.size());
+        out.writeLong(schemaHash);
+        out.writeLong(fingerprint.hash());
+        out.writeInt(skipped);
+        out.writeInt(applied.size());
+        for (ConfigEntry<?> entry : applied) {
+            writeBytes(out, entry.getName().getBytes(StandardCharsets.UTF_8));
+            writeValue(out, entry, snapshot);
+        }
+        out.writeLong(0L);
+
+        byte[] cache = bytes.toByteArray();
+        CRC32 checksum = new CRC32();
+        checksum.update(cache, 0, cache.length - Long.BYTES);
+        ByteBuffer.wrap(cache).putLong(cache.length - Long.BYTES, checksum.getValue());
+        this.writer.write(cache);
+    }
+
+    Path getLocation() {
+        return location;
+    }
+
+    private static <T> boolean apply(ConfigSnapshot.Builder configIn, ConfigEntry<T> entry, byte tag, ByteBuffer in) throws IOException {
+        if (tag == TAG_JSON && entry.isLazy()) {
+            configIn.setLazy(entry, StandardCharsets.UTF_8.decode(in).toString());
+            return true;
+        }
+        T value;
+        try {
+            value = tag == TAG_JSON
+                    ? entry.read(RawJson.newReader(new StringReader(StandardCharsets.UTF_8.decode(in).toString())))
+                    : entry.adapt(decode(tag, in));
+        } catch (JsonParseException | ClassCastException e) {
+            return false;
+        }
+        // throws if the entry's checks are stricter than when the cache was written
+        configIn.set(entry, value);
+        return true;
+    }
+
+    private static Object decode(byte tag, ByteBuffer in) {
+        return switch (tag) {
+            case TAG_INT -> in.getInt();
+            case TAG_LONG -> in.getLong();
+            case TAG_SHORT -> in.getShort();
+            case TAG_BYTE -> in.get();
+            case TAG_DOUBLE -> in.getDouble();
+            case TAG_FLOAT -> in.getFloat();
+            case TAG_BOOLEAN -> in.get() != 0;
+            case TAG_STRING -> StandardCharsets.UTF_8.decode(in).toString();
+            case TAG_INT_LIST -> {
+                int[] values = new int[in.remaining() / Integer.BYTES];
+                in.asIntBuffer().get(values);
+                yield IntList.of(values);
+            }
+            case TAG_LONG_LIST -> {
+                long[] values = new long[in.remaining() / Long.BYTES];
+                in.asLongBuffer().get(values);
+                yield LongList.of(values);
+            }
+            case TAG_DOUBLE_LIST -> {
+                double[] values = new double[in.remaining() / Double.BYTES];
+                in.asDoubleBuffer().get(values);
+                yield DoubleList.of(values);
+            }
+            default -> throw new IllegalArgumentException("Unknown tag " + tag);
+        };
+    }
+
+    private static <T> void writeValue(DataOutputStream out, ConfigEntry<T> entry, ConfigSnapshot snapshot) throws IOException {
+        String lazyJson = snapshot.getLazyJson(entry);
+        T value = lazyJson == null ? snapshot.get(entry) : null;
+        ByteBuffer encoded;
+        byte tag;
+        if (lazyJson != null) {
+            // not deserialized yet, and left that way
+            tag = TAG_JSON;
+            encoded = ByteBuffer.wrap(lazyJson.getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Integer i) {
+            tag = TAG_INT;
+            encoded = ByteBuffer.allocate(Integer.BYTES).putInt(i);
+        } else if (value instanceof Long l) {
+            tag = TAG_LONG;
+            encoded = ByteBuffer.allocate(Long.BYTES).putLong(l);
+        } else if (value instanceof Short s) {
+            tag = TAG_SHORT;
+            encoded = ByteBuffer.allocate(Short.BYTES).putShort(s);
+        } else if (value instanceof Byte b) {
+            tag = TAG_BYTE;
+            encoded = ByteBuffer.allocate(Byte.BYTES).put(b);
+        } else if (value instanceof Double d) {
+            tag = TAG_DOUBLE;
+            encoded = ByteBuffer.allocate(Double.BYTES).putDouble(d);
+        } else if (value instanceof Float f) {
+            tag = TAG_FLOAT;
+            encoded = ByteBuffer.allocate(Float.BYTES).putFloat(f);
+        } else if (value instanceof Boolean b) {
+            tag = TAG_BOOLEAN;
+            encoded = ByteBuffer.allocate(1).put((byte) (b ? 1 : 0));
+        } else if (value instanceof String s) {
+            tag = TAG_STRING;
+            encoded = ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof IntList list) {
+            tag = TAG_INT_LIST;
+            encoded = ByteBuffer.allocate(list.size() * Integer.BYTES);
+            encoded.asIntBuffer().put(list.toIntArray());
+        } else if (value instanceof LongList list) {
+            tag = TAG_LONG_LIST;
+            encoded = ByteBuffer.allocate(list.size() * Long.BYTES);
+            encoded.asLongBuffer().put(list.toLongArray());
+        } else if (value instanceof DoubleList list) {
+            tag = TAG_DOUBLE_LIST;
+            encoded = ByteBuffer.allocate(list.size() * Double.BYTES);
+            encoded.asDoubleBuffer().put(list.toDoubleArray());
+        } else {
+            tag = TAG_JSON;
+            StringWriter json = new StringWriter();
+            entry.write(RawJson.newWriter(json), value);
+            encoded = ByteBuffer.wrap(json.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        out.writeByte(tag);
+        writeBytes(out, encoded.array());
+    }
+
+    private static byte[] readBytes(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return bytes;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private final Path location;
+    private final AtomicFileWriter writer;
+
+    private static final int MAGIC = 0x53434643; // "SCFC"
+    private static final int VERSION = 1;
+
+    private static final byte TAG_JSON = 0;
+    private static final byte TAG_INT = 1;
+    private static final byte TAG_LONG = 2;
+    private static final byte TAG_SHORT = 3;
+    private static final byte TAG_BYTE = 4;
+    private static final byte TAG_DOUBLE = 5;
+    private static final byte TAG_FLOAT = 6;
+    private static final byte TAG_BOOLEAN = 7;
+    private static final byte TAG_STRING = 8;
+    private static final byte TAG_INT_LIST = 9;
+    private static final byte TAG_LONG_LIST = 10;
+    private static final byte TAG_DOUBLE_LIST = 11;
+}
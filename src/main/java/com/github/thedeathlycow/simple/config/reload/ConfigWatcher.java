@@ -0,0 +1,207 @@
+package com.github.thedeathlycow.simple.config.reload;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watches the files of every config listening to a {@link ReloadEvent}, and reloads
+ * a config when its file changes.
+ * <p>
+ * Editors and deploy tools often touch a file several times in quick succession
+ * (write, rename, chmod), so file events are debounced: a config is reloaded once
+ * its file has been quiet for the debounce period, and only once per burst of events.
+ * Only the configs whose files changed are reloaded.
+ * <p>
+ * A single watcher thread serves every config of the event. Configs added to the
+ * event after the watcher is started are picked up on the next call to {@link #refresh()}.
+ *
+ * @author TheDeathlyCow
+ */
+public class ConfigWatcher implements Closeable {
+
+    /**
+     * Creates a watcher for the configs of a reload event. The watcher does not
+     * do anything until it is started.
+     *
+     * @param event The event whose listeners should be watched.
+     * @param debounce How long a config file must be quiet before it is reloaded.
+     * @throws IOException Thrown if a watch service could not be created.
+     */
+    public ConfigWatcher(@NotNull ReloadEvent event, @NotNull Duration debounce) throws IOException {
+        this.event = event;
+        this.debounceNanos = debounce.toNanos();
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.thread = new Thread(this::run, "ConfigWatcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts watching the files of every config of the event on a new daemon thread.
+     *
+     * @throws IllegalStateException Thrown if the watcher has already been started.
+     */
+    public synchronized void start() {
+        if (started) {
+            throw new IllegalStateException("Config watcher has already been started");
+        }
+        started = true;
+        refresh();
+        thread.start();
+    }
+
+    /**
+     * Registers the parent directories of any configs that have been added to the event
+     * since the watcher was started or last refreshed. Directories that do not exist yet
+     * are logged and skipped.
+     */
+    public synchronized void refresh() {
+        Map<Path, Set<Reloadable>> byFile = new HashMap<>();
+        for (Reloadable listener : event.getListeners()) {
+            Path location = listener.getConfig().getLocation().toPath().toAbsolutePath().normalize();
+            byFile.computeIfAbsent(location, path -> new HashSet<>()).add(listener);
+
+            Path directory = location.getParent();
+            if (!watchedDirectories.containsKey(directory)) {
+                try {
+                    WatchKey key = directory.register(
+                            watchService,
+                            StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY
+                    );
+                    watchedDirectories.put(directory, key);
+                } catch (IOException e) {
+                    LOGGER.log(Level.WARNING, "Cannot watch config directory " + directory + ": " + e.getMessage());
+                }
+            }
+        }
+        this.listenersByFile = byFile;
+    }
+
+    /**
+     * Stops watching and ends the watcher thread. Reloads that are still waiting for
+     * their debounce period are dropped.
+     *
+     * @throws IOException Thrown if the watch service could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    /**
+     * Main loop of the watcher thread. Waits for file events until the next pending reload
+     * is due, then reloads everything that has been quiet for the debounce period.
+     */
+    private void run() {
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                WatchKey key = pending.isEmpty()
+                        ? watchService.take()
+                        : watchService.poll(nextDeadline() - now, TimeUnit.NANOSECONDS);
+                if (key != null) {
+                    handleEvents(key);
+                }
+                reloadDue();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // closed, exit
+        }
+    }
+
+    private void handleEvents(WatchKey key) {
+        Path directory = (Path) key.watchable();
+        long deadline = System.nanoTime() + debounceNanos;
+        Map<Path, Set<Reloadable>> byFile = this.listenersByFile;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // events were lost, reload everything in the directory
+                for (Map.Entry<Path, Set<Reloadable>> file : byFile.entrySet()) {
+                    if (directory.equals(file.getKey().getParent())) {
+                        schedule(file.getValue(), deadline);
+                    }
+                }
+            } else {
+                Path file = directory.resolve((Path) event.context());
+                schedule(byFile.getOrDefault(file, Collections.emptySet()), deadline);
+            }
+        }
+        if (!key.reset()) {
+            watchedDirectories.remove(directory);
+        }
+    }
+
+    private void schedule(Set<Reloadable> listeners, long deadline) {
+        for (Reloadable listener : listeners) {
+            // re-insert so that the map stays ordered by deadline
+            pending.remove(listener);
+            pending.put(listener, deadline);
+        }
+    }
+
+    private long nextDeadline() {
+        return pending.values().iterator().next();
+    }
+
+    private void reloadDue() {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<Reloadable, Long>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Reloadable, Long> next = iterator.next();
+            if (next.getValue() - now > 0) {
+                break;
+            }
+            iterator.remove();
+            try {
+                next.getKey().onReload();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.SEVERE, "Error reloading config " + next.getKey().getConfig().getIdentifer(), e);
+            }
+        }
+    }
+
+    @NotNull
+    private final ReloadEvent event;
+    private final long debounceNanos;
+    private final WatchService watchService;
+    private final Thread thread;
+    /**
+     * Whether {@link #start()} has been called. Only accessed while synchronized on this watcher.
+     */
+    private boolean started = false;
+
+    /**
+     * Listeners of the event, by the absolute path of their config file.
+     * Replaced as a whole on refresh.
+     */
+    private volatile Map<Path, Set<Reloadable>> listenersByFile = Collections.emptyMap();
+    private final Map<Path, WatchKey> watchedDirectories = new ConcurrentHashMap<>();
+
+    /**
+     * Reloads waiting for their debounce period, in order of deadline. Only used by the watcher thread.
+     */
+    private final LinkedHashMap<Reloadable, Long> pending = new LinkedHashMap<>();
+
+    private static final Logger LOGGER = Logger.getLogger("ConfigWatcher");
+}
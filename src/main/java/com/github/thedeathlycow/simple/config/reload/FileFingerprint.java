@@ -0,0 +1,53 @@
+package com.github.thedeathlycow.simple.config.reload;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.zip.CRC32;
+
+/**
+ * Identifies the contents of a file by its size, modification time and a
+ * CRC-32 of its bytes.
+ *
+ * @param size Size of the file in bytes.
+ * @param lastModified Last modification time of the file.
+ * @param hash CRC-32 of the file's contents.
+ */
+record FileFingerprint(long size, @NotNull FileTime lastModified, long hash) {
+
+    /**
+     * Checks if file attributes match the attributes of this fingerprint. Files with
+     * matching attributes are assumed to have the same contents.
+     *
+     * @param attributes Attributes of a file.
+     * @return Returns true if the size and modification time match.
+     */
+    boolean matches(BasicFileAttributes attributes) {
+        return size == attributes.size() && lastModified.equals(attributes.lastModifiedTime());
+    }
+
+    /**
+     * Computes the CRC-32 of a file's contents.
+     *
+     * @param file File to hash.
+     * @return Returns the CRC-32 of the file.
+     * @throws IOException Thrown if the file could not be read.
+     */
+    static long hash(Path file) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                checksum.update(buffer, 0, read);
+            }
+        }
+        return checksum.getValue();
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.github.thedeathlycow.simple.config.reload;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Reloads several configs in parallel on an executor, isolating failures so that one config
+ * failing or being slow to load does not stop any other config. Shared by
+ * {@link ReloadEvent#reload(Executor)} and
+ * {@link com.github.thedeathlycow.simple.config.ConfigManager#loadAll(Executor)}.
+ *
+ * @author TheDeathlyCow
+ */
+@ApiStatus.Internal
+public final class ParallelReload {
+
+    /**
+     * Runs an action on every reloadable in parallel.
+     *
+     * @param reloadables Reloadables to run the action on.
+     * @param executor Executor to run the actions on.
+     * @param action Action that reloads one reloadable.
+     * @return Returns a future that completes once every action has finished, with the outcome
+     * of each action in iteration order. The future never completes exceptionally: anything
+     * thrown by an action, or by the executor rejecting it, is recorded in its result.
+     */
+    public static CompletableFuture<List<ReloadResult>> run(Collection<Reloadable> reloadables, Executor executor, Action action) {
+        List<CompletableFuture<ReloadResult>> reloads = new ArrayList<>(reloadables.size());
+        for (Reloadable reloadable : reloadables) {
+            CompletableFuture<ReloadResult> future;
+            try {
+                future = CompletableFuture.supplyAsync(() -> run(reloadable, action), executor);
+            } catch (RuntimeException e) {
+                // executor rejected the task
+                future = CompletableFuture.completedFuture(new ReloadResult(reloadable, e, Duration.ZERO));
+            }
+            reloads.add(future);
+        }
+
+        return CompletableFuture.allOf(reloads.toArray(new CompletableFuture<?>[0]))
+                .thenApply(done -> {
+                    List<ReloadResult> results = new ArrayList<>(reloads.size());
+                    for (CompletableFuture<ReloadResult> reload : reloads) {
+                        results.add(reload.join());
+                    }
+                    return results;
+                });
+    }
+
+    private static ReloadResult run(Reloadable reloadable, Action action) {
+        long start = System.nanoTime();
+        Throwable error = null;
+        try {
+            action.reload(reloadable);
+        } catch (Throwable e) {
+            // errors are recorded too, otherwise they would complete the future exceptionally
+            error = e;
+        }
+        return new ReloadResult(reloadable, error, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Reloads a single reloadable.
+     */
+    @FunctionalInterface
+    public interface Action {
+
+        void reload(Reloadable reloadable) throws Exception;
+    }
+
+    private ParallelReload() {
+    }
+}
@@ -1,7 +1,11 @@
 package com.github.thedeathlycow.simple.config.reload;
 
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * Event delegate for reloading configs.
@@ -27,6 +31,15 @@ public class ReloadEvent {
         return listeners.remove(listener);
     }
 
+    /**
+     * Gets the listeners of this reload event. Safe to call from any thread.
+     *
+     * @return Returns an unmodifiable view of the listeners.
+     */
+    public Set<Reloadable> getListeners() {
+        return Collections.unmodifiableSet(listeners);
+    }
+
     /**
      * Trigger reload event
      */
@@ -34,8 +47,21 @@ public class ReloadEvent {
         listeners.forEach(Reloadable::onReload);
     }
 
+    /**
+     * Trigger reload event, reloading every listener in parallel on an executor.
+     * Failures are isolated, so one config failing or being slow to load does not
+     * stop any other config from reloading.
+     *
+     * @param executor Executor to reload the listeners on.
+     * @return Returns a future that completes once every listener has finished
+     * reloading, with the outcome of each reload. The future never completes exceptionally.
+     */
+    public CompletableFuture<List<ReloadResult>> reload(Executor executor) {
+        return ParallelReload.run(listeners, executor, Reloadable::reload);
+    }
+
     /**
      * Set of listeners
      */
-    private final Set<Reloadable> listeners = new HashSet<>();
+    private final Set<Reloadable> listeners = ConcurrentHashMap.newKeySet();
 }
@@ -0,0 +1,24 @@
+package com.github.thedeathlycow.simple.config.reload;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Outcome of reloading a single config.
+ *
+ * @param reloadable The listener that was reloaded.
+ * @param error The error the reload failed with, or null if it succeeded.
+ * @param duration How long the reload took.
+ */
+public record ReloadResult(@NotNull Reloadable reloadable, @Nullable Throwable error, @NotNull Duration duration) {
+
+    /**
+     * @return Returns true if the config was reloaded without error.
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+}
@@ -1,19 +1,37 @@
 package com.github.thedeathlycow.simple.config.reload;
 
 import com.github.thedeathlycow.simple.config.Config;
+import com.github.thedeathlycow.simple.config.ConfigSnapshot;
+import com.github.thedeathlycow.simple.config.UpdateCause;
+import com.github.thedeathlycow.simple.config.codec.RawJson;
 import com.github.thedeathlycow.simple.config.entry.ConfigEntry;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.github.thedeathlycow.simple.config.metrics.ReloadMetrics;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.io.File;
-import java.io.FileReader;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 
 /**
  * Listener class for {@link ReloadEvent}s
@@ -32,49 +50,335 @@ public class Reloadable {
 
     /**
      * Reloads the config from its file.
-     * If an error is found, logs it and returns.
+     * If an error is found, logs it and returns, leaving the config unchanged.
+     *
+     * @see #reload()
      */
     public void onReload() {
-        reloads.reset();
-        File configFile = reloads.getLocation();
-        JsonObject json;
-        try (FileReader reader = new FileReader(configFile)) {
-            json = JsonParser.parseReader(reader).getAsJsonObject();
-        } catch (IOException e) {
+        try {
+            reload();
+        } catch (IOException | JsonParseException | IllegalStateException e) {
             LOGGER.log(Level.SEVERE, "Error reloading config=" + e.getMessage());
+        }
+    }
+
+    /**
+     * Reloads the config from its file. The new values are collected into a
+     * {@link ConfigSnapshot} and published all at once, so other threads never
+     * see a partially reloaded config. If the file cannot be read, the config
+     * is left unchanged.
+     * <p>
+     * If neither the file nor the config have changed since the last reload, this
+     * does nothing. A file with the same size and modification time is assumed to be
+     * unchanged without reading it, otherwise its contents are hashed and only parsed
+     * if the hash differs.
+     * <p>
+     * If the {@link #setBinaryCacheEnabled(boolean) binary cache} is enabled and up to
+     * date, the values are loaded from it instead of parsing the file. If
+     * {@link #setIncrementalReloadEnabled(boolean) incremental reloads} are enabled, only
+     * the values whose JSON changed are deserialized.
+     * <p>
+     * Each reload that parses the file or loads its cache, and each reload that fails, is
+     * reported to the {@link Config#getMetrics() metrics} of the config.
+     *
+     * @throws IOException Thrown if the config file could not be read.
+     * @throws JsonParseException Thrown if the config file is not valid JSON.
+     * @throws IllegalStateException Thrown if the config file is not a JSON object.
+     */
+    public synchronized void reload() throws IOException {
+        try {
+            this.reloadIfChanged();
+        } catch (IOException | RuntimeException e) {
+            reloads.getMetrics().onReloadFailed(reloads, e);
+            throw e;
+        }
+    }
+
+    private void reloadIfChanged() throws IOException {
+        long start = System.nanoTime();
+        Path configFile = reloads.getLocation().toPath();
+        BasicFileAttributes attributes = Files.readAttributes(configFile, BasicFileAttributes.class);
+        boolean configUnchanged = lastFingerprint != null && reloads.snapshot() == lastPublished;
+        if (configUnchanged && lastFingerprint.matches(attributes)) {
             return;
         }
+        if (configUnchanged && lastFingerprint.size() == attributes.size()) {
+            long hash = FileFingerprint.hash(configFile);
+            if (hash == lastFingerprint.hash()) {
+                lastFingerprint = new FileFingerprint(attributes.size(), attributes.lastModifiedTime(), hash);
+                return;
+            }
+        }
 
-        if (json != null) {
-            updateConfig(json);
+        long schemaHash = 0;
+        if (binaryCache != null) {
+            schemaHash = BinaryCache.schemaHash(reloads.snapshot().getEntries());
+            if (this.reloadFromCache(configFile, attributes, schemaHash, start)) {
+                return;
+            }
+        }
+
+        long parseStart = System.nanoTime();
+        // incremental reloads start from the current values, and reset what is missing afterwards
+        ConfigSnapshot previous = reloads.snapshot();
+        ConfigSnapshot.Builder configIn = appliedValues != null ? previous.toBuilder() : reloads.newSnapshotBuilder();
+        CRC32 checksum = new CRC32();
+        ReloadCounts counts = new ReloadCounts();
+        if (binaryCache != null) {
+            counts.appliedEntries = new ArrayList<>();
+        }
+        if (appliedValues != null) {
+            counts.previous = previous;
+            counts.seen = new HashSet<>();
+        }
+        TimedInputStream file = new TimedInputStream(Files.newInputStream(configFile));
+        try (CheckedInputStream in = new CheckedInputStream(file, checksum);
+             JsonReader reader = RawJson.newReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)))) {
+            readConfig(reader, configIn, counts);
+            RawJson.endDocument(reader);
+            // hash any trailing bytes that the reader did not need
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        if (appliedValues != null) {
+            this.resetMissingEntries(configIn, counts);
+        }
+        long applyStart = System.nanoTime();
+        lastPublished = appliedValues == null || counts.changed ? reloads.publish(configIn.build(), UpdateCause.RELOAD) : previous;
+        lastFingerprint = new FileFingerprint(attributes.size(), attributes.lastModifiedTime(), checksum.getValue());
+        long end = System.nanoTime();
+
+        reloads.getMetrics().onReload(reloads, new ReloadMetrics(
+                Duration.ofNanos(parseStart - start + file.getNanos()),
+                Duration.ofNanos(applyStart - parseStart - file.getNanos()),
+                Duration.ofNanos(end - applyStart),
+                attributes.size(),
+                counts.applied,
+                counts.skipped,
+                counts.rejected
+        ));
+
+        // a file with rejected values is not cached, so that they are logged again next time
+        if (binaryCache != null && counts.rejected == 0) {
+            try {
+                binaryCache.write(lastFingerprint, schemaHash, lastPublished, counts.appliedEntries, counts.skipped);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Could not write binary cache " + binaryCache.getLocation() + ": " + e.getMessage());
+            }
         }
     }
 
     /**
-     * Takes a {@link JsonObject} from a config file and applies it to the
-     * config. Any invalid fields in the json object are logged then skipped.
+     * Applies the binary cache of the config file, if it is up to date.
      *
-     * @param json {@link JsonObject} from config file to apply to config.
+     * @return Returns true if the cache was applied.
      */
-    private void updateConfig(JsonObject json) {
-        Config configIn = Config.createTempConfig(reloads);
-        for (Map.Entry<String, JsonElement> jsonEntry : json.entrySet()) {
-            String jsonKey = jsonEntry.getKey();
-            ConfigEntry<?> entry;
-            try {
-                entry = reloads.getEntryByName(jsonKey);
-            } catch (IllegalArgumentException exception) {
+    private boolean reloadFromCache(Path configFile, BasicFileAttributes attributes, long schemaHash, long start) throws IOException {
+        long decodeStart = System.nanoTime();
+        ConfigSnapshot.Builder configIn = reloads.newSnapshotBuilder();
+        ReloadCounts counts = new ReloadCounts();
+        FileFingerprint fingerprint = binaryCache.read(reloads, configFile, attributes, schemaHash, configIn, counts);
+        if (fingerprint == null) {
+            return false;
+        }
+        long applyStart = System.nanoTime();
+        lastPublished = reloads.publish(configIn.build(), UpdateCause.RELOAD);
+        lastFingerprint = fingerprint;
+        if (appliedValues != null) {
+            // the cache does not have the raw values, so the next parse reads every entry again
+            appliedValues.clear();
+        }
+        long end = System.nanoTime();
+
+        reloads.getMetrics().onReload(reloads, new ReloadMetrics(
+                Duration.ofNanos(decodeStart - start),
+                Duration.ofNanos(applyStart - decodeStart),
+                Duration.ofNanos(end - applyStart),
+                attributes.size(),
+                counts.applied,
+                counts.skipped,
+                counts.rejected
+        ));
+        return true;
+    }
+
+    /**
+     * Enables or disables the binary cache of the config file. When enabled, each reload
+     * that parses the config file writes the values it read to a compact binary file next
+     * to the config file, named after it with a <code>.cache</code> suffix. Later reloads,
+     * including those of a new {@link Reloadable} after a restart, load the values from the
+     * cache instead of parsing the config file if neither it nor the entries of the config
+     * have changed.
+     * <p>
+     * Disabled by default. Disabling the cache does not delete its file.
+     *
+     * @param enabled Whether to use the binary cache.
+     */
+    public synchronized void setBinaryCacheEnabled(boolean enabled) {
+        if (enabled && binaryCache == null) {
+            Path configFile = reloads.getLocation().toPath();
+            binaryCache = new BinaryCache(configFile.resolveSibling(configFile.getFileName() + ".cache"));
+        } else if (!enabled) {
+            binaryCache = null;
+        }
+    }
+
+    /**
+     * @return Returns true if reloads use the binary cache of the config file.
+     */
+    public synchronized boolean isBinaryCacheEnabled() {
+        return binaryCache != null;
+    }
+
+    /**
+     * Enables or disables incremental reloads. When enabled, each reload keeps a fingerprint
+     * of the raw JSON of every value it applies. Later reloads still read the whole file, but
+     * only deserialize and validate the values whose raw JSON changed, and reset the entries
+     * whose keys were removed. Every other entry keeps its existing value object, and if
+     * nothing changed, no new snapshot is published at all.
+     * <p>
+     * A value that was changed at runtime since it was reloaded is always read again.
+     * Disabled by default, as the first reload copies each value before deserializing it,
+     * which makes it slower than a plain reload.
+     *
+     * @param enabled Whether reloads should be incremental.
+     */
+    public synchronized void setIncrementalReloadEnabled(boolean enabled) {
+        if (enabled && appliedValues == null) {
+            appliedValues = new HashMap<>();
+        } else if (!enabled) {
+            appliedValues = null;
+        }
+    }
+
+    /**
+     * @return Returns true if reloads only deserialize the values that changed.
+     */
+    public synchronized boolean isIncrementalReloadEnabled() {
+        return appliedValues != null;
+    }
+
+    /**
+     * Streams a JSON object from a config file into a snapshot builder. Each key is
+     * looked up as it is read and its value is read straight into the entry's type, and
+     * the values of unknown keys are skipped without being parsed. The values of
+     * {@link ConfigEntry#isLazy() lazy} entries are kept as raw JSON. Any invalid fields in
+     * the json object are logged then skipped, and any entries missing from the json
+     * object are left at their defaults.
+     *
+     * @param reader {@link JsonReader} over the config file.
+     * @param configIn Builder to apply the config file to.
+     * @param counts Counts of the entries that were applied, skipped and rejected.
+     * @throws IOException Thrown if the config file could not be read.
+     * @throws com.google.gson.JsonSyntaxException Thrown if the config file is not valid JSON.
+     */
+    private void readConfig(JsonReader reader, ConfigSnapshot.Builder configIn, ReloadCounts counts) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String jsonKey = reader.nextName();
+            ConfigEntry<?> entry = reloads.getEntryByName(jsonKey);
+            if (entry != null && counts.seen != null) {
+                counts.seen.add(entry);
+            }
+            if (entry == null) {
                 // ignore entries that are not valid config keys
-                LOGGER.info("Could not load config option '" + jsonKey + "' with reason: " + exception.getMessage());
-                continue;
+                reader.skipValue();
+                counts.skipped++;
+            } else if (readEntry(reader, configIn, entry, counts)) {
+                counts.applied++;
+                if (counts.appliedEntries != null) {
+                    counts.appliedEntries.add(entry);
+                }
+            } else {
+                counts.rejected++;
+            }
+        }
+        reader.endObject();
+    }
+
+    /**
+     * @return Returns true if the entry was applied, false if it was rejected.
+     */
+    private <T> boolean readEntry(JsonReader reader, ConfigSnapshot.Builder configIn, ConfigEntry<T> entry, ReloadCounts counts) throws IOException {
+        if (entry.isLazy()) {
+            // deserialized and validated on first read, malformed json still fails the reload
+            configIn.readLazy(entry, reader);
+            counts.changed = true;
+            return true;
+        }
+
+        long hash = 0;
+        if (appliedValues != null) {
+            rawValue.setLength(0);
+            RawJson.copy(reader, rawValue);
+            hash = RawJson.hash(rawValue);
+            AppliedValue applied = appliedValues.remove(entry);
+            if (applied != null && applied.hash() == hash && counts.previous.get(entry) == applied.value()) {
+                // unchanged since the last reload, and not changed at runtime either
+                appliedValues.put(entry, applied);
+                return true;
+            }
+            reader = RawJson.newReader(new StringReader(rawValue.toString()));
+        }
+        counts.changed = true;
+
+        T value;
+        try {
+            value = entry.read(reader);
+        } catch (JsonParseException exception) {
+            if (exception.getCause() instanceof IOException) {
+                // malformed json, the rest of the file cannot be read
+                throw exception;
             }
+            LOGGER.warning("Could not load config option '" + entry.getName() + "' with reason: " + exception.getMessage());
+            this.resetRejected(configIn, entry);
+            return false;
+        }
+
+        try {
+            configIn.set(entry, value);
+        } catch (IllegalArgumentException exception) {
+            LOGGER.warning("Could not load config option '" + entry.getName() + "' with reason: " + exception.getMessage());
+            this.resetRejected(configIn, entry);
+            return false;
+        }
+        if (appliedValues != null) {
+            appliedValues.put(entry, new AppliedValue(hash, value));
+        }
+        return true;
+    }
+
+    /**
+     * Resets a rejected entry of an incremental reload, whose builder started from the
+     * current values rather than the defaults.
+     */
+    private void resetRejected(ConfigSnapshot.Builder configIn, ConfigEntry<?> entry) {
+        if (appliedValues != null) {
+            configIn.reset(entry);
+        }
+    }
 
-            if (entry != null) {
-                configIn.addEntry(entry);
-                configIn.deserializeAndSet(entry, jsonEntry.getValue());
+    /**
+     * Resets the entries that an incremental reload did not find in the config file, unless
+     * they already have their default value.
+     */
+    private void resetMissingEntries(ConfigSnapshot.Builder configIn, ReloadCounts counts) {
+        for (ConfigEntry<?> entry : counts.previous.getEntries()) {
+            if (counts.seen.contains(entry)) {
+                continue;
+            }
+            appliedValues.remove(entry);
+            if (counts.previous.getLazyJson(entry) != null || counts.previous.get(entry) != entry.getDefaultValue()) {
+                configIn.reset(entry);
+                counts.changed = true;
             }
         }
-        reloads.update(configIn);
+    }
+
+    /**
+     * @return Returns the {@link Config} that this listener reloads.
+     */
+    public Config getConfig() {
+        return reloads;
     }
 
     @Override
@@ -90,8 +394,57 @@ public class Reloadable {
         return Objects.hash(reloads);
     }
 
+    /**
+     * Number of entries applied, skipped and rejected by a single reload.
+     */
+    static final class ReloadCounts {
+        int applied = 0;
+        int skipped = 0;
+        int rejected = 0;
+        /**
+         * Entries that were applied, only collected when they are written to the binary cache.
+         */
+        @Nullable
+        List<ConfigEntry<?>> appliedEntries = null;
+        /**
+         * State of an incremental reload: the snapshot it started from, the entries found in
+         * the file, and whether any value differs from that snapshot.
+         */
+        @Nullable
+        ConfigSnapshot previous = null;
+        @Nullable
+        Set<ConfigEntry<?>> seen = null;
+        boolean changed = false;
+    }
+
+    /**
+     * A value applied by an incremental reload, and the hash of the raw JSON it was read from.
+     */
+    private record AppliedValue(long hash, Object value) {
+    }
+
     @NotNull
     private final Config reloads;
     private final Logger LOGGER;
 
+    /**
+     * Fingerprint of the config file as of the last reload, the snapshot that reload published,
+     * and the binary cache of the config file if it is enabled.
+     * Guarded by this.
+     */
+    @Nullable
+    private FileFingerprint lastFingerprint = null;
+    @Nullable
+    private ConfigSnapshot lastPublished = null;
+    @Nullable
+    private BinaryCache binaryCache = null;
+
+    /**
+     * Values applied by incremental reloads, or null if reloads are not incremental, and a
+     * buffer for the raw JSON of each value. Guarded by this.
+     */
+    @Nullable
+    private Map<ConfigEntry<?>, AppliedValue> appliedValues = null;
+    private final StringBuilder rawValue = new StringBuilder();
+
 }
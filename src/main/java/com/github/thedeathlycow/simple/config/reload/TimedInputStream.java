@@ -0,0 +1,57 @@
+package com.github.thedeathlycow.simple.config.reload;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream that adds up the time spent reading from the stream it wraps.
+ * Not thread safe.
+ *
+ * @author TheDeathlyCow
+ */
+class TimedInputStream extends FilterInputStream {
+
+    TimedInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        long start = System.nanoTime();
+        try {
+            return super.read();
+        } finally {
+            nanos += System.nanoTime() - start;
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return in.read(b, off, len);
+        } finally {
+            nanos += System.nanoTime() - start;
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return super.skip(n);
+        } finally {
+            nanos += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * @return Returns the total time spent reading, in nanoseconds.
+     */
+    long getNanos() {
+        return nanos;
+    }
+
+    private long nanos = 0;
+}
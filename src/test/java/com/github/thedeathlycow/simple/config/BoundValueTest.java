@@ -0,0 +1,111 @@
+package com.github.thedeathlycow.simple.config;
+
+import com.github.thedeathlycow.simple.config.entry.BooleanEntry;
+import com.github.thedeathlycow.simple.config.entry.ConfigEntry;
+import com.github.thedeathlycow.simple.config.entry.DoubleEntry;
+import com.github.thedeathlycow.simple.config.entry.IntegerEntry;
+import com.github.thedeathlycow.simple.config.entry.StringEntry;
+import com.github.thedeathlycow.simple.config.reload.Reloadable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundValueTest {
+
+    private IntegerEntry intEntry;
+    private DoubleEntry doubleEntry;
+    private BooleanEntry boolEntry;
+    private StringEntry stringEntry;
+    private Config config;
+
+    @BeforeEach
+    public void setup(@TempDir Path configDir) {
+        this.intEntry = new IntegerEntry("int", 1);
+        this.doubleEntry = new DoubleEntry("double", 0.5);
+        this.boolEntry = new BooleanEntry("bool", false);
+        this.stringEntry = new StringEntry("string", "a");
+        this.config = ConfigFactory.createConfigWithKeys(
+                "test", "bound", configDir,
+                intEntry,
+                doubleEntry,
+                boolEntry,
+                stringEntry
+        );
+    }
+
+    @Test
+    public void boundValueStartsWithCurrentValue() {
+        this.config.setInt(intEntry, 3);
+        BoundValue.OfInt bound = intEntry.bind(this.config);
+        assertEquals(3, bound.getInt());
+        assertEquals(3, bound.get());
+    }
+
+    @Test
+    public void bindingTwiceReturnsSameHandle() {
+        assertSame(this.config.bind(stringEntry), stringEntry.bind(this.config));
+    }
+
+    @Test
+    public void boundValuesFollowSettersAndReset() {
+        BoundValue.OfInt boundInt = this.config.bind(intEntry);
+        BoundValue.OfDouble boundDouble = this.config.bind(doubleEntry);
+        BoundValue.OfBoolean boundBool = this.config.bind(boolEntry);
+        BoundValue<String> boundString = this.config.bind(stringEntry);
+
+        this.config.setInt(intEntry, 7);
+        this.config.setDouble(doubleEntry, 2.25);
+        this.config.setBoolean(boolEntry, true);
+        this.config.setValue(stringEntry, "b");
+        assertEquals(7, boundInt.getInt());
+        assertEquals(2.25, boundDouble.getDouble());
+        assertTrue(boundBool.getBoolean());
+        assertEquals("b", boundString.get());
+
+        this.config.reset();
+        assertEquals(1, boundInt.getInt());
+        assertEquals(0.5, boundDouble.getDouble());
+        assertFalse(boundBool.getBoolean());
+        assertEquals("a", boundString.get());
+    }
+
+    @Test
+    public void boundValueFollowsUpdate() {
+        BoundValue<String> bound = this.config.bind(stringEntry);
+        Config other = Config.createTempConfig(this.config);
+        other.addEntry(stringEntry);
+        other.setValue(stringEntry, "c");
+        this.config.update(other);
+        assertEquals("c", bound.get());
+    }
+
+    @Test
+    public void boundValueFollowsReload() throws IOException {
+        BoundValue.OfInt bound = this.config.bind(intEntry);
+        Files.createDirectories(this.config.getLocation().toPath().getParent());
+        Files.writeString(this.config.getLocation().toPath(), "{\"int\": 42}");
+        new Reloadable(this.config).reload();
+        assertEquals(42, bound.getInt());
+    }
+
+    @Test
+    public void genericBindReturnsTypedHandle() {
+        ConfigEntry<Integer> entry = intEntry;
+        BoundValue<Integer> bound = this.config.bind(entry);
+        assertInstanceOf(BoundValue.OfInt.class, bound);
+        assertSame(bound, intEntry.bind(this.config));
+        assertSame(BoundValue.class, this.config.bind(stringEntry).getClass());
+    }
+
+    @Test
+    public void bindingUnknownEntryThrows() {
+        IntegerEntry unknown = new IntegerEntry("unknown", 1);
+        assertThrows(IllegalArgumentException.class, () -> unknown.bind(this.config));
+    }
+}
@@ -0,0 +1,233 @@
+package com.github.thedeathlycow.simple.config;
+
+import com.github.thedeathlycow.simple.config.entry.BooleanEntry;
+import com.github.thedeathlycow.simple.config.entry.IntegerEntry;
+import com.github.thedeathlycow.simple.config.entry.StringEntry;
+import com.github.thedeathlycow.simple.config.reload.Reloadable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeListenersTest {
+
+    private IntegerEntry intEntry;
+    private BooleanEntry boolEntry;
+    private StringEntry stringEntry;
+    private Config config;
+
+    @BeforeEach
+    public void setup(@TempDir Path configDir) {
+        this.intEntry = new IntegerEntry("int", 1);
+        this.boolEntry = new BooleanEntry("bool", false);
+        this.stringEntry = new StringEntry("string", "a");
+        this.config = ConfigFactory.createConfigWithKeys(
+                "test", "changes", configDir,
+                intEntry,
+                boolEntry,
+                stringEntry
+        );
+    }
+
+    @Test
+    public void entryListenerIsCalledWithOldAndNewValues() {
+        List<String> calls = new ArrayList<>();
+        this.config.addChangeListener(intEntry, (oldValue, newValue) -> calls.add(oldValue + "->" + newValue));
+        this.config.setInt(intEntry, 2);
+        this.config.setBoolean(boolEntry, true);
+        this.config.reset();
+        assertEquals(List.of("1->2", "2->1"), calls);
+    }
+
+    @Test
+    public void listenersAreNotCalledForUnchangedValues() {
+        List<List<EntryChange<?>>> batches = new ArrayList<>();
+        List<String> calls = new ArrayList<>();
+        this.config.addChangeListener((config, changes) -> batches.add(changes));
+        this.config.addChangeListener(stringEntry, (oldValue, newValue) -> calls.add(newValue));
+
+        this.config.setInt(intEntry, 1);
+        this.config.setValue(stringEntry, new String("a"));
+        this.config.reset();
+        assertTrue(batches.isEmpty());
+        assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    public void reloadIsReportedAsOneBatch() throws IOException {
+        List<List<EntryChange<?>>> batches = new ArrayList<>();
+        this.config.addChangeListener((config, changes) -> batches.add(changes));
+
+        Files.createDirectories(this.config.getLocation().toPath().getParent());
+        Files.writeString(this.config.getLocation().toPath(), "{\"int\": 5, \"bool\": false, \"string\": \"b\"}");
+        new Reloadable(this.config).reload();
+
+        assertEquals(1, batches.size());
+        List<EntryChange<?>> changes = batches.get(0);
+        assertEquals(2, changes.size());
+        assertEquals(new EntryChange<>(intEntry, 1, 5), changes.get(0));
+        assertEquals(new EntryChange<>(stringEntry, "a", "b"), changes.get(1));
+    }
+
+    @Test
+    public void updateReportsChangedEntries() {
+        List<String> calls = new ArrayList<>();
+        this.config.addChangeListener(stringEntry, (oldValue, newValue) -> calls.add(newValue));
+        Config other = Config.createTempConfig(this.config);
+        other.addEntry(stringEntry);
+        other.setValue(stringEntry, "c");
+        this.config.update(other);
+        assertEquals(List.of("c"), calls);
+    }
+
+    @Test
+    public void listenerCanRunOnExecutor() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch called = new CountDownLatch(1);
+            Thread writer = Thread.currentThread();
+            List<Thread> threads = new ArrayList<>();
+            this.config.addChangeListener(boolEntry, (oldValue, newValue) -> {
+                threads.add(Thread.currentThread());
+                called.countDown();
+            }, executor);
+            this.config.setBoolean(boolEntry, true);
+            assertTrue(called.await(5, TimeUnit.SECONDS));
+            assertNotSame(writer, threads.get(0));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void removedListenerIsNotCalled() {
+        List<Integer> calls = new ArrayList<>();
+        EntryChangeListener<Integer> listener = (oldValue, newValue) -> calls.add(newValue);
+        ConfigChangeListener configListener = (config, changes) -> calls.add(-1);
+        this.config.addChangeListener(intEntry, listener);
+        this.config.addChangeListener(configListener);
+        assertTrue(this.config.removeChangeListener(intEntry, listener));
+        assertTrue(this.config.removeChangeListener(configListener));
+        this.config.setInt(intEntry, 3);
+        assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    public void throwingListenerDoesNotStopOthers() {
+        List<Integer> calls = new ArrayList<>();
+        this.config.addChangeListener(intEntry, (oldValue, newValue) -> {
+            throw new IllegalStateException("listener failed");
+        });
+        this.config.addChangeListener(intEntry, (oldValue, newValue) -> calls.add(newValue));
+        this.config.setInt(intEntry, 4);
+        assertEquals(List.of(4), calls);
+        assertEquals(4, this.config.getInt(intEntry));
+    }
+
+    @Test
+    public void concurrentWritesAreDeliveredInPublishOrder() throws InterruptedException {
+        List<String> errors = new ArrayList<>();
+        int[] lastDelivered = {1};
+        boolean[] delivering = {false};
+        this.config.addChangeListener(intEntry, (oldValue, newValue) -> {
+            // listeners are called one at a time, so plain fields are enough here
+            if (delivering[0]) {
+                errors.add("overlapping delivery");
+            }
+            delivering[0] = true;
+            if (oldValue != lastDelivered[0]) {
+                errors.add("expected change from " + lastDelivered[0] + " but was from " + oldValue);
+            }
+            lastDelivered[0] = newValue;
+            delivering[0] = false;
+        });
+
+        int writers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int writer = 0; writer < writers; writer++) {
+                int offset = writer * 10_000;
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < 2_000; i++) {
+                        this.config.setInt(intEntry, offset + i);
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(List.of(), errors);
+        assertEquals(this.config.getInt(intEntry), lastDelivered[0]);
+    }
+
+    @Test
+    public void writersReturnAfterTheirOwnUpdateIsDelivered() throws InterruptedException {
+        Set<Integer> delivered = ConcurrentHashMap.newKeySet();
+        List<Integer> missing = new CopyOnWriteArrayList<>();
+        this.config.addChangeListener(intEntry, (oldValue, newValue) -> delivered.add(newValue));
+
+        int writers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            for (int writer = 0; writer < writers; writer++) {
+                int offset = writer * 10_000;
+                executor.execute(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        this.config.setInt(intEntry, offset + i);
+                        if (!delivered.contains(offset + i)) {
+                            missing.add(offset + i);
+                        }
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(List.of(), missing);
+    }
+
+    @Test
+    public void updatesPublishedByListenersAreDeliveredBeforeWriterReturns() {
+        List<String> calls = new ArrayList<>();
+        this.config.addChangeListener(intEntry, (oldValue, newValue) -> {
+            calls.add("int");
+            this.config.setBoolean(boolEntry, true);
+            calls.add("int done");
+        });
+        this.config.addChangeListener(boolEntry, (oldValue, newValue) -> calls.add("bool"));
+        this.config.setInt(intEntry, 2);
+        assertEquals(List.of("int", "int done", "bool"), calls);
+    }
+
+    @Test
+    public void listeningToUnknownEntryThrows() {
+        IntegerEntry unknown = new IntegerEntry("unknown", 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> this.config.addChangeListener(unknown, (oldValue, newValue) -> {
+                }));
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.thedeathlycow.simple.config;
+
+import com.github.thedeathlycow.simple.config.entry.IntegerEntry;
+import com.github.thedeathlycow.simple.config.reload.ReloadEvent;
+import com.github.thedeathlycow.simple.config.reload.ReloadResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigManagerTest {
+
+    private IntegerEntry intEntry;
+    private ConfigManager manager;
+
+    @BeforeEach
+    public void setup(@TempDir Path configDir) {
+        this.intEntry = new IntegerEntry("int", 1);
+        this.manager = new ConfigManager(configDir);
+    }
+
+    @Test
+    public void createdConfigsCanBeLookedUp() {
+        Config config = this.manager.createConfig("test", "a", intEntry);
+        assertSame(config, this.manager.getConfig(new Identifier("test", "a")));
+        assertSame(config, this.manager.getReloadable(new Identifier("test", "a")).getConfig());
+        assertNull(this.manager.getConfig(new Identifier("test", "b")));
+        assertEquals(1, this.manager.size());
+    }
+
+    @Test
+    public void registeringDuplicateIdentifierThrows() {
+        this.manager.createConfig("test", "a", intEntry);
+        assertThrows(IllegalArgumentException.class, () -> this.manager.createConfig("test", "a"));
+    }
+
+    @Test
+    public void unregisteredConfigIsRemoved() {
+        Config config = this.manager.createConfig("test", "a", intEntry);
+        assertSame(config, this.manager.unregister(config.getIdentifer()));
+        assertNull(this.manager.getConfig(config.getIdentifer()));
+        assertNull(this.manager.unregister(config.getIdentifer()));
+    }
+
+    @Test
+    public void loadAllLoadsEveryConfigInParallel() throws IOException {
+        for (int i = 0; i < 20; i++) {
+            Config config = this.manager.createConfig("test", "config" + i, new IntegerEntry("int", 1));
+            Files.createDirectories(config.getLocation().toPath().getParent());
+            Files.writeString(config.getLocation().toPath(), "{\"int\": " + i + "}");
+        }
+        // no file, keeps its defaults
+        Config missing = this.manager.createConfig("test", "missing", intEntry);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<ReloadResult> results = this.manager.loadAll(executor).join();
+            assertEquals(21, results.size());
+            assertTrue(results.stream().allMatch(ReloadResult::isSuccess));
+        } finally {
+            executor.shutdown();
+        }
+        for (int i = 0; i < 20; i++) {
+            Config config = this.manager.getConfig(new Identifier("test", "config" + i));
+            assertEquals(i, config.getInt(new IntegerEntry("int", 1)));
+        }
+        assertEquals(1, missing.getInt(intEntry));
+    }
+
+    @Test
+    public void loadAllReportsFailures() throws IOException {
+        Config broken = this.manager.createConfig("test", "broken", intEntry);
+        Files.createDirectories(broken.getLocation().toPath().getParent());
+        Files.writeString(broken.getLocation().toPath(), "[]");
+
+        List<ReloadResult> results = this.manager.loadAll();
+        assertEquals(1, results.size());
+        assertFalse(results.get(0).isSuccess());
+    }
+
+    @Test
+    public void reloadListenersAreAdded() {
+        this.manager.createConfig("test", "a", intEntry);
+        this.manager.createConfig("test", "b", intEntry);
+        ReloadEvent event = new ReloadEvent();
+        this.manager.addReloadListeners(event);
+        assertEquals(2, event.getListeners().size());
+    }
+}
@@ -1,7 +1,285 @@
 package com.github.thedeathlycow.simple.config;
 
+import com.github.thedeathlycow.simple.config.entry.BooleanEntry;
+import com.github.thedeathlycow.simple.config.entry.IntegerEntry;
+import com.github.thedeathlycow.simple.config.entry.ConfigEntry;
+import com.github.thedeathlycow.simple.config.entry.DoubleEntry;
+import com.github.thedeathlycow.simple.config.entry.collection.ListEntry;
+import com.github.thedeathlycow.simple.config.metrics.ConfigMetrics;
+import com.github.thedeathlycow.simple.config.reload.Reloadable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class ConfigTest {
 
-}
\ No newline at end of file
+    private IntegerEntry intEntry;
+    private BooleanEntry boolEntry;
+    private Config config;
+
+    @BeforeEach
+    public void setup() {
+        this.intEntry = new IntegerEntry("int", 1);
+        this.boolEntry = new BooleanEntry("bool", false);
+        this.config = ConfigFactory.createConfigWithKeys(
+                "test", "temp", Paths.get("."),
+                intEntry,
+                boolEntry
+        );
+    }
+
+    @Test
+    public void newEntriesHaveDefaultValue() {
+        assertEquals(1, this.config.get(intEntry));
+        assertEquals(false, this.config.get(boolEntry));
+    }
+
+    @Test
+    public void getUnknownEntryThrows() {
+        IntegerEntry unknown = new IntegerEntry("unknown", 1);
+        assertThrows(IllegalArgumentException.class, () -> this.config.get(unknown));
+    }
+
+    @Test
+    public void getEqualEntryReturnsValue() {
+        this.config.setValue(intEntry, 5);
+        assertEquals(5, this.config.get(new IntegerEntry("int", 1)));
+    }
+
+    @Test
+    public void settingPrimitiveEntryToNullThrows() {
+        assertThrows(IllegalArgumentException.class, () -> this.config.setValue(boolEntry, null));
+        assertThrows(IllegalArgumentException.class, () -> this.config.setValue(intEntry, null));
+        assertEquals(false, this.config.get(boolEntry));
+        assertEquals(1, this.config.get(intEntry));
+    }
+
+    @Test
+    public void addingDuplicateEntryThrows() {
+        assertThrows(IllegalArgumentException.class, () -> this.config.addEntry(new IntegerEntry("int", 2)));
+    }
+
+    @Test
+    public void resetRestoresDefaults() {
+        this.config.setValue(intEntry, 5);
+        this.config.setValue(boolEntry, true);
+        this.config.reset();
+        assertEquals(1, this.config.get(intEntry));
+        assertEquals(false, this.config.get(boolEntry));
+    }
+
+    @Test
+    public void sharedEntriesWorkInDifferentOrder() {
+        Config other = ConfigFactory.createConfigWithKeys(
+                "test", "other", Paths.get("."),
+                boolEntry,
+                intEntry
+        );
+        other.setValue(intEntry, 7);
+        assertEquals(7, other.get(intEntry));
+        assertEquals(1, this.config.get(intEntry));
+    }
+
+    @Test
+    public void updateCopiesOnlySharedEntries() {
+        IntegerEntry otherEntry = new IntegerEntry("other", 3);
+        Config other = ConfigFactory.createConfigWithKeys(
+                "test", "other", Paths.get("."),
+                otherEntry,
+                intEntry
+        );
+        other.setValue(intEntry, 7);
+        this.config.update(other);
+        assertEquals(7, this.config.get(intEntry));
+        assertEquals(false, this.config.get(boolEntry));
+        assertThrows(IllegalArgumentException.class, () -> this.config.get(otherEntry));
+    }
+
+    @Test
+    public void primitiveValuesFollowResetAndUpdate() {
+        this.config.setBoolean(boolEntry, true);
+        assertTrue(this.config.getBoolean(boolEntry));
+        this.config.reset();
+        assertFalse(this.config.getBoolean(boolEntry));
+
+        Config other = ConfigFactory.createConfigWithKeys(
+                "test", "other", Paths.get("."),
+                intEntry
+        );
+        other.setInt(intEntry, 9);
+        this.config.update(other);
+        assertEquals(9, this.config.getInt(intEntry));
+    }
+
+    @Test
+    public void manyEntriesCanBeAdded() {
+        Config big = ConfigFactory.createEmptyConfig("test", "big", Paths.get("."));
+        for (int i = 0; i < 100; i++) {
+            big.addEntry(new IntegerEntry("entry" + i, i));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, big.get(new IntegerEntry("entry" + i, 0)));
+        }
+    }
+
+    @Test
+    public void snapshotIsNotAffectedByLaterChanges() {
+        ConfigSnapshot snapshot = this.config.snapshot();
+        this.config.setValue(intEntry, 5);
+        assertEquals(1, snapshot.getInt(intEntry));
+        assertEquals(5, this.config.getInt(intEntry));
+    }
+
+    @Test
+    public void snapshotBuilderIsNotVisibleUntilPublished() {
+        ConfigSnapshot.Builder builder = this.config.newSnapshotBuilder();
+        builder.set(intEntry, 5);
+        assertEquals(1, this.config.getInt(intEntry));
+        this.config.publish(builder.build());
+        assertEquals(5, this.config.getInt(intEntry));
+        assertThrows(IllegalStateException.class, () -> builder.set(intEntry, 6));
+    }
+
+    @Test
+    public void cannotPublishSnapshotOfOtherConfig() {
+        Config other = ConfigFactory.createConfigWithKeys(
+                "test", "other", Paths.get("."),
+                intEntry
+        );
+        assertThrows(IllegalArgumentException.class, () -> this.config.publish(other.snapshot()));
+    }
+
+    @Test
+    public void readersNeverSeeTornSnapshots() throws InterruptedException {
+        AtomicBoolean torn = new AtomicBoolean(false);
+        AtomicBoolean done = new AtomicBoolean(false);
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                ConfigSnapshot snapshot = this.config.snapshot();
+                if ((snapshot.getInt(intEntry) % 2 == 0) != snapshot.getBoolean(boolEntry)) {
+                    torn.set(true);
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 10_000; i++) {
+            this.config.publish(this.config.newSnapshotBuilder()
+                    .set(intEntry, i)
+                    .set(boolEntry, i % 2 == 0)
+                    .build());
+        }
+        done.set(true);
+        reader.join();
+        assertFalse(torn.get());
+    }
+
+    @Test
+    public void savedConfigCanBeReloaded(@TempDir Path configDir) throws IOException {
+        ListEntry<String> listEntry = new ListEntry<>("list", List.of("a"), String.class);
+        Config saved = ConfigFactory.createConfigWithKeys("test", "saved", configDir, intEntry, listEntry);
+        saved.setValue(intEntry, 5);
+        saved.setValue(listEntry, List.of("b", "c"));
+        assertTrue(saved.save());
+
+        Config loaded = ConfigFactory.createConfigWithKeys("test", "saved", configDir, intEntry, listEntry);
+        new Reloadable(loaded).reload();
+        assertEquals(5, loaded.getInt(intEntry));
+        assertEquals(List.of("b", "c"), loaded.get(listEntry));
+    }
+
+    @Test
+    public void nonFiniteValuesCanBeSavedAndReloaded(@TempDir Path configDir) throws IOException {
+        DoubleEntry doubleEntry = new DoubleEntry("double", 0.5);
+        Config saved = ConfigFactory.createConfigWithKeys("test", "saved", configDir, doubleEntry);
+        saved.setValue(doubleEntry, Double.POSITIVE_INFINITY);
+        assertTrue(saved.save());
+
+        Config loaded = ConfigFactory.createConfigWithKeys("test", "saved", configDir, doubleEntry);
+        new Reloadable(loaded).reload();
+        assertEquals(Double.POSITIVE_INFINITY, loaded.getDouble(doubleEntry));
+    }
+
+    @Test
+    public void unchangedConfigIsNotSavedAgain(@TempDir Path configDir) throws IOException {
+        Config saved = ConfigFactory.createConfigWithKeys("test", "saved", configDir, intEntry);
+        assertTrue(saved.save());
+        assertFalse(saved.save());
+
+        saved.setValue(intEntry, 5);
+        assertTrue(saved.save());
+        saved.setValue(intEntry, 5);
+        assertFalse(saved.save());
+    }
+
+    @Test
+    public void externallyChangedFileIsSavedAgain(@TempDir Path configDir) throws IOException {
+        Config saved = ConfigFactory.createConfigWithKeys("test", "saved", configDir, intEntry);
+        assertTrue(saved.save());
+        Files.writeString(saved.getLocation().toPath(), "{}");
+        assertTrue(saved.save());
+    }
+
+    @Test
+    public void firstSaveUsesPermissionsOfNewFile(@TempDir Path configDir) throws IOException {
+        assumeTrue(configDir.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        Path probe = Files.createFile(configDir.resolve("probe"),
+                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-r--r--")));
+
+        Config saved = ConfigFactory.createConfigWithKeys("test", "saved", configDir, intEntry);
+        assertTrue(saved.save());
+        assertEquals(Files.getPosixFilePermissions(probe), Files.getPosixFilePermissions(saved.getLocation().toPath()));
+    }
+
+    @Test
+    public void saveKeepsFilePermissions(@TempDir Path configDir) throws IOException {
+        Config saved = ConfigFactory.createConfigWithKeys("test", "saved", configDir, intEntry);
+        assertTrue(saved.save());
+        Path file = saved.getLocation().toPath();
+        assumeTrue(file.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(file, permissions);
+
+        saved.setValue(intEntry, 5);
+        assertTrue(saved.save());
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void readsAreSampledOnlyWhenEnabled() {
+        Map<String, Integer> reads = new ConcurrentHashMap<>();
+        this.config.setMetrics(new ConfigMetrics() {
+            @Override
+            public int getReadSampleRate() {
+                return 1;
+            }
+
+            @Override
+            public void onEntryRead(Config config, ConfigEntry<?> entry, int weight) {
+                reads.merge(entry.getName(), weight, Integer::sum);
+            }
+        });
+        this.config.get(intEntry);
+        this.config.getInt(intEntry);
+        this.config.getBoolean(boolEntry);
+        assertEquals(Map.of("int", 2, "bool", 1), reads);
+
+        this.config.setMetrics(ConfigMetrics.NONE);
+        this.config.get(intEntry);
+        assertEquals(2, reads.get("int"));
+    }
+}
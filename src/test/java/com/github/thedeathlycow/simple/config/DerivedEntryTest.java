@@ -0,0 +1,129 @@
+package com.github.thedeathlycow.simple.config;
+
+import com.github.thedeathlycow.simple.config.entry.BooleanEntry;
+import com.github.thedeathlycow.simple.config.entry.IntegerEntry;
+import com.github.thedeathlycow.simple.config.entry.StringEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DerivedEntryTest {
+
+    private StringEntry regexEntry;
+    private IntegerEntry intEntry;
+    private BooleanEntry boolEntry;
+    private AtomicInteger compiles;
+    private DerivedEntry<Pattern> patternEntry;
+    private Config config;
+
+    @BeforeEach
+    public void setup() {
+        this.regexEntry = new StringEntry("regex", "a+");
+        this.intEntry = new IntegerEntry("int", 1);
+        this.boolEntry = new BooleanEntry("bool", false);
+        this.config = ConfigFactory.createConfigWithKeys(
+                "test", "derived", Paths.get("."),
+                regexEntry,
+                intEntry,
+                boolEntry
+        );
+        this.compiles = new AtomicInteger();
+        this.patternEntry = DerivedEntry.of("pattern", regexEntry, regex -> {
+            compiles.incrementAndGet();
+            return Pattern.compile(regex);
+        });
+        this.config.addDerivedEntry(patternEntry);
+    }
+
+    @Test
+    public void derivedValueIsComputedOnceWhenAdded() {
+        assertEquals(1, compiles.get());
+        Pattern pattern = this.config.get(patternEntry);
+        assertSame(pattern, this.config.get(patternEntry));
+        assertTrue(pattern.matcher("aaa").matches());
+        assertEquals(1, compiles.get());
+    }
+
+    @Test
+    public void derivedValueIsRecomputedWhenSourceChanges() {
+        this.config.setValue(regexEntry, "b+");
+        assertEquals(2, compiles.get());
+        assertTrue(this.config.get(patternEntry).matcher("bb").matches());
+
+        this.config.reset();
+        assertEquals(3, compiles.get());
+        assertTrue(this.config.get(patternEntry).matcher("aa").matches());
+    }
+
+    @Test
+    public void derivedValueIsKeptWhenOtherEntriesChange() {
+        Pattern pattern = this.config.get(patternEntry);
+        this.config.setInt(intEntry, 5);
+        this.config.setBoolean(boolEntry, true);
+        this.config.setValue(regexEntry, new String("a+"));
+        assertSame(pattern, this.config.get(patternEntry));
+        assertEquals(1, compiles.get());
+    }
+
+    @Test
+    public void derivedValueFromTwoSources() {
+        DerivedEntry<String> label = DerivedEntry.of("label", intEntry, boolEntry, (i, b) -> i + ":" + b);
+        this.config.addDerivedEntry(label);
+        assertEquals("1:false", this.config.get(label));
+        this.config.setBoolean(boolEntry, true);
+        assertEquals("1:true", this.config.get(label));
+        assertEquals("1:true", this.config.snapshot().get(label));
+    }
+
+    @Test
+    public void derivedValueIsRecomputedOnUpdate() {
+        Config other = Config.createTempConfig(this.config);
+        other.addEntry(regexEntry);
+        other.setValue(regexEntry, "c+");
+        this.config.update(other);
+        assertTrue(this.config.get(patternEntry).matcher("ccc").matches());
+    }
+
+    @Test
+    public void failedDerivationThrowsOnRead() {
+        this.config.setValue(regexEntry, "(");
+        assertThrows(IllegalStateException.class, () -> this.config.get(patternEntry));
+        this.config.setValue(regexEntry, "d");
+        assertTrue(this.config.get(patternEntry).matcher("d").matches());
+    }
+
+    @Test
+    public void addingDerivedEntryWithUnknownSourceThrows() {
+        IntegerEntry unknown = new IntegerEntry("unknown", 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> this.config.addDerivedEntry(DerivedEntry.of("x", unknown, i -> i)));
+    }
+
+    @Test
+    public void addingDuplicateDerivedEntryThrows() {
+        assertThrows(IllegalArgumentException.class,
+                () -> this.config.addDerivedEntry(DerivedEntry.of("pattern", intEntry, i -> i)));
+    }
+
+    @Test
+    public void getDerivedEntryNotInConfigThrows() {
+        DerivedEntry<Integer> unknown = DerivedEntry.of("unknown", intEntry, i -> i);
+        assertThrows(IllegalArgumentException.class, () -> this.config.get(unknown));
+    }
+
+    @Test
+    public void generationIncreasesOnEachChange() {
+        long generation = this.config.getGeneration();
+        this.config.setInt(intEntry, 2);
+        assertEquals(generation + 1, this.config.getGeneration());
+        this.config.reset();
+        assertEquals(generation + 2, this.config.getGeneration());
+        this.config.publish(this.config.newSnapshotBuilder().build());
+        assertEquals(generation + 3, this.config.getGeneration());
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.thedeathlycow.simple.config;
+
+import com.github.thedeathlycow.simple.config.entry.IntegerEntry;
+import com.github.thedeathlycow.simple.config.entry.collection.IntList;
+import com.github.thedeathlycow.simple.config.entry.collection.IntListEntry;
+import com.github.thedeathlycow.simple.config.entry.collection.ListEntry;
+import com.github.thedeathlycow.simple.config.reload.Reloadable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyValueTest {
+
+    @TempDir
+    Path configDir;
+
+    private IntegerEntry intEntry;
+    private ListEntry<String> listEntry;
+    private IntListEntry intListEntry;
+    private Config config;
+
+    @BeforeEach
+    public void setup() {
+        this.intEntry = new IntegerEntry("int", 1);
+        this.listEntry = new ListEntry<>("list", List.of("default"), String.class);
+        this.listEntry.setLazy(true);
+        this.intListEntry = new IntListEntry("ints", IntList.EMPTY, 0, 10);
+        this.intListEntry.setLazy(true);
+        this.config = ConfigFactory.createConfigWithKeys("test", "lazy", configDir, intEntry, listEntry, intListEntry);
+    }
+
+    @Test
+    public void lazyValuesAreReadOnFirstGet() throws IOException {
+        writeConfig("{\"int\": 5, \"list\": [\"a\", \"b\"], \"ints\": [1, 2.0, 3e0]}");
+        new Reloadable(config).reload();
+        ConfigSnapshot snapshot = this.config.snapshot();
+        assertEquals(5, snapshot.getInt(intEntry));
+        assertEquals("[\"a\",\"b\"]", snapshot.getLazyJson(listEntry));
+
+        assertEquals(List.of("a", "b"), snapshot.get(listEntry));
+        assertSame(snapshot.get(listEntry), snapshot.get(listEntry));
+        assertNull(snapshot.getLazyJson(listEntry));
+        assertEquals(IntList.of(1, 2, 3), snapshot.get(intListEntry));
+    }
+
+    @Test
+    public void invalidLazyValuesHaveDefaultValue() throws IOException {
+        writeConfig("{\"int\": 5, \"list\": {\"a\": 1}, \"ints\": [1, 20]}");
+        new Reloadable(config).reload();
+        assertEquals(5, this.config.getInt(intEntry));
+        assertEquals(List.of("default"), this.config.get(listEntry));
+        assertEquals(IntList.EMPTY, this.config.get(intListEntry));
+    }
+
+    @Test
+    public void malformedLazyValuesFailReload() throws IOException {
+        writeConfig("{\"int\": 5, \"list\": [\"a\" \"b\"]}");
+        assertThrows(IOException.class, () -> new Reloadable(config).reload());
+        assertEquals(1, this.config.getInt(intEntry));
+    }
+
+    @Test
+    public void lazyValuesAreReadOnce() throws Exception {
+        ConfigSnapshot snapshot = this.config.newSnapshotBuilder()
+                .setLazy(listEntry, "[\"a\", \"b\", \"c\"]")
+                .build();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<String>>> reads = executor.invokeAll(List.of(
+                    () -> snapshot.get(listEntry),
+                    () -> snapshot.get(listEntry),
+                    () -> snapshot.get(listEntry),
+                    () -> snapshot.get(listEntry)
+            ));
+            for (Future<List<String>> read : reads) {
+                assertSame(reads.get(0).get(), read.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void eagerEntriesCannotBeSetLazily() {
+        assertThrows(IllegalArgumentException.class, () -> this.config.newSnapshotBuilder().setLazy(intEntry, "1"));
+    }
+
+    @Test
+    public void savingWritesLazyValues() throws IOException {
+        this.config.publish(this.config.newSnapshotBuilder().setLazy(listEntry, "[\"x\"]").build());
+        this.config.save();
+        Config loaded = ConfigFactory.createConfigWithKeys("test", "lazy", configDir, intEntry, listEntry, intListEntry);
+        new Reloadable(loaded).reload();
+        assertEquals(List.of("x"), loaded.get(listEntry));
+    }
+
+    private void writeConfig(String json) throws IOException {
+        Path location = this.config.getLocation().toPath();
+        Files.createDirectories(location.getParent());
+        Files.writeString(location, json);
+    }
+}
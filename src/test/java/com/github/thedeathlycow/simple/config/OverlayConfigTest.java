@@ -0,0 +1,150 @@
+package com.github.thedeathlycow.simple.config;
+
+import com.github.thedeathlycow.simple.config.entry.BooleanEntry;
+import com.github.thedeathlycow.simple.config.entry.IntegerEntry;
+import com.github.thedeathlycow.simple.config.entry.StringEntry;
+import com.github.thedeathlycow.simple.config.reload.Reloadable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OverlayConfigTest {
+
+    private IntegerEntry intEntry;
+    private BooleanEntry boolEntry;
+    private StringEntry stringEntry;
+    private Config base;
+    private OverlayConfig overlay;
+
+    @BeforeEach
+    public void setup(@TempDir Path configDir) {
+        this.intEntry = new IntegerEntry("int", 1);
+        this.boolEntry = new BooleanEntry("bool", false);
+        this.stringEntry = new StringEntry("string", "a");
+        this.base = ConfigFactory.createConfigWithKeys(
+                "test", "base", configDir,
+                intEntry,
+                boolEntry,
+                stringEntry
+        );
+        this.overlay = new OverlayConfig(base);
+    }
+
+    @Test
+    public void overlayReadsBaseValues() {
+        this.base.setInt(intEntry, 4);
+        assertEquals(4, this.overlay.getInt(intEntry));
+        assertEquals(4, this.overlay.get(intEntry));
+        assertEquals("a", this.overlay.get(stringEntry));
+        assertEquals(0, this.overlay.getOverrideCount());
+    }
+
+    @Test
+    public void overridesDoNotChangeBase() {
+        this.overlay.setValue(intEntry, 9);
+        this.overlay.setValue(stringEntry, "b");
+        assertEquals(9, this.overlay.getInt(intEntry));
+        assertEquals("b", this.overlay.get(stringEntry));
+        assertFalse(this.overlay.getBoolean(boolEntry));
+        assertEquals(1, this.base.getInt(intEntry));
+        assertEquals("a", this.base.get(stringEntry));
+        assertEquals(2, this.overlay.getOverrideCount());
+    }
+
+    @Test
+    public void overridingTwiceReplacesValue() {
+        this.overlay.setValue(intEntry, 2);
+        this.overlay.setValue(intEntry, 3);
+        assertEquals(3, this.overlay.getInt(intEntry));
+        assertEquals(1, this.overlay.getOverrideCount());
+    }
+
+    @Test
+    public void clearedOverrideReadsBaseAgain() {
+        this.overlay.setValue(boolEntry, true);
+        this.overlay.setValue(stringEntry, "b");
+        assertTrue(this.overlay.clearOverride(boolEntry));
+        assertFalse(this.overlay.clearOverride(boolEntry));
+        assertFalse(this.overlay.isOverridden(boolEntry));
+        assertFalse(this.overlay.getBoolean(boolEntry));
+        assertEquals("b", this.overlay.get(stringEntry));
+
+        this.overlay.clearOverrides();
+        assertEquals("a", this.overlay.get(stringEntry));
+    }
+
+    @Test
+    public void baseReloadIsSeenByOverlay() throws IOException {
+        this.overlay.setValue(stringEntry, "b");
+        Files.createDirectories(this.base.getLocation().toPath().getParent());
+        Files.writeString(this.base.getLocation().toPath(), "{\"int\": 7, \"string\": \"c\"}");
+        new Reloadable(this.base).reload();
+        assertEquals(7, this.overlay.getInt(intEntry));
+        assertEquals("b", this.overlay.get(stringEntry));
+    }
+
+    @Test
+    public void snapshotIsNotChangedByLaterWrites() throws IOException {
+        this.overlay.setValue(stringEntry, "b");
+        OverlayConfig.Snapshot snapshot = this.overlay.snapshot();
+
+        this.overlay.setValue(intEntry, 9);
+        this.overlay.clearOverride(stringEntry);
+        Files.createDirectories(this.base.getLocation().toPath().getParent());
+        Files.writeString(this.base.getLocation().toPath(), "{\"bool\": true}");
+        new Reloadable(this.base).reload();
+
+        assertEquals(1, snapshot.getInt(intEntry));
+        assertFalse(snapshot.getBoolean(boolEntry));
+        assertEquals("b", snapshot.get(stringEntry));
+        assertTrue(snapshot.isOverridden(stringEntry));
+        assertFalse(snapshot.isOverridden(intEntry));
+        assertEquals(9, this.overlay.getInt(intEntry));
+        assertTrue(this.overlay.getBoolean(boolEntry));
+    }
+
+    @Test
+    public void overridesSpanningSeveralWords(@TempDir Path configDir) {
+        List<IntegerEntry> entries = new ArrayList<>();
+        Config wide = ConfigFactory.createEmptyConfig("test", "wide", configDir);
+        for (int i = 0; i < 200; i++) {
+            IntegerEntry entry = new IntegerEntry("int" + i, i);
+            wide.addEntry(entry);
+            entries.add(entry);
+        }
+        OverlayConfig wideOverlay = new OverlayConfig(wide);
+        for (int i = 199; i >= 0; i -= 3) {
+            wideOverlay.setValue(entries.get(i), -i);
+        }
+        wideOverlay.clearOverride(entries.get(100));
+        for (int i = 0; i < 200; i++) {
+            boolean overridden = (199 - i) % 3 == 0 && i != 100;
+            assertEquals(overridden ? -i : i, wideOverlay.getInt(entries.get(i)));
+            assertEquals(overridden, wideOverlay.isOverridden(entries.get(i)));
+        }
+    }
+
+    @Test
+    public void invalidOverrideThrows() {
+        IntegerEntry bounded = new IntegerEntry("bounded", 1, 0, 10);
+        Config boundedBase = ConfigFactory.createConfigWithKeys("test", "bounded", Path.of("."), bounded);
+        OverlayConfig boundedOverlay = new OverlayConfig(boundedBase);
+        assertThrows(IllegalArgumentException.class, () -> boundedOverlay.setValue(bounded, 11));
+        assertFalse(boundedOverlay.isOverridden(bounded));
+    }
+
+    @Test
+    public void unknownEntryThrows() {
+        IntegerEntry unknown = new IntegerEntry("unknown", 1);
+        assertThrows(IllegalArgumentException.class, () -> this.overlay.get(unknown));
+        assertThrows(IllegalArgumentException.class, () -> this.overlay.setValue(unknown, 1));
+    }
+}
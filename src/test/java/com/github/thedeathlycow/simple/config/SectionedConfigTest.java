@@ -0,0 +1,82 @@
+package com.github.thedeathlycow.simple.config;
+
+import com.github.thedeathlycow.simple.config.entry.BooleanEntry;
+import com.github.thedeathlycow.simple.config.entry.IntegerEntry;
+import com.github.thedeathlycow.simple.config.reload.ReloadEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SectionedConfigTest {
+
+    @TempDir
+    Path configDir;
+
+    private IntegerEntry intEntry;
+    private BooleanEntry boolEntry;
+    private SectionedConfig config;
+
+    @BeforeEach
+    public void setup() {
+        this.intEntry = new IntegerEntry("int", 1);
+        this.boolEntry = new BooleanEntry("bool", false);
+        this.config = new SectionedConfig(new Identifier("test", "sectioned"), configDir);
+        this.config.addSection("numbers", intEntry);
+        this.config.addSection("flags", boolEntry);
+    }
+
+    @Test
+    public void sectionsLoadOnFirstRead() throws IOException {
+        writeSection("numbers", "{\"int\": 5}");
+        writeSection("flags", "{\"bool\": true}");
+        assertFalse(this.config.isLoaded("numbers"));
+
+        assertEquals(5, this.config.get(intEntry));
+        assertTrue(this.config.isLoaded("numbers"));
+        assertFalse(this.config.isLoaded("flags"));
+
+        assertTrue(this.config.getSection("flags").getBoolean(boolEntry));
+        assertTrue(this.config.isLoaded("flags"));
+    }
+
+    @Test
+    public void sectionsWithoutFilesHaveDefaults() {
+        assertEquals(1, this.config.get(intEntry));
+        assertTrue(this.config.isLoaded("numbers"));
+    }
+
+    @Test
+    public void onlyLoadedSectionsAreReloaded() throws IOException {
+        ReloadEvent event = new ReloadEvent();
+        this.config.addReloadListeners(event);
+        writeSection("numbers", "{\"int\": 5}");
+        assertEquals(5, this.config.get(intEntry));
+
+        writeSection("numbers", "{\"int\": 6}");
+        writeSection("flags", "{\"bool\": true}");
+        event.reload();
+        assertEquals(6, this.config.get(intEntry));
+        assertFalse(this.config.isLoaded("flags"));
+        assertTrue(this.config.get(boolEntry));
+    }
+
+    @Test
+    public void entriesBelongToOneSection() {
+        assertThrows(IllegalArgumentException.class, () -> this.config.addSection("other", new IntegerEntry("int", 2)));
+        assertThrows(IllegalArgumentException.class, () -> this.config.addSection("numbers"));
+        assertThrows(IllegalArgumentException.class, () -> this.config.addSection("../escape"));
+        assertThrows(IllegalArgumentException.class, () -> this.config.get(new IntegerEntry("unknown", 1)));
+    }
+
+    private void writeSection(String section, String json) throws IOException {
+        Path location = configDir.resolve("test").resolve("sectioned").resolve(section + ".json");
+        Files.createDirectories(location.getParent());
+        Files.writeString(location, json);
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.thedeathlycow.simple.config;
+
+import com.github.thedeathlycow.simple.config.entry.IntegerEntry;
+import com.github.thedeathlycow.simple.config.reload.Reloadable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBehindSaverTest {
+
+    @TempDir
+    Path configDir;
+
+    private IntegerEntry intEntry;
+    private Config config;
+
+    @BeforeEach
+    public void setup() {
+        this.intEntry = new IntegerEntry("int", 1);
+        this.config = ConfigFactory.createConfigWithKeys("test", "saved", configDir, intEntry);
+    }
+
+    @Test
+    public void changesAreCoalescedIntoOneSave() throws IOException, InterruptedException {
+        try (WriteBehindSaver saver = new WriteBehindSaver(Duration.ofMillis(100))) {
+            saver.attach(this.config);
+            for (int i = 0; i < 1000; i++) {
+                this.config.setInt(intEntry, i);
+            }
+            assertTrue(saver.isDirty(this.config));
+            assertEquals(1, saver.getPendingCount());
+            assertFalse(Files.exists(this.config.getLocation().toPath()));
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            // the config stops being dirty as soon as its save starts, the latency is set once it ends
+            while ((saver.isDirty(this.config) || saver.getLastFlushLatency(this.config) == null)
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, saver.getPendingCount());
+            assertNotNull(saver.getLastFlushLatency(this.config));
+            assertEquals(999, this.reloadedValue());
+        }
+    }
+
+    @Test
+    public void closeFlushesDirtyConfigs() throws IOException {
+        WriteBehindSaver saver = new WriteBehindSaver(Duration.ofHours(1));
+        saver.attach(this.config);
+        this.config.setInt(intEntry, 5);
+        assertNull(saver.getLastFlushLatency(this.config));
+        saver.close();
+        assertFalse(saver.isDirty(this.config));
+        assertEquals(5, this.reloadedValue());
+    }
+
+    @Test
+    public void detachedConfigsAreNotSaved() {
+        try (WriteBehindSaver saver = new WriteBehindSaver(Duration.ofHours(1))) {
+            saver.attach(this.config);
+            assertThrows(IllegalArgumentException.class, () -> saver.attach(this.config));
+            assertTrue(saver.detach(this.config));
+            this.config.setInt(intEntry, 5);
+            assertFalse(saver.isDirty(this.config));
+            assertFalse(saver.detach(this.config));
+        }
+    }
+
+    @Test
+    public void reloadsDoNotMarkConfigDirty() throws IOException {
+        try (WriteBehindSaver saver = new WriteBehindSaver(Duration.ofHours(1))) {
+            saver.attach(this.config);
+            Files.createDirectories(this.config.getLocation().toPath().getParent());
+            Files.writeString(this.config.getLocation().toPath(), "{\"int\": 7, \"unknown\": true}");
+            new Reloadable(this.config).reload();
+            assertEquals(7, this.config.getInt(intEntry));
+            this.config.addEntry(new IntegerEntry("added", 2));
+            assertFalse(saver.isDirty(this.config));
+
+            this.config.setInt(intEntry, 8);
+            assertTrue(saver.isDirty(this.config));
+        }
+    }
+
+    private int reloadedValue() throws IOException {
+        Config loaded = ConfigFactory.createConfigWithKeys("test", "saved", configDir, intEntry);
+        new Reloadable(loaded).reload();
+        return loaded.getInt(intEntry);
+    }
+}
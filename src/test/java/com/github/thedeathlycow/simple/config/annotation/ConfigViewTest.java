@@ -0,0 +1,56 @@
+package com.github.thedeathlycow.simple.config.annotation;
+
+import com.github.thedeathlycow.simple.config.Config;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigViewTest {
+
+    @Test
+    public void viewHasConfigValues() {
+        Config config = TestSettingsView.createConfig("test", "view", Paths.get("."));
+        TestSettings defaults = TestSettingsView.of(config);
+        assertEquals(20, defaults.maxPlayers());
+        assertEquals(0.5, defaults.spawnChance());
+        assertTrue(defaults.enabled());
+        assertEquals("hello", defaults.motd());
+        assertEquals(TestSettings.Difficulty.NORMAL, defaults.difficulty());
+
+        config.setInt(TestSettingsView.MAX_PLAYERS, 50);
+        config.setValue(TestSettingsView.DIFFICULTY, TestSettings.Difficulty.HARD);
+        TestSettings changed = TestSettingsView.of(config);
+        assertEquals(50, changed.maxPlayers());
+        assertEquals(TestSettings.Difficulty.HARD, changed.difficulty());
+        assertEquals(20, defaults.maxPlayers());
+    }
+
+    @Test
+    public void viewCanBeReadAndWritten() throws IOException {
+        String json = "{\"maxPlayers\": 8, \"spawn_chance\": 0.25, \"unknown\": [1, 2], \"difficulty\": \"EASY\"}";
+        TestSettingsView view = TestSettingsView.read(new JsonReader(new StringReader(json)));
+        assertEquals(8, view.maxPlayers());
+        assertEquals(0.25, view.spawnChance());
+        assertTrue(view.enabled());
+        assertEquals(TestSettings.Difficulty.EASY, view.difficulty());
+
+        StringWriter out = new StringWriter();
+        view.write(new JsonWriter(out));
+        TestSettingsView reread = TestSettingsView.read(new JsonReader(new StringReader(out.toString())));
+        assertEquals(view.toString(), reread.toString());
+    }
+
+    @Test
+    public void invalidValuesAreRejected() {
+        String json = "{\"maxPlayers\": 1000}";
+        assertThrows(JsonSyntaxException.class, () -> TestSettingsView.read(new JsonReader(new StringReader(json))));
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.thedeathlycow.simple.config.annotation;
+
+@ConfigView
+public interface TestSettings {
+
+    @Entry(defaultValue = "20", min = "1", max = "100")
+    int maxPlayers();
+
+    @Entry(name = "spawn_chance", defaultValue = "0.5", min = "0", max = "1")
+    double spawnChance();
+
+    @Entry(defaultValue = "true")
+    boolean enabled();
+
+    @Entry(defaultValue = "hello")
+    String motd();
+
+    @Entry(defaultValue = "NORMAL")
+    Difficulty difficulty();
+
+    enum Difficulty {
+        EASY,
+        NORMAL,
+        HARD
+    }
+}
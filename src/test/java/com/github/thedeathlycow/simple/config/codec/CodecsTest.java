@@ -0,0 +1,173 @@
+package com.github.thedeathlycow.simple.config.codec;
+
+import com.github.thedeathlycow.simple.config.entry.StringEntry;
+import com.github.thedeathlycow.simple.config.entry.collection.ListEntry;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodecsTest {
+
+    @Test
+    public void integerAcceptsSameValuesAsGson() throws IOException {
+        assertEquals(5, read(Codecs.INTEGER, "5"));
+        assertEquals(5, read(Codecs.INTEGER, "\"5\""));
+        assertEquals(5, read(Codecs.INTEGER, "5.0"));
+        assertThrows(JsonSyntaxException.class, () -> read(Codecs.INTEGER, "5.5"));
+        assertThrows(JsonSyntaxException.class, () -> read(Codecs.INTEGER, "3000000000"));
+        assertThrows(JsonSyntaxException.class, () -> read(Codecs.INTEGER, "true"));
+        assertThrows(JsonSyntaxException.class, () -> read(Codecs.INTEGER, "null"));
+    }
+
+    @Test
+    public void readAndDecodeAgree() throws IOException {
+        for (String json : List.of("1", "\"a\"", "true", "2.5", "\"false\"")) {
+            JsonElement element = JsonParser.parseString(json);
+            assertEquals(read(Codecs.STRING, json), Codecs.STRING.decode(element));
+            assertEquals(readOrNull(Codecs.BOOLEAN, json), decodeOrNull(Codecs.BOOLEAN, element));
+            assertEquals(readOrNull(Codecs.DOUBLE, json), decodeOrNull(Codecs.DOUBLE, element));
+        }
+    }
+
+    @Test
+    public void invalidValueIsFullyConsumed() throws IOException {
+        JsonReader reader = new JsonReader(new StringReader("[{\"a\": [1]}, 2]"));
+        reader.beginArray();
+        assertThrows(JsonSyntaxException.class, () -> Codecs.INTEGER.read(reader));
+        assertEquals(2, Codecs.INTEGER.read(reader));
+        reader.endArray();
+    }
+
+    @Test
+    public void writtenValuesCanBeReadBack() throws IOException {
+        assertEquals(0.1f, read(Codecs.FLOAT, write(Codecs.FLOAT, 0.1f)));
+        assertEquals("0.1", write(Codecs.FLOAT, 0.1f));
+        assertEquals(Long.MAX_VALUE, read(Codecs.LONG, write(Codecs.LONG, Long.MAX_VALUE)));
+        assertEquals("a\"b", read(Codecs.STRING, write(Codecs.STRING, "a\"b")));
+    }
+
+    @Test
+    public void unknownTypesFallBackToGson() throws IOException {
+        Codec<Point> codec = Codecs.forType(Point.class);
+        assertSame(codec, Codecs.forType(Point.class));
+        Point point = read(codec, "{\"x\": 1, \"y\": 2}");
+        assertEquals(1, point.x);
+        assertEquals(2, point.y);
+    }
+
+    @Test
+    public void registeredCodecIsUsedByEntries() throws IOException {
+        Codecs.register(Tag.class, new Codec<>() {
+            @Override
+            public Tag read(JsonReader reader) throws IOException {
+                return new Tag(reader.nextString());
+            }
+
+            @Override
+            public Tag decode(JsonElement element) {
+                return new Tag(element.getAsString());
+            }
+
+            @Override
+            public void write(JsonWriter writer, Tag value) throws IOException {
+                writer.value(value.name());
+            }
+        });
+        assertThrows(IllegalArgumentException.class, () -> Codecs.register(Tag.class, Codecs.forType(Tag.class)));
+
+        ListEntry<Tag> entry = new ListEntry<>("tags", List.of(), Tag.class);
+        List<Tag> tags = entry.read(new JsonReader(new StringReader("[\"a\", \"b\"]")));
+        assertEquals(List.of(new Tag("a"), new Tag("b")), tags);
+    }
+
+    @Test
+    public void overridingSubclassesReadTreesByDefault() throws IOException {
+        ListEntry<String> upper = new ListEntry<>("upper", List.of(), String.class) {
+            @Override
+            protected String deserializeElement(JsonElement element) {
+                return element.getAsString().toUpperCase();
+            }
+        };
+        assertEquals(List.of("A", "B"), upper.read(new JsonReader(new StringReader("[\"a\", \"b\"]"))));
+
+        ListEntry<String> reversed = new ListEntry<>("reversed", List.of(), String.class) {
+            @Override
+            public List<String> deserialize(JsonElement jsonElement) {
+                List<String> list = new ArrayList<>(super.deserialize(jsonElement));
+                Collections.reverse(list);
+                return list;
+            }
+        };
+        assertEquals(List.of("b", "a"), reversed.read(new JsonReader(new StringReader("[\"a\", \"b\"]"))));
+
+        StringEntry trimmed = new StringEntry("trimmed", "") {
+            @Override
+            public String deserialize(JsonElement jsonElement) {
+                return jsonElement.getAsString().trim();
+            }
+        };
+        assertEquals("a", trimmed.read(new JsonReader(new StringReader("\" a \""))));
+    }
+
+    @Test
+    public void subclassesCanOptInToStreaming() throws IOException {
+        StringEntry streamed = new StringEntry("streamed", "") {
+            @Override
+            public String deserialize(JsonElement jsonElement) {
+                throw new AssertionError("should not read trees");
+            }
+
+            @Override
+            protected boolean readsTrees() {
+                return false;
+            }
+        };
+        assertEquals(" a ", streamed.read(new JsonReader(new StringReader("\" a \""))));
+    }
+
+    private static <T> T read(Codec<T> codec, String json) throws IOException {
+        return codec.read(new JsonReader(new StringReader(json)));
+    }
+
+    private static <T> Object readOrNull(Codec<T> codec, String json) throws IOException {
+        try {
+            return read(codec, json);
+        } catch (JsonSyntaxException e) {
+            return null;
+        }
+    }
+
+    private static <T> Object decodeOrNull(Codec<T> codec, JsonElement element) {
+        try {
+            return codec.decode(element);
+        } catch (JsonSyntaxException e) {
+            return null;
+        }
+    }
+
+    private static <T> String write(Codec<T> codec, T value) throws IOException {
+        StringWriter out = new StringWriter();
+        codec.write(new JsonWriter(out), value);
+        return out.toString();
+    }
+
+    private static class Point {
+        int x;
+        int y;
+    }
+
+    private record Tag(String name) {
+    }
+}
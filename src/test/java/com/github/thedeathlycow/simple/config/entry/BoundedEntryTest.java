@@ -94,4 +94,46 @@ class BoundedEntryTest {
         assertDoesNotThrow(() -> this.config.setValue(boundedEntry, boundedEntry.getMax()));
     }
 
-}
\ No newline at end of file
+    //* Primitive accessor tests *//
+
+    @Test
+    void boundedEntrySetIntMaxBoundDoesNotThrow() {
+        assertDoesNotThrow(() -> this.config.setInt(boundedEntry, boundedEntry.getMax()));
+    }
+
+    @Test
+    void boundedEntrySetIntMaxIntDoesThrow() {
+        assertThrows(IllegalArgumentException.class, () -> this.config.setInt(boundedEntry, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void setIntIsVisibleToGet() {
+        this.config.setInt(boundedEntry, 7);
+        assertEquals(7, this.config.get(boundedEntry));
+    }
+
+    @Test
+    void setValueIsVisibleToGetInt() {
+        this.config.setValue(unBoundedEntry, Integer.MIN_VALUE);
+        assertEquals(Integer.MIN_VALUE, this.config.getInt(unBoundedEntry));
+    }
+
+    @Test
+    void doubleEntryBoundsAreChecked() {
+        DoubleEntry doubleEntry = new DoubleEntry("double", 0.5, 0.0, 1.0);
+        this.config.addEntry(doubleEntry);
+        assertThrows(IllegalArgumentException.class, () -> this.config.setDouble(doubleEntry, 1.5));
+        assertThrows(IllegalArgumentException.class, () -> this.config.setDouble(doubleEntry, Double.NaN));
+        this.config.setDouble(doubleEntry, 0.25);
+        assertEquals(0.25, this.config.getDouble(doubleEntry));
+        assertEquals(0.25, this.config.get(doubleEntry));
+    }
+
+    @Test
+    void floatEntryRoundTripsNegativeValues() {
+        FloatEntry floatEntry = new FloatEntry("float", -1.5f);
+        this.config.addEntry(floatEntry);
+        assertEquals(-1.5f, this.config.getFloat(floatEntry));
+    }
+
+}
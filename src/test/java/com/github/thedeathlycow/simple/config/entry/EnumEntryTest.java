@@ -0,0 +1,89 @@
+package com.github.thedeathlycow.simple.config.entry;
+
+import com.github.thedeathlycow.simple.config.Config;
+import com.github.thedeathlycow.simple.config.ConfigFactory;
+import com.github.thedeathlycow.simple.config.entry.collection.EnumSetEntry;
+import com.github.thedeathlycow.simple.config.reload.Reloadable;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.annotations.SerializedName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnumEntryTest {
+
+    enum Mode {
+        OFF,
+        @SerializedName(value = "on", alternate = "ENABLED")
+        ON,
+        AUTO
+    }
+
+    enum Level {
+        LOW,
+        HIGH
+    }
+
+    @Test
+    public void enumsAreReadByName() {
+        EnumEntry<Mode> entry = new EnumEntry<>("mode", Mode.OFF, Mode.class);
+        assertEquals(Mode.AUTO, entry.deserialize(JsonParser.parseString("\"AUTO\"")));
+        assertEquals(Mode.ON, entry.deserialize(JsonParser.parseString("\"on\"")));
+        assertEquals(Mode.ON, entry.deserialize(JsonParser.parseString("\"ENABLED\"")));
+        assertThrows(JsonSyntaxException.class, () -> entry.deserialize(JsonParser.parseString("\"auto\"")));
+    }
+
+    @Test
+    public void entriesForDifferentEnumsAreNotEqual() {
+        EnumEntry<Mode> mode = new EnumEntry<>("setting", Mode.OFF, Mode.class);
+        EnumEntry<Level> level = new EnumEntry<>("setting", Level.LOW, Level.class);
+        assertNotEquals(mode, level);
+        assertEquals(mode, new EnumEntry<>("setting", Mode.AUTO, Mode.class));
+        assertEquals(mode.hashCode(), new EnumEntry<>("setting", Mode.AUTO, Mode.class).hashCode());
+    }
+
+    @Test
+    public void onlyAllowedConstantsAreValid() {
+        EnumEntry<Mode> entry = new EnumEntry<>("mode", Mode.OFF, Mode.class, EnumSet.of(Mode.OFF, Mode.ON));
+        assertTrue(entry.isValid(Mode.ON));
+        assertFalse(entry.isValid(Mode.AUTO));
+        assertThrows(IllegalArgumentException.class,
+                () -> new EnumEntry<>("mode", Mode.AUTO, Mode.class, EnumSet.of(Mode.OFF)));
+    }
+
+    @Test
+    public void configStoresOrdinal() {
+        EnumEntry<Mode> entry = new EnumEntry<>("mode", Mode.OFF, Mode.class);
+        Config config = ConfigFactory.createConfigWithKeys("test", "enum", Paths.get("."), entry);
+        assertEquals(0, config.getOrdinal(entry));
+        config.setValue(entry, Mode.AUTO);
+        assertEquals(Mode.AUTO, config.get(entry));
+        assertEquals(Mode.AUTO, entry.fromOrdinal(config.getOrdinal(entry)));
+    }
+
+    @Test
+    public void enumsCanBeSavedAndReloaded(@TempDir Path configDir) throws IOException {
+        EnumEntry<Mode> entry = new EnumEntry<>("mode", Mode.OFF, Mode.class);
+        EnumSetEntry<Mode> setEntry = new EnumSetEntry<>("modes", EnumSet.noneOf(Mode.class), Mode.class);
+        Config saved = ConfigFactory.createConfigWithKeys("test", "enum", configDir, entry, setEntry);
+        saved.setValue(entry, Mode.ON);
+        saved.setValue(setEntry, EnumSet.of(Mode.ON, Mode.AUTO));
+        saved.save();
+        assertTrue(Files.readString(saved.getLocation().toPath()).contains("\"on\""));
+
+        Config loaded = ConfigFactory.createConfigWithKeys("test", "enum", configDir, entry, setEntry);
+        new Reloadable(loaded).reload();
+        assertEquals(Mode.ON, loaded.get(entry));
+        EnumSet<Mode> modes = loaded.get(setEntry);
+        assertEquals(EnumSet.of(Mode.ON, Mode.AUTO), modes);
+        assertTrue(modes.contains(Mode.AUTO));
+    }
+}
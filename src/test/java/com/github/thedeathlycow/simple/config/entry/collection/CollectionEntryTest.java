@@ -2,9 +2,13 @@ package com.github.thedeathlycow.simple.config.entry.collection;
 
 import com.github.thedeathlycow.simple.config.Config;
 import com.github.thedeathlycow.simple.config.ConfigFactory;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
@@ -52,4 +56,24 @@ class CollectionEntryTest {
         randomInts.set(0, -1);
         assertNotEquals(randomInts, this.config.get(integerCollectionEntry));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void readStreamsArray() throws IOException {
+        JsonReader reader = new JsonReader(new StringReader("[5, 6, 7]"));
+        assertEquals(List.of(5, 6, 7), integerCollectionEntry.read(reader));
+    }
+
+    @Test
+    public void readTreatsSingleValueAsSingleton() throws IOException {
+        JsonReader reader = new JsonReader(new StringReader("5"));
+        assertEquals(List.of(5), integerCollectionEntry.read(reader));
+    }
+
+    @Test
+    public void readConsumesArrayWithInvalidElement() throws IOException {
+        JsonReader reader = new JsonReader(new StringReader("[[1, \"a\", 3], 4]"));
+        reader.beginArray();
+        assertThrows(JsonSyntaxException.class, () -> integerCollectionEntry.read(reader));
+        assertEquals(4, reader.nextInt());
+    }
+}
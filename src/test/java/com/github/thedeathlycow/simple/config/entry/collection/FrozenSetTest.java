@@ -0,0 +1,77 @@
+package com.github.thedeathlycow.simple.config.entry.collection;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrozenSetTest {
+
+    @Test
+    public void containsMatchesHashSet() {
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            expected.add("value" + i * 3);
+        }
+        for (boolean bloomFilter : new boolean[]{false, true}) {
+            FrozenSet<String> frozen = FrozenSet.copyOf(expected, bloomFilter);
+            assertEquals(bloomFilter, frozen.hasBloomFilter());
+            assertEquals(expected.size(), frozen.size());
+            for (int i = 0; i < 30_000; i++) {
+                assertEquals(expected.contains("value" + i), frozen.contains("value" + i));
+            }
+            assertFalse(frozen.contains(null));
+            assertFalse(frozen.contains(3));
+            assertEquals(expected, frozen);
+            assertEquals(expected.hashCode(), frozen.hashCode());
+        }
+    }
+
+    @Test
+    public void duplicatesAreDroppedAndOrderIsKept() {
+        FrozenSet<String> frozen = FrozenSet.copyOf(List.of("b", "a", "b", "c", "a"));
+        assertEquals(List.of("b", "a", "c"), List.copyOf(frozen));
+    }
+
+    @Test
+    public void setIsImmutable() {
+        FrozenSet<String> frozen = FrozenSet.copyOf(List.of("a"));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.remove("a"));
+        assertThrows(NullPointerException.class, () -> FrozenSet.copyOf(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void entryReadsFrozenSets() throws IOException {
+        FrozenSetEntry<String> entry = new FrozenSetEntry<>("denylist", Set.of("x"), String.class, true);
+        assertTrue(entry.getDefaultValue().contains("x"));
+
+        FrozenSet<String> read = entry.read(new JsonReader(new StringReader("[\"a\", \"b\", \"a\"]")));
+        assertEquals(Set.of("a", "b"), read);
+        assertTrue(read.hasBloomFilter());
+        assertThrows(JsonSyntaxException.class, () -> entry.read(new JsonReader(new StringReader("[\"a\", null]"))));
+    }
+
+    @Test
+    public void subclassesDecodeElements() throws IOException {
+        FrozenSetEntry<String> entry = new FrozenSetEntry<>("allowlist", Set.of(), String.class) {
+            @Override
+            protected String deserializeElement(JsonElement element) {
+                return element.getAsString().toLowerCase(Locale.ROOT);
+            }
+        };
+        assertEquals(Set.of("a", "b"), entry.deserialize(JsonParser.parseString("[\"A\", \"b\", \"a\"]")));
+        assertEquals(Set.of("a", "b"), entry.read(new JsonReader(new StringReader("[\"A\", \"B\"]"))));
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.thedeathlycow.simple.config.entry.collection;
+
+import com.github.thedeathlycow.simple.config.Config;
+import com.github.thedeathlycow.simple.config.ConfigFactory;
+import com.github.thedeathlycow.simple.config.reload.Reloadable;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveListEntryTest {
+
+    @Test
+    public void readParsesIntoPrimitiveList() throws IOException {
+        IntListEntry entry = new IntListEntry("ints", IntList.EMPTY);
+        IntList ints = entry.read(reader("[1, 2, \"3\", 4.0]"));
+        assertEquals(IntList.of(1, 2, 3, 4), ints);
+        assertEquals(List.of(1, 2, 3, 4), ints);
+        assertEquals(ints, entry.deserialize(JsonParser.parseString("[1, 2, \"3\", 4.0]")));
+        assertEquals(List.of(1, 2, 3, 4).hashCode(), ints.hashCode());
+        assertEquals(IntList.of(5), entry.read(reader("5")));
+    }
+
+    @Test
+    public void listsAreReadOnly() {
+        IntList ints = IntList.of(1, 2);
+        assertThrows(UnsupportedOperationException.class, () -> ints.add(3));
+        int[] array = ints.toIntArray();
+        array[0] = 5;
+        assertEquals(1, ints.getInt(0));
+    }
+
+    @Test
+    public void readConsumesArrayWithInvalidElement() throws IOException {
+        LongListEntry entry = new LongListEntry("longs", LongList.EMPTY);
+        JsonReader reader = reader("[[1, 1.5, {\"a\": 1}, 3], 4]");
+        reader.beginArray();
+        assertThrows(JsonSyntaxException.class, () -> entry.read(reader));
+        assertEquals(4, reader.nextInt());
+    }
+
+    @Test
+    public void boundsApplyToEveryElement() {
+        DoubleListEntry entry = new DoubleListEntry("doubles", DoubleList.of(0.5), 0.0, 1.0);
+        assertTrue(entry.isValid(DoubleList.of(0.0, 0.25, 1.0)));
+        assertFalse(entry.isValid(DoubleList.of(0.0, 1.5)));
+        assertFalse(entry.isValid(DoubleList.of(Double.NaN)));
+        assertThrows(IllegalArgumentException.class, () -> new IntListEntry("ints", IntList.of(1, 20), 0, 10));
+    }
+
+    @Test
+    public void savedListCanBeReloaded(@TempDir Path configDir) throws IOException {
+        IntListEntry ints = new IntListEntry("ints", IntList.EMPTY);
+        DoubleListEntry doubles = new DoubleListEntry("doubles", DoubleList.EMPTY);
+        Config saved = ConfigFactory.createConfigWithKeys("test", "lists", configDir, ints, doubles);
+        saved.setValue(ints, IntList.of(1, -2, Integer.MAX_VALUE));
+        saved.setValue(doubles, DoubleList.of(0.1, -2.5));
+        saved.save();
+
+        Config loaded = ConfigFactory.createConfigWithKeys("test", "lists", configDir, ints, doubles);
+        new Reloadable(loaded).reload();
+        assertEquals(IntList.of(1, -2, Integer.MAX_VALUE), loaded.get(ints));
+        assertEquals(DoubleList.of(0.1, -2.5), loaded.get(doubles));
+    }
+
+    private static JsonReader reader(String json) {
+        return new JsonReader(new StringReader(json));
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.thedeathlycow.simple.config.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigViewProcessorTest {
+
+    @TempDir
+    Path output;
+
+    @Test
+    public void validViewHasNoErrors() {
+        assertEquals(List.of(), compile(
+                "@Entry(defaultValue = \"5\", min = \"0\", max = \"10\") int count();",
+                "@Entry(defaultValue = \"1\", max = \"1\") float chance();"
+        ));
+    }
+
+    @Test
+    public void defaultOutsideBoundsIsAnError() {
+        List<String> errors = compile(
+                "@Entry(defaultValue = \"20\", min = \"0\", max = \"10\") int count();",
+                "@Entry(defaultValue = \"-0.5\", min = \"0\") double chance();"
+        );
+        assertEquals(2, errors.size());
+        assertTrue(errors.get(0).contains("not within its bounds"), errors.get(0));
+    }
+
+    @Test
+    public void collidingConstantNamesAreAnError() {
+        List<String> errors = compile(
+                "@Entry(defaultValue = \"1\") int maxPlayers();",
+                "@Entry(name = \"other\", defaultValue = \"1\") int max_players();"
+        );
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).contains("MAX_PLAYERS"), errors.get(0));
+    }
+
+    @Test
+    public void namesUsedByGeneratedClassAreAnError() {
+        List<String> errors = compile(
+                "@Entry(defaultValue = \"1\") int reader();",
+                "@Entry(defaultValue = \"1\") int snapshot();"
+        );
+        assertEquals(2, errors.size());
+    }
+
+    @Test
+    public void objectMethodNamesAreAnError() {
+        List<String> errors = compile(
+                "@Entry(defaultValue = \"a\") String toString();",
+                "@Entry(defaultValue = \"1\") int hashCode();"
+        );
+        assertEquals(2, errors.size());
+        assertTrue(errors.get(0).contains("toString"), errors.get(0));
+    }
+
+    /**
+     * Runs the processor over a view interface with some members, without compiling it.
+     *
+     * @return Returns the messages of the errors reported by the processor.
+     */
+    private List<String> compile(String... members) {
+        String source = "package test;\n"
+                + "import com.github.thedeathlycow.simple.config.annotation.*;\n"
+                + "@ConfigView\n"
+                + "public interface Settings {\n"
+                + String.join("\n", members)
+                + "\n}\n";
+        JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///test/Settings.java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaCompiler.CompilationTask task = compiler.getTask(
+                null, null, diagnostics,
+                List.of("-proc:only", "-classpath", System.getProperty("java.class.path"), "-s", output.toString()),
+                null, List.of(file)
+        );
+        task.setProcessors(List.of(new ConfigViewProcessor()));
+        task.call();
+        return diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .collect(Collectors.toList());
+    }
+}
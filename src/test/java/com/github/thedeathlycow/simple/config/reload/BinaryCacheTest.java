@@ -0,0 +1,137 @@
+package com.github.thedeathlycow.simple.config.reload;
+
+import com.github.thedeathlycow.simple.config.Config;
+import com.github.thedeathlycow.simple.config.ConfigFactory;
+import com.github.thedeathlycow.simple.config.ConfigSnapshot;
+import com.github.thedeathlycow.simple.config.entry.ConfigEntry;
+import com.github.thedeathlycow.simple.config.entry.IntegerEntry;
+import com.github.thedeathlycow.simple.config.entry.StringEntry;
+import com.github.thedeathlycow.simple.config.entry.collection.IntList;
+import com.github.thedeathlycow.simple.config.entry.collection.IntListEntry;
+import com.github.thedeathlycow.simple.config.entry.collection.ListEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryCacheTest {
+
+    @TempDir
+    Path configDir;
+
+    private IntegerEntry intEntry;
+    private StringEntry stringEntry;
+    private IntListEntry intListEntry;
+    private ListEntry<String> listEntry;
+
+    @BeforeEach
+    public void setup() {
+        this.intEntry = new IntegerEntry("int", 1, 0, 10);
+        this.stringEntry = new StringEntry("string", "");
+        this.intListEntry = new IntListEntry("ints", IntList.EMPTY);
+        this.listEntry = new ListEntry<>("list", List.of(), String.class);
+    }
+
+    @Test
+    public void cachedValuesAreLoadedAfterRestart() throws IOException {
+        writeConfig("{\"int\": 5, \"string\": \"h\\u00e9llo\", \"ints\": [1, 2, 3], \"list\": [\"a\", \"b\"], \"unknown\": 1}");
+        Config first = this.createConfig(intEntry, stringEntry, intListEntry, listEntry);
+        this.reload(first);
+        Path cache = this.cacheLocation(first);
+        assertTrue(Files.exists(cache));
+
+        Config second = this.createConfig(intEntry, stringEntry, intListEntry, listEntry);
+        assertNotNull(this.readCache(second));
+        this.reload(second);
+        assertEquals(5, second.getInt(intEntry));
+        assertEquals("héllo", second.get(stringEntry));
+        assertEquals(IntList.of(1, 2, 3), second.get(intListEntry));
+        assertEquals(List.of("a", "b"), second.get(listEntry));
+    }
+
+    @Test
+    public void changedFileIsParsedAgain() throws IOException {
+        writeConfig("{\"int\": 5}");
+        this.reload(this.createConfig(intEntry, stringEntry));
+
+        writeConfig("{\"int\": 6}");
+        Config config = this.createConfig(intEntry, stringEntry);
+        assertNull(this.readCache(config));
+        this.reload(config);
+        assertEquals(6, config.getInt(intEntry));
+        assertNotNull(this.readCache(config));
+    }
+
+    @Test
+    public void changedEntriesInvalidateCache() throws IOException {
+        writeConfig("{\"int\": 5, \"string\": \"a\"}");
+        this.reload(this.createConfig(intEntry));
+
+        Config config = this.createConfig(intEntry, stringEntry);
+        assertNull(this.readCache(config));
+        this.reload(config);
+        assertEquals("a", config.get(stringEntry));
+    }
+
+    @Test
+    public void valuesThatAreNoLongerValidInvalidateCache() throws IOException {
+        writeConfig("{\"int\": 5}");
+        this.reload(this.createConfig(intEntry));
+
+        Config config = this.createConfig(new IntegerEntry("int", 1, 0, 3));
+        assertNull(this.readCache(config));
+    }
+
+    @Test
+    public void corruptCacheIsIgnored() throws IOException {
+        writeConfig("{\"int\": 5}");
+        Config config = this.createConfig(intEntry);
+        this.reload(config);
+        Path cache = this.cacheLocation(config);
+        byte[] bytes = Files.readAllBytes(cache);
+        bytes[bytes.length - 12] ^= 1;
+        Files.write(cache, bytes);
+
+        assertNull(this.readCache(config));
+        this.reload(this.createConfig(intEntry));
+        assertNotNull(this.readCache(config));
+    }
+
+    private Config createConfig(ConfigEntry<?>... entries) {
+        return ConfigFactory.createConfigWithKeys("test", "cached", configDir, entries);
+    }
+
+    private void reload(Config config) throws IOException {
+        Reloadable reloadable = new Reloadable(config);
+        reloadable.setBinaryCacheEnabled(true);
+        reloadable.reload();
+    }
+
+    private FileFingerprint readCache(Config config) throws IOException {
+        Path source = config.getLocation().toPath();
+        ConfigSnapshot.Builder builder = config.newSnapshotBuilder();
+        return new BinaryCache(this.cacheLocation(config)).read(
+                config, source,
+                Files.readAttributes(source, BasicFileAttributes.class),
+                BinaryCache.schemaHash(config.snapshot().getEntries()),
+                builder, new Reloadable.ReloadCounts()
+        );
+    }
+
+    private Path cacheLocation(Config config) {
+        return config.getLocation().toPath().resolveSibling("cached.json.cache");
+    }
+
+    private void writeConfig(String json) throws IOException {
+        Path location = configDir.resolve("test").resolve("cached.json");
+        Files.createDirectories(location.getParent());
+        Files.writeString(location, json);
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.thedeathlycow.simple.config.reload;
+
+import com.github.thedeathlycow.simple.config.Config;
+import com.github.thedeathlycow.simple.config.ConfigFactory;
+import com.github.thedeathlycow.simple.config.entry.IntegerEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigWatcherTest {
+
+    @TempDir
+    Path configDir;
+
+    private IntegerEntry intEntry;
+    private Config watched;
+    private Config other;
+    private ConfigWatcher watcher;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        this.intEntry = new IntegerEntry("int", 1);
+        this.watched = ConfigFactory.createConfigWithKeys("test", "watched", configDir, intEntry);
+        this.other = ConfigFactory.createConfigWithKeys("test", "other", configDir, intEntry);
+        Files.createDirectories(this.watched.getLocation().toPath().getParent());
+
+        ReloadEvent event = new ReloadEvent();
+        event.addListener(new Reloadable(watched));
+        event.addListener(new Reloadable(other));
+        this.watcher = new ConfigWatcher(event, Duration.ofMillis(50));
+        this.watcher.start();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        this.watcher.close();
+    }
+
+    @Test
+    public void changedFileIsReloaded() throws IOException, InterruptedException {
+        Files.writeString(this.other.getLocation().toPath(), "{\"int\": 3}");
+        Files.writeString(this.watched.getLocation().toPath(), "{\"int\": 2}");
+        Files.writeString(this.watched.getLocation().toPath(), "{\"int\": 5}");
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (this.watched.getInt(intEntry) != 5 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(5, this.watched.getInt(intEntry));
+    }
+
+    @Test
+    public void unrelatedFileDoesNotReloadConfig() throws IOException, InterruptedException {
+        this.watched.setValue(intEntry, 7);
+        Files.writeString(this.watched.getLocation().toPath().resolveSibling("unrelated.json"), "{}");
+        Files.writeString(this.other.getLocation().toPath(), "{\"int\": 3}");
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (this.other.getInt(intEntry) != 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(3, this.other.getInt(intEntry));
+        assertEquals(7, this.watched.getInt(intEntry));
+    }
+
+    @Test
+    public void startingTwiceThrows() {
+        assertThrows(IllegalStateException.class, this.watcher::start);
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.thedeathlycow.simple.config.reload;
+
+import com.github.thedeathlycow.simple.config.Config;
+import com.github.thedeathlycow.simple.config.ConfigFactory;
+import com.github.thedeathlycow.simple.config.entry.IntegerEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReloadEventTest {
+
+    @TempDir
+    Path configDir;
+
+    private IntegerEntry intEntry;
+    private ReloadEvent event;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        this.intEntry = new IntegerEntry("int", 1);
+        this.event = new ReloadEvent();
+        this.executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void parallelReloadReloadsEveryConfig() throws IOException {
+        Config first = createConfig("first", "{\"int\": 2}");
+        Config second = createConfig("second", "{\"int\": 3}");
+
+        List<ReloadResult> results = this.event.reload(this.executor).join();
+
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(ReloadResult::isSuccess));
+        assertEquals(2, first.getInt(intEntry));
+        assertEquals(3, second.getInt(intEntry));
+    }
+
+    @Test
+    public void failedReloadDoesNotStopOtherConfigs() throws IOException {
+        Config broken = createConfig("broken", "{\"int\": ");
+        Config working = createConfig("working", "{\"int\": 3}");
+
+        List<ReloadResult> results = this.event.reload(this.executor).join();
+
+        for (ReloadResult result : results) {
+            Config config = result.reloadable().getConfig();
+            assertEquals(config == working, result.isSuccess());
+        }
+        assertEquals(1, broken.getInt(intEntry));
+        assertEquals(3, working.getInt(intEntry));
+    }
+
+    @Test
+    public void errorInReloadIsReportedAsFailure() throws IOException {
+        Config working = createConfig("working", "{\"int\": 3}");
+        Config throwing = ConfigFactory.createConfigWithKeys("test", "throwing", configDir, intEntry);
+        this.event.addListener(new Reloadable(throwing) {
+            @Override
+            public synchronized void reload() {
+                throw new StackOverflowError();
+            }
+        });
+
+        List<ReloadResult> results = this.event.reload(this.executor).join();
+
+        assertEquals(2, results.size());
+        for (ReloadResult result : results) {
+            Config config = result.reloadable().getConfig();
+            assertEquals(config == working, result.isSuccess());
+        }
+        assertEquals(3, working.getInt(intEntry));
+    }
+
+    private Config createConfig(String name, String json) throws IOException {
+        Config config = ConfigFactory.createConfigWithKeys("test", name, configDir, intEntry);
+        Path location = config.getLocation().toPath();
+        Files.createDirectories(location.getParent());
+        Files.writeString(location, json);
+        this.event.addListener(new Reloadable(config));
+        return config;
+    }
+}
@@ -0,0 +1,242 @@
+package com.github.thedeathlycow.simple.config.reload;
+
+import com.github.thedeathlycow.simple.config.Config;
+import com.github.thedeathlycow.simple.config.ConfigFactory;
+import com.github.thedeathlycow.simple.config.ConfigSnapshot;
+import com.github.thedeathlycow.simple.config.entry.BooleanEntry;
+import com.github.thedeathlycow.simple.config.entry.DoubleEntry;
+import com.github.thedeathlycow.simple.config.entry.IntegerEntry;
+import com.github.thedeathlycow.simple.config.entry.collection.ListEntry;
+import com.github.thedeathlycow.simple.config.metrics.ConfigMetrics;
+import com.github.thedeathlycow.simple.config.metrics.ReloadMetrics;
+import com.google.gson.JsonSyntaxException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReloadableTest {
+
+    @TempDir
+    Path configDir;
+
+    private IntegerEntry intEntry;
+    private BooleanEntry boolEntry;
+    private Config config;
+    private Reloadable reloadable;
+
+    @BeforeEach
+    public void setup() {
+        this.intEntry = new IntegerEntry("int", 1, 0, 10);
+        this.boolEntry = new BooleanEntry("bool", false);
+        this.config = ConfigFactory.createConfigWithKeys(
+                "test", "reload", configDir,
+                intEntry,
+                boolEntry
+        );
+        this.reloadable = new Reloadable(config);
+    }
+
+    @Test
+    public void reloadAppliesFileValues() throws IOException {
+        writeConfig("{\"int\": 5, \"bool\": true}");
+        this.reloadable.onReload();
+        assertEquals(5, this.config.getInt(intEntry));
+        assertTrue(this.config.getBoolean(boolEntry));
+    }
+
+    @Test
+    public void reloadResetsMissingEntries() throws IOException {
+        this.config.setValue(boolEntry, true);
+        writeConfig("{\"int\": 5}");
+        this.reloadable.onReload();
+        assertEquals(5, this.config.getInt(intEntry));
+        assertFalse(this.config.getBoolean(boolEntry));
+    }
+
+    @Test
+    public void reloadSkipsInvalidAndUnknownEntries() throws IOException {
+        writeConfig("{\"int\": 50, \"bool\": true, \"unknown\": [1, 2, 3]}");
+        this.reloadable.onReload();
+        assertEquals(1, this.config.getInt(intEntry));
+        assertTrue(this.config.getBoolean(boolEntry));
+    }
+
+    @Test
+    public void reloadSkipsValuesOfWrongType() throws IOException {
+        writeConfig("{\"int\": \"five\", \"bool\": true}");
+        this.reloadable.onReload();
+        assertEquals(1, this.config.getInt(intEntry));
+        assertTrue(this.config.getBoolean(boolEntry));
+    }
+
+    @Test
+    public void reloadSkipsNestedUnknownEntries() throws IOException {
+        writeConfig("{\"unknown\": {\"int\": 3, \"list\": [{}, []]}, \"int\": 4}");
+        this.reloadable.onReload();
+        assertEquals(4, this.config.getInt(intEntry));
+    }
+
+    @Test
+    public void failedReloadLeavesConfigUnchanged() throws IOException {
+        this.config.setValue(intEntry, 7);
+        writeConfig("{\"int\": 5, ");
+        this.reloadable.onReload();
+        assertEquals(7, this.config.getInt(intEntry));
+    }
+
+    @Test
+    public void missingFileLeavesConfigUnchanged() {
+        this.config.setValue(intEntry, 7);
+        this.reloadable.onReload();
+        assertEquals(7, this.config.getInt(intEntry));
+    }
+
+    @Test
+    public void unchangedFileIsNotReapplied() throws IOException {
+        writeConfig("{\"int\": 5}");
+        this.reloadable.reload();
+        ConfigSnapshot snapshot = this.config.snapshot();
+        this.reloadable.reload();
+        assertSame(snapshot, this.config.snapshot());
+    }
+
+    @Test
+    public void touchedFileWithSameContentsIsNotReapplied() throws IOException {
+        writeConfig("{\"int\": 5}");
+        this.reloadable.reload();
+        ConfigSnapshot snapshot = this.config.snapshot();
+        Path location = this.config.getLocation().toPath();
+        Files.setLastModifiedTime(location, FileTime.fromMillis(Files.getLastModifiedTime(location).toMillis() + 10_000));
+        this.reloadable.reload();
+        assertSame(snapshot, this.config.snapshot());
+    }
+
+    @Test
+    public void changedFileOfSameSizeIsReapplied() throws IOException {
+        writeConfig("{\"int\": 5}");
+        this.reloadable.reload();
+        Path location = this.config.getLocation().toPath();
+        FileTime modified = Files.getLastModifiedTime(location);
+        writeConfig("{\"int\": 6}");
+        Files.setLastModifiedTime(location, FileTime.fromMillis(modified.toMillis() + 10_000));
+        this.reloadable.reload();
+        assertEquals(6, this.config.getInt(intEntry));
+    }
+
+    @Test
+    public void unchangedFileIsReappliedAfterConfigChanges() throws IOException {
+        writeConfig("{\"int\": 5}");
+        this.reloadable.reload();
+        this.config.setValue(intEntry, 7);
+        this.reloadable.reload();
+        assertEquals(5, this.config.getInt(intEntry));
+    }
+
+    @Test
+    public void reloadReportsMetrics() throws IOException {
+        List<ReloadMetrics> reported = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        this.config.setMetrics(new ConfigMetrics() {
+            @Override
+            public void onReload(Config config, ReloadMetrics metrics) {
+                reported.add(metrics);
+            }
+
+            @Override
+            public void onReloadFailed(Config config, Throwable error) {
+                failures.add(error);
+            }
+        });
+
+        String json = "{\"int\": 50, \"bool\": true, \"unknown\": [1, 2, 3]}";
+        writeConfig(json);
+        this.reloadable.reload();
+        this.reloadable.reload();
+        assertEquals(1, reported.size());
+        ReloadMetrics metrics = reported.get(0);
+        assertEquals(json.length(), metrics.fileSize());
+        assertEquals(1, metrics.applied());
+        assertEquals(1, metrics.skipped());
+        assertEquals(1, metrics.rejected());
+        assertFalse(metrics.totalTime().isNegative());
+
+        writeConfig("[1, 2, 3]");
+        this.reloadable.onReload();
+        assertEquals(1, failures.size());
+    }
+
+    @Test
+    public void incrementalReloadKeepsUnchangedValues() throws IOException {
+        ListEntry<String> listEntry = new ListEntry<>("list", List.of(), String.class);
+        this.config.addEntry(listEntry);
+        this.reloadable.setIncrementalReloadEnabled(true);
+        writeConfig("{\"int\": 5, \"bool\": true, \"list\": [\"a\", \"b\"]}");
+        this.reloadable.reload();
+        List<String> list = this.config.get(listEntry);
+
+        writeConfig("{\"int\": 6,   \"list\": [\"a\",\n \"b\"]}");
+        this.reloadable.reload();
+        assertSame(list, this.config.get(listEntry));
+        assertEquals(6, this.config.getInt(intEntry));
+        assertFalse(this.config.getBoolean(boolEntry));
+
+        writeConfig("{\"int\": 6, \"list\": [\"a\", \"b\"]}");
+        ConfigSnapshot snapshot = this.config.snapshot();
+        this.reloadable.reload();
+        assertSame(snapshot, this.config.snapshot());
+    }
+
+    @Test
+    public void incrementalReloadReadsValuesChangedAtRuntime() throws IOException {
+        this.reloadable.setIncrementalReloadEnabled(true);
+        writeConfig("{\"int\": 5}");
+        this.reloadable.reload();
+        this.config.setValue(intEntry, 7);
+        writeConfig("{\"int\": 5, \"bool\": true}");
+        this.reloadable.reload();
+        assertEquals(5, this.config.getInt(intEntry));
+        assertTrue(this.config.getBoolean(boolEntry));
+
+        writeConfig("{\"int\": 50, \"bool\": true}");
+        this.reloadable.reload();
+        assertEquals(1, this.config.getInt(intEntry));
+    }
+
+    @Test
+    public void reloadAcceptsLenientJson() throws IOException {
+        DoubleEntry doubleEntry = new DoubleEntry("double", 0.5);
+        this.config.addEntry(doubleEntry);
+        String json = "{\n// comment\nint: 5, \"bool\": true, \"double\": Infinity}";
+        for (boolean incremental : new boolean[]{false, true}) {
+            this.config.reset();
+            this.reloadable.setIncrementalReloadEnabled(incremental);
+            writeConfig(json);
+            this.reloadable.reload();
+            assertEquals(5, this.config.getInt(intEntry));
+            assertTrue(this.config.getBoolean(boolEntry));
+            assertEquals(Double.POSITIVE_INFINITY, this.config.getDouble(doubleEntry));
+        }
+    }
+
+    @Test
+    public void reloadRejectsTrailingContent() throws IOException {
+        writeConfig("{\"int\": 5} {\"int\": 6}");
+        assertThrows(JsonSyntaxException.class, () -> this.reloadable.reload());
+        assertEquals(1, this.config.getInt(intEntry));
+    }
+
+    private void writeConfig(String json) throws IOException {
+        Path location = this.config.getLocation().toPath();
+        Files.createDirectories(location.getParent());
+        Files.writeString(location, json);
+    }
+}